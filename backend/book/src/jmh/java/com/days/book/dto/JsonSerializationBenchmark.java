@@ -0,0 +1,94 @@
+package com.days.book.dto;
+
+import com.days.book.entity.Book;
+import com.days.book.entity.Loan.LoanStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대출 목록 DTO / 도서 엔티티 JSON 직렬화 벤치마크
+ * Spring MVC와 같은 설정(JavaTimeModule 등)의 ObjectMapper 사용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonSerializationBenchmark {
+
+    @Param({"100", "1000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private List<LoanResponseDTO> loans;
+    private List<Book> books;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        loans = new ArrayList<>(size);
+        books = new ArrayList<>(size);
+        LocalDate today = LocalDate.now();
+        LocalDateTime now = LocalDateTime.now();
+
+        for (int i = 0; i < size; i++) {
+            long id = i + 1;
+            loans.add(LoanResponseDTO.builder()
+                    .id(id)
+                    .loanDate(today.minusDays(i % 30))
+                    .dueDate(today.minusDays(i % 30).plusDays(14))
+                    .status(i % 5 == 0 ? LoanStatus.RETURNED : LoanStatus.ACTIVE)
+                    .overdueFee(0)
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .bookId(id)
+                    .bookTitle("도서 제목 " + i)
+                    .bookAuthor("저자 " + i)
+                    .bookIsbn(String.format("978%010d", i))
+                    .bookCategory("소설")
+                    .memberId(id % 50 + 1)
+                    .memberName("회원 " + i)
+                    .memberEmail("member" + i + "@library.com")
+                    .memberNumber(String.format("M20250101%03d", i % 1000))
+                    .overdueDays(i % 7)
+                    .overdue(i % 7 != 0)
+                    .build());
+            books.add(Book.builder()
+                    .id(id)
+                    .title("도서 제목 " + i)
+                    .author("저자 " + i)
+                    .isbn(String.format("978%010d", i))
+                    .category("소설")
+                    .publisher("출판사")
+                    .publishedDate(today.minusYears(i % 20))
+                    .totalCopies(3)
+                    .availableCopies(2)
+                    .description("도서 설명 ".repeat(10))
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeLoanResponses() throws Exception {
+        return objectMapper.writeValueAsBytes(loans);
+    }
+
+    @Benchmark
+    public byte[] serializeBooks() throws Exception {
+        return objectMapper.writeValueAsBytes(books);
+    }
+}
@@ -0,0 +1,214 @@
+package com.days.book.loadtest;
+
+import com.days.book.BookApplication;
+import com.days.book.entity.Book;
+import com.days.book.repository.BookRepository;
+import com.days.book.service.JwtService;
+import jakarta.servlet.Filter;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 요청 처리 스레드 모드(플랫폼 스레드 / 가상 스레드) 처리량 및 지연시간 비교 부하 테스트
+ * 내장 H2(jmh 프로필)로 애플리케이션을 띄우고 고정 동시 사용자 수로 API를 호출하여 처리량, p50/p95/p99 측정
+ *
+ * 실행: gradle loadTest -PloadTestArgs="--mode=both --concurrency=400 --duration=20 --io-delay-ms=20"
+ * --io-delay-ms는 요청마다 블로킹 대기를 추가하여 원격 DB/SMTP 대기 시간을 흉내냄 (0이면 사용 안 함)
+ */
+public class RequestLoadTest {
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        String mode = options.getOrDefault("mode", "both");
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "400"));
+        int durationSeconds = Integer.parseInt(options.getOrDefault("duration", "20"));
+        int warmupSeconds = Integer.parseInt(options.getOrDefault("warmup", "5"));
+        long ioDelayMs = Long.parseLong(options.getOrDefault("io-delay-ms", "0"));
+        String path = options.getOrDefault("path", "/api/books/page?size=20");
+
+        List<String> modes = "both".equals(mode) ? List.of("platform", "virtual") : List.of(mode);
+        List<Result> results = new ArrayList<>();
+        for (String m : modes) {
+            results.add(run(m, concurrency, warmupSeconds, durationSeconds, ioDelayMs, path));
+        }
+
+        System.out.printf("%n동시 사용자 %d, 측정 %ds, 추가 블로킹 %dms, %s%n", concurrency, durationSeconds, ioDelayMs, path);
+        System.out.printf("%-9s %10s %10s %9s %9s %9s %9s %8s%n",
+                "mode", "requests", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)", "errors");
+        for (Result r : results) {
+            System.out.printf("%-9s %10d %10.1f %9.1f %9.1f %9.1f %9.1f %8d%n",
+                    r.mode, r.requests, r.throughput, r.p50, r.p95, r.p99, r.max, r.errors);
+        }
+    }
+
+    private static Result run(String mode, int concurrency, int warmupSeconds, int durationSeconds,
+                              long ioDelayMs, String path) throws Exception {
+        boolean virtual = "virtual".equals(mode);
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(BookApplication.class)
+                .profiles(virtual ? new String[] {"jmh", "virtual-threads"} : new String[] {"jmh"});
+        if (ioDelayMs > 0) {
+            builder.initializers(ctx -> ((GenericApplicationContext) ctx).registerBean("simulatedIoDelayFilter",
+                    FilterRegistrationBean.class, () -> ioDelayFilter(ioDelayMs)));
+        }
+
+        // jmh 프로필의 web-application-type=none 보다 우선하도록 명령행 인자로 전달
+        try (ConfigurableApplicationContext context = builder.run(
+                "--spring.main.web-application-type=servlet",
+                "--server.port=0",
+                "--spring.threads.virtual.enabled=" + virtual)) {
+            seedBooks(context.getBean(BookRepository.class));
+            String token = context.getBean(JwtService.class)
+                    .generateToken(context.getBean(UserDetailsService.class).loadUserByUsername("admin"));
+            int port = Integer.parseInt(context.getEnvironment().getProperty("local.server.port"));
+            URI uri = URI.create("http://localhost:" + port + path);
+
+            System.out.printf("[%s] 워밍업 %ds...%n", mode, warmupSeconds);
+            drive(uri, token, concurrency, warmupSeconds);
+            System.out.printf("[%s] 측정 %ds...%n", mode, durationSeconds);
+            long started = System.nanoTime();
+            List<long[]> latencies = drive(uri, token, concurrency, durationSeconds);
+            double elapsedSeconds = (System.nanoTime() - started) / 1e9;
+            return Result.of(mode, latencies, elapsedSeconds);
+        }
+    }
+
+    /**
+     * 동시 사용자마다 가상 스레드 하나로 응답을 받을 때까지 기다린 뒤 다음 요청 (closed model)
+     * 반환: 사용자별 [지연시간(ns)..., 마지막 원소 = 오류 수]
+     */
+    private static List<long[]> drive(URI uri, String token, int concurrency, int seconds) throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+
+        List<Future<long[]>> futures = new ArrayList<>();
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                futures.add(users.submit(() -> {
+                    long[] samples = new long[1024];
+                    int count = 0;
+                    long errors = 0;
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                errors++;
+                            }
+                        } catch (Exception e) {
+                            errors++;
+                        }
+                        if (count == samples.length - 1) {
+                            samples = Arrays.copyOf(samples, samples.length * 2);
+                        }
+                        samples[count++] = System.nanoTime() - start;
+                    }
+                    long[] result = Arrays.copyOf(samples, count + 1);
+                    result[count] = errors;
+                    return result;
+                }));
+            }
+        }
+        List<long[]> results = new ArrayList<>();
+        for (Future<long[]> future : futures) {
+            results.add(future.get());
+        }
+        client.close();
+        return results;
+    }
+
+    private static FilterRegistrationBean<Filter> ioDelayFilter(long delayMs) {
+        FilterRegistrationBean<Filter> registration = new FilterRegistrationBean<>((request, response, chain) -> {
+            try {
+                Thread.sleep(delayMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            chain.doFilter(request, response);
+        });
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.LOWEST_PRECEDENCE);
+        return registration;
+    }
+
+    private static void seedBooks(BookRepository bookRepository) {
+        List<Book> books = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            books.add(Book.builder()
+                    .title("부하 테스트 도서 " + i)
+                    .author("저자 " + (i % 20))
+                    .isbn(String.format("LT%011d", i))
+                    .category("테스트")
+                    .totalCopies(5)
+                    .availableCopies(5)
+                    .build());
+        }
+        bookRepository.saveAll(books);
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+        }
+        return options;
+    }
+
+    private record Result(String mode, long requests, double throughput,
+                          double p50, double p95, double p99, double max, long errors) {
+
+        static Result of(String mode, List<long[]> perUser, double elapsedSeconds) {
+            long errors = 0;
+            int total = 0;
+            for (long[] samples : perUser) {
+                total += samples.length - 1;
+                errors += samples[samples.length - 1];
+            }
+            long[] all = new long[total];
+            int offset = 0;
+            for (long[] samples : perUser) {
+                System.arraycopy(samples, 0, all, offset, samples.length - 1);
+                offset += samples.length - 1;
+            }
+            Arrays.sort(all);
+            return new Result(mode, total, total / elapsedSeconds,
+                    percentile(all, 0.50), percentile(all, 0.95), percentile(all, 0.99),
+                    all.length == 0 ? 0 : all[all.length - 1] / 1e6, errors);
+        }
+
+        private static double percentile(long[] sorted, double p) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(p * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.days.book.service;
+
+import com.days.book.BookApplication;
+import com.days.book.dto.LoanResponseDTO;
+import com.days.book.entity.Book;
+import com.days.book.entity.Loan;
+import com.days.book.entity.Member;
+import com.days.book.repository.BookRepository;
+import com.days.book.repository.LoanRepository;
+import com.days.book.repository.MemberRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 전체 대출 목록 DTO 조회 벤치마크 (DTO 프로젝션 + 연체 정보 후처리)
+ * 내장 H2에 회원/도서/대출 데이터셋을 만든 뒤 실제 서비스 빈으로 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LoanServiceBenchmark {
+
+    private static final int MEMBER_COUNT = 200;
+    private static final int BOOK_COUNT = 500;
+
+    @Param({"1000", "10000"})
+    private int loanCount;
+
+    private ConfigurableApplicationContext context;
+    private LoanService loanService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(BookApplication.class)
+                .profiles("jmh")
+                .run();
+        loanService = context.getBean(LoanService.class);
+        seed(context.getBean(MemberRepository.class),
+                context.getBean(BookRepository.class),
+                context.getBean(LoanRepository.class));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<LoanResponseDTO> getAllLoansAsDTO() {
+        return loanService.getAllLoansAsDTO();
+    }
+
+    private void seed(MemberRepository memberRepository, BookRepository bookRepository, LoanRepository loanRepository) {
+        List<Member> members = new ArrayList<>(MEMBER_COUNT);
+        for (int i = 0; i < MEMBER_COUNT; i++) {
+            members.add(Member.builder()
+                    .memberNumber(String.format("MB%08d", i))
+                    .name("회원 " + i)
+                    .email("member" + i + "@library.com")
+                    .build());
+        }
+        members = memberRepository.saveAll(members);
+
+        List<Book> books = new ArrayList<>(BOOK_COUNT);
+        for (int i = 0; i < BOOK_COUNT; i++) {
+            books.add(Book.builder()
+                    .title("도서 제목 " + i)
+                    .author("저자 " + i)
+                    .isbn(String.format("978%010d", i))
+                    .category("소설")
+                    .publisher("출판사")
+                    .totalCopies(loanCount)
+                    .availableCopies(loanCount)
+                    .build());
+        }
+        books = bookRepository.saveAll(books);
+
+        LocalDate today = LocalDate.now();
+        List<Loan> loans = new ArrayList<>(loanCount);
+        for (int i = 0; i < loanCount; i++) {
+            LocalDate loanDate = today.minusDays(i % 40);
+            boolean returned = i % 3 == 0;
+            loans.add(Loan.builder()
+                    .member(members.get(i % MEMBER_COUNT))
+                    .book(books.get(i % BOOK_COUNT))
+                    .loanDate(loanDate)
+                    .dueDate(loanDate.plusDays(14))
+                    .returnDate(returned ? loanDate.plusDays(i % 20) : null)
+                    .status(returned ? Loan.LoanStatus.RETURNED : Loan.LoanStatus.ACTIVE)
+                    .build());
+        }
+        loanRepository.saveAll(loans);
+    }
+}
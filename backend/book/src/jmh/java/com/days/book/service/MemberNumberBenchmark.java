@@ -0,0 +1,29 @@
+package com.days.book.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회원번호 생성 벤치마크 (블록 내 발급 경로: 날짜 접두어 + 일련번호 포맷)
+ * 블록 할당(DB 갱신)은 block-size 건마다 한 번이므로 제외
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class MemberNumberBenchmark {
+
+    private final MemberNumberGenerator generator = new MemberNumberGenerator(null, 0L, 100);
+    private long sequence;
+
+    @Benchmark
+    public String generateMemberNumber() {
+        return generator.format(LocalDate.now(), ++sequence);
+    }
+}
@@ -2,6 +2,7 @@ package com.days.book.config;
 
 import com.days.book.entity.*;
 import com.days.book.repository.*;
+import com.days.book.service.MemberNumberGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
@@ -21,6 +22,7 @@ public class DataInitializer implements CommandLineRunner {
     private final BookRepository bookRepository;
     private final LoanRepository loanRepository;
     private final PasswordEncoder passwordEncoder;
+    private final MemberNumberGenerator memberNumberGenerator;
     
     @Override
     public void run(String... args) throws Exception {
@@ -80,13 +82,8 @@ public class DataInitializer implements CommandLineRunner {
             // 해당 이메일로 Member가 없으면 생성
             if (!memberRepository.existsByEmail(user.getEmail())) {
                 try {
-                    // Member 번호 자동 생성 (현재 시간 기반으로 유니크하게)
-                    long timestamp = System.currentTimeMillis() % 100000; // 마지막 5자리
-                    String memberNumber = String.format("M%d%05d", 
-                        LocalDate.now().getYear(), timestamp);
-                    
                     Member newMember = Member.builder()
-                            .memberNumber(memberNumber)
+                            .memberNumber(memberNumberGenerator.next())
                             .name(user.getName() != null ? user.getName() : user.getUsername())
                             .email(user.getEmail())
                             .phone(user.getPhone() != null ? user.getPhone() : "010-0000-0000")
@@ -0,0 +1,32 @@
+package com.days.book.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 관리자 유지보수 작업(대출 기록 정리 등)용 스레드 풀 설정
+ * 작업은 한 번에 하나만 실행되므로 스레드 1개, 대기열 없음
+ * 가상 스레드 모드(spring.threads.virtual.enabled)에서는 가상 스레드에서 실행
+ */
+@Configuration
+public class JobConfig {
+
+    @Bean(name = "maintenanceJobExecutor")
+    public ThreadPoolTaskExecutor maintenanceJobExecutor(
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("maintenance-job-");
+        if (virtualThreads) {
+            executor.setThreadFactory(Thread.ofVirtual().name("maintenance-job-", 1).factory());
+        }
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,37 @@
+package com.days.book.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 메일 발송용 스레드 풀 설정
+ * 스레드 수와 대기열을 제한하고, 대기열이 가득 차면 작업을 버림 (주기적 폴링이 남은 메일을 발송)
+ * 가상 스레드 모드(spring.threads.virtual.enabled)에서는 같은 제한으로 가상 스레드에서 실행
+ */
+@Configuration
+public class MailConfig {
+
+    @Bean(name = "mailDispatchExecutor")
+    public ThreadPoolTaskExecutor mailDispatchExecutor(
+            @Value("${mail.outbox.dispatch-threads:2}") int threads,
+            @Value("${mail.outbox.dispatch-queue-capacity:10}") int queueCapacity,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("mail-dispatch-");
+        if (virtualThreads) {
+            executor.setThreadFactory(Thread.ofVirtual().name("mail-dispatch-", 1).factory());
+        }
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
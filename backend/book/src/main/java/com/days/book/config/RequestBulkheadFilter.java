@@ -0,0 +1,84 @@
+package com.days.book.config;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 동시 처리 요청 수 제한 (bulkhead)
+ * 가상 스레드 모드에서는 Tomcat 스레드 수 제한이 없으므로 요청이 한꺼번에 DB 커넥션 풀로 몰리지 않도록
+ * 동시에 처리하는 API 요청 수를 제한하고, 대기 시간을 넘기면 503으로 응답
+ * (/actuator 요청은 제한하지 않음)
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+@ConditionalOnProperty(name = "request.bulkhead.enabled", havingValue = "true")
+@Slf4j
+public class RequestBulkheadFilter extends OncePerRequestFilter {
+
+    private final Semaphore permits;
+    private final int maxConcurrent;
+    private final long maxWaitMs;
+    private final Counter rejected;
+
+    public RequestBulkheadFilter(@Value("${request.bulkhead.max-concurrent-requests:60}") int maxConcurrent,
+                                 @Value("${request.bulkhead.max-wait-ms:2000}") long maxWaitMs,
+                                 MeterRegistry meterRegistry) {
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.maxConcurrent = maxConcurrent;
+        this.maxWaitMs = maxWaitMs;
+        this.rejected = Counter.builder("http.server.bulkhead.rejected")
+                .description("동시 처리 한도 초과로 거부된 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("http.server.bulkhead.active", permits, p -> maxConcurrent - p.availablePermits())
+                .description("현재 처리 중인 요청 수")
+                .register(meterRegistry);
+        log.info("요청 bulkhead 활성화: 최대 동시 요청 {}개, 최대 대기 {}ms", maxConcurrent, maxWaitMs);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(maxWaitMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            rejected.increment();
+            response.setHeader("Retry-After", "1");
+            response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(),
+                    "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요. (동시 처리 한도 " + maxConcurrent + ")");
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.days.book.config;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 시작 시 주요 조회 쿼리가 사용하는 인덱스가 DB에 있는지 확인
+ * 하나라도 없으면 기동을 중단하여 인덱스 없이 전체 스캔으로 운영되는 것을 방지
+ * (schema.index-check.fail-on-missing=false이면 경고만 출력)
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+@Slf4j
+public class SchemaIndexVerifier implements ApplicationRunner {
+
+    // 테이블별 필수 인덱스 (db/migration 및 엔티티 @Index와 동일하게 유지)
+    static final Map<String, List<String>> EXPECTED_INDEXES = new LinkedHashMap<>();
+    static {
+        EXPECTED_INDEXES.put("loans", List.of(
+                "idx_loans_member_loan_date",
+                "idx_loans_status_due_date",
+                "idx_loans_member_status",
+                "idx_loans_loan_date",
+                "idx_loans_book_loan_date"));
+        EXPECTED_INDEXES.put("members", List.of(
+                "idx_members_email",
+                "idx_members_status"));
+        EXPECTED_INDEXES.put("books", List.of(
+                "idx_books_title",
+                "idx_books_author"));
+        EXPECTED_INDEXES.put("mail_outbox", List.of(
+                "idx_mail_outbox_status_next_attempt"));
+        EXPECTED_INDEXES.put("book_loan_stats", List.of(
+                "idx_book_loan_stats_total"));
+        EXPECTED_INDEXES.put("book_loan_daily_stats", List.of(
+                "idx_book_loan_daily_stats_date"));
+        EXPECTED_INDEXES.put("verification_codes", List.of(
+                "idx_verification_codes_lookup",
+                "idx_verification_codes_expires_at"));
+    }
+
+    private final DataSource dataSource;
+
+    @Value("${schema.index-check.enabled:true}")
+    private boolean enabled;
+
+    @Value("${schema.index-check.fail-on-missing:true}")
+    private boolean failOnMissing;
+
+    @Override
+    public void run(ApplicationArguments args) throws SQLException {
+        if (!enabled) {
+            return;
+        }
+
+        List<String> missing = findMissingIndexes();
+        if (missing.isEmpty()) {
+            log.info("필수 인덱스 확인 완료: {}개 테이블", EXPECTED_INDEXES.size());
+            return;
+        }
+        String message = "필수 인덱스가 없습니다: " + String.join(", ", missing) +
+                " (Flyway 마이그레이션 적용 여부를 확인하세요)";
+        if (failOnMissing) {
+            throw new IllegalStateException(message);
+        }
+        log.warn(message);
+    }
+
+    /**
+     * 누락된 인덱스 목록 ("테이블.인덱스" 형식)
+     */
+    public List<String> findMissingIndexes() throws SQLException {
+        List<String> missing = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (Map.Entry<String, List<String>> entry : EXPECTED_INDEXES.entrySet()) {
+                Set<String> actual = findIndexNames(metaData, connection, entry.getKey());
+                for (String index : entry.getValue()) {
+                    if (!actual.contains(index.toLowerCase(Locale.ROOT))) {
+                        missing.add(entry.getKey() + "." + index);
+                    }
+                }
+            }
+        }
+        return missing;
+    }
+
+    private Set<String> findIndexNames(DatabaseMetaData metaData, Connection connection, String table) throws SQLException {
+        Set<String> names = new HashSet<>();
+        // DB마다 테이블명 대소문자 저장 방식이 다르므로 원래 이름과 대문자 이름 모두 조회
+        for (String tableName : List.of(table, table.toUpperCase(Locale.ROOT))) {
+            try (ResultSet rs = metaData.getIndexInfo(connection.getCatalog(), connection.getSchema(), tableName, false, true)) {
+                while (rs.next()) {
+                    String name = rs.getString("INDEX_NAME");
+                    if (name != null) {
+                        names.add(name.toLowerCase(Locale.ROOT));
+                    }
+                }
+            }
+            if (!names.isEmpty()) {
+                break;
+            }
+        }
+        return names;
+    }
+}
@@ -2,15 +2,13 @@ package com.days.book.controller;
 
 import com.days.book.service.AuthService;
 import com.days.book.service.JwtService;
-import com.days.book.entity.User;
-import com.days.book.entity.Role;
-import com.days.book.repository.UserRepository;
+import com.days.book.service.PasswordHashService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.servlet.http.HttpServletRequest;
@@ -26,8 +24,6 @@ public class AuthController {
 
     private final AuthService authService;
     private final JwtService jwtService;
-    private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
 
     /**
      * 회원가입
@@ -44,6 +40,8 @@ public class AuthController {
                 request.getAddress()
             );
             return ResponseEntity.ok(Map.of("message", message));
+        } catch (PasswordHashService.PasswordHashBusyException e) {
+            return serviceUnavailable(e);
         } catch (RuntimeException e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
@@ -62,6 +60,8 @@ public class AuthController {
             Map<String, String> loginResult = authService.loginWithUserInfo(request.getUsername(), request.getPassword());
             System.out.println("Login successful for user: " + request.getUsername());
             return ResponseEntity.ok(loginResult);
+        } catch (PasswordHashService.PasswordHashBusyException e) {
+            return serviceUnavailable(e);
         } catch (RuntimeException e) {
             System.out.println("Login failed for user: " + request.getUsername());
             System.out.println("Error: " + e.getMessage());
@@ -70,6 +70,15 @@ public class AuthController {
         }
     }
 
+    /**
+     * 비밀번호 해시 대기열 초과 - 잠시 후 재시도 (503)
+     */
+    private ResponseEntity<Map<String, String>> serviceUnavailable(RuntimeException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header("Retry-After", "1")
+                .body(Map.of("error", e.getMessage()));
+    }
+
     /**
      * 이메일 인증
      */
@@ -142,6 +151,8 @@ public class AuthController {
             String message = authService.resetPasswordWithCode(
                 request.getUsername(), request.getEmail(), request.getCode(), request.getNewPassword());
             return ResponseEntity.ok(Map.of("message", message));
+        } catch (PasswordHashService.PasswordHashBusyException e) {
+            return serviceUnavailable(e);
         } catch (RuntimeException e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
@@ -258,37 +269,21 @@ public class AuthController {
         Map<String, Object> response = new HashMap<>();
         
         try {
-            String username = authentication.getName();
-            
-            // 관리자 계정은 탈퇴 불가
-            User user = userRepository.findByUsername(username)
-                    .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
-            
-            if (user.getRole() == Role.ADMIN) {
-                response.put("success", false);
-                response.put("error", "관리자 계정은 탈퇴할 수 없습니다.");
-                return ResponseEntity.badRequest().body(response);
-            }
-            
-            // 비밀번호 확인
-            if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
-                response.put("success", false);
-                response.put("error", "비밀번호가 일치하지 않습니다.");
-                return ResponseEntity.badRequest().body(response);
-            }
-            
-            // 회원 정보 삭제 (실제로는 상태 변경이나 soft delete 권장)
-            userRepository.delete(user);
-            
+            // 관리자 계정 탈퇴 불가, 비밀번호 확인 후 삭제 (회원 정보 삭제 - 실제로는 상태 변경이나 soft delete 권장)
+            String message = authService.withdrawUser(authentication.getName(), request.getPassword());
+
             response.put("success", true);
-            response.put("message", "회원탈퇴가 완료되었습니다.");
+            response.put("message", message);
             return ResponseEntity.ok(response);
             
-        } catch (Exception e) {
-            log.error("Withdraw error: {}", e.getMessage());
+        } catch (PasswordHashService.PasswordHashBusyException e) {
+            response.put("success", false);
+            response.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header("Retry-After", "1").body(response);
+        } catch (RuntimeException e) {
             response.put("success", false);
-            response.put("error", "회원탈퇴 처리 중 오류가 발생했습니다.");
-            return ResponseEntity.internalServerError().body(response);
+            response.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
         }
     }
     
@@ -1,7 +1,12 @@
 package com.days.book.controller;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.Set;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -15,11 +20,19 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.days.book.dto.BookCursorPage;
+import com.days.book.dto.CatalogIngestResult;
+import com.days.book.dto.BookSummaryDTO;
+import com.days.book.dto.PageResponse;
+import com.days.book.dto.PopularBookDTO;
 import com.days.book.entity.Book;
+import com.days.book.search.BookSearchIndex.Suggestion;
 import com.days.book.service.BookService;
+import com.days.book.service.CatalogIngestService;
 
 import org.springframework.web.bind.annotation.CrossOrigin;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
@@ -30,6 +43,7 @@ import lombok.RequiredArgsConstructor;
 public class BookController {
 
     private final BookService bookService;
+    private final CatalogIngestService catalogIngestService;
 
     //전체 도서 조회 (모든 인증된 사용자)
     @GetMapping
@@ -39,6 +53,35 @@ public class BookController {
         return ResponseEntity.ok(books);
     }
 
+    //도서 목록 조회 - 페이지 단위 (모든 인증된 사용자)
+    //예: /api/books/page?page=0&size=20&sort=title,asc&fields=id,title,author
+    @GetMapping("/page")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('USER')")
+    public ResponseEntity<PageResponse<BookSummaryDTO>> getBooksPage(
+            @PageableDefault(size = 20, sort = "id") Pageable pageable,
+            @RequestParam(required = false) Set<String> fields) {
+        try {
+            return ResponseEntity.ok(bookService.findBookSummaries(pageable, fields));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    //도서 목록 조회 - id 커서 기반 (모든 인증된 사용자)
+    //첫 요청은 cursor 없이, 이후에는 응답의 nextCursor를 전달
+    @GetMapping("/scroll")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('USER')")
+    public ResponseEntity<BookCursorPage> getBooksScroll(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) Set<String> fields) {
+        try {
+            return ResponseEntity.ok(bookService.findBookSummariesAfter(cursor, Math.max(1, size), fields));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     //특정 도서 조회 (모든 인증된 사용자)
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN') or hasRole('USER')")
@@ -63,6 +106,36 @@ public class BookController {
         }
     }
     
+    //도서 일괄 입고 (관리자만) - MARC(application/marc), CSV(text/csv), NDJSON(application/x-ndjson), JSON 배열(application/json)
+    //format 파라미터가 없으면 Content-Type으로 판단, 기존 ISBN은 권수 추가 / 새 ISBN은 등록, 처리량과 거부 사유를 결과로 반환
+    @PostMapping("/ingest")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> ingestBooks(@RequestParam(required = false) String format,
+                                         HttpServletRequest request,
+                                         InputStream body) throws IOException {
+        try {
+            CatalogIngestService.IngestFormat ingestFormat;
+            if (format != null) {
+                ingestFormat = CatalogIngestService.IngestFormat.from(format);
+            } else {
+                String contentType = request.getContentType() != null ? request.getContentType() : "";
+                if (contentType.contains("ndjson")) {
+                    ingestFormat = CatalogIngestService.IngestFormat.NDJSON;
+                } else if (contentType.contains("json")) {
+                    ingestFormat = CatalogIngestService.IngestFormat.JSON;
+                } else if (contentType.contains("marc")) {
+                    ingestFormat = CatalogIngestService.IngestFormat.MARC;
+                } else {
+                    ingestFormat = CatalogIngestService.IngestFormat.CSV;
+                }
+            }
+            CatalogIngestResult result = catalogIngestService.ingest(body, ingestFormat);
+            return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
     //도서 정보 수정 (관리자만)
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
@@ -105,6 +178,26 @@ public class BookController {
         return ResponseEntity.ok(books);
     }
 
+    //키워드로 도서 검색 - 페이지 단위, 관련도순 (모든 인증된 사용자)
+    @GetMapping("/search/page")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('USER')")
+    public ResponseEntity<PageResponse<Book>> searchBooksPage(@RequestParam String keyword,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        int pageSize = Math.max(1, Math.min(size, 100));
+        PageResponse<Book> books = bookService.searchBooksByKeyword(keyword, Math.max(0, page), pageSize);
+        return ResponseEntity.ok(books);
+    }
+
+    //검색어 자동완성 (모든 인증된 사용자)
+    @GetMapping("/search/suggest")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('USER')")
+    public ResponseEntity<List<Suggestion>> suggestBooks(@RequestParam String keyword,
+            @RequestParam(defaultValue = "10") int limit) {
+        List<Suggestion> suggestions = bookService.suggestBooks(keyword, Math.max(1, Math.min(limit, 50)));
+        return ResponseEntity.ok(suggestions);
+    }
+
     //제목으로 도서 검색
     @GetMapping("/search/title")
     public ResponseEntity<List<Book>> searchBooksByTitle(@RequestParam String title) {
@@ -148,11 +241,24 @@ public class BookController {
         return ResponseEntity.ok(books);
     }
 
-    //인기 도서 조회
+    //인기 도서 조회 (상위 limit권, days=7/30/365이면 최근 기간 기준, 없으면 누적)
     @GetMapping("/popular")
-    public ResponseEntity<List<Book>> getPopularBooks() {
-        List<Book> books = bookService.findPopularBooks();
-        return ResponseEntity.ok(books);
+    public ResponseEntity<List<PopularBookDTO>> getPopularBooks(
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(required = false) Integer days) {
+        try {
+            return ResponseEntity.ok(bookService.findPopularBooks(limit, days));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    //인기 도서 통계 재계산 (loans 테이블 기준)
+    @PostMapping("/popular/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<String> rebuildPopularBooks() {
+        int books = bookService.rebuildPopularityStats();
+        return ResponseEntity.ok("인기 도서 통계 재계산 완료: " + books + "권");
     }
 
     //도서 재고 수정
@@ -179,13 +285,5 @@ public class BookController {
         long count = bookService.countAllBooks();
         return ResponseEntity.ok(count);
     }
-    
-    // 임시 엔드포인트: 스키마 수정 (loans 테이블 book_id를 nullable로 변경)
-    @PostMapping("/fix-schema")
-    @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<String> fixSchema() {
-        String result = bookService.fixLoanTableSchema();
-        return ResponseEntity.ok(result);
-    }
 
 }
@@ -6,9 +6,10 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
-import com.days.book.service.BookService;
-import com.days.book.service.MemberService;
+import com.days.book.service.BookPopularityService;
+import com.days.book.service.DashboardService;
 import com.days.book.service.LoanService;
+import com.days.book.dto.DashboardStatsDTO;
 import com.days.book.entity.User;
 
 import java.util.Map;
@@ -21,27 +22,25 @@ import java.util.HashMap;
 @Slf4j
 public class DashboardController {
     
-    private final BookService bookService;
-    private final MemberService memberService;
     private final LoanService loanService;
+    private final DashboardService dashboardService;
+    private final BookPopularityService bookPopularityService;
     
     @GetMapping("/stats")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<?> getDashboardStats() {
         try {
-            // 각 서비스에서 통계 데이터 수집
-            long totalBooks = bookService.getTotalBooksCount();
-            long totalMembers = memberService.getTotalMembersCount();
-            long activeLoans = loanService.getActiveLoansCount();
-            long overdueLoans = loanService.getOverdueLoansCount();
+            // 단일 집계 쿼리 결과를 짧은 TTL 스냅샷으로 제공
+            DashboardService.DashboardSnapshot snapshot = dashboardService.getSnapshot();
+            DashboardStatsDTO dashboardStats = snapshot.stats();
             
             Map<String, Object> stats = new HashMap<>();
-            stats.put("totalBooks", totalBooks);
-            stats.put("totalMembers", totalMembers);
-            stats.put("activeLoans", activeLoans);
-            stats.put("overdueLoans", overdueLoans);
+            stats.put("totalBooks", dashboardStats.getTotalBooks());
+            stats.put("totalMembers", dashboardStats.getTotalMembers());
+            stats.put("activeLoans", dashboardStats.getActiveLoans());
+            stats.put("overdueLoans", dashboardStats.getOverdueLoans());
             // DTO 버전으로 변경하여 프록시 문제 해결
-            stats.put("recentLoans", loanService.getAllLoansAsDTO().stream().limit(5).toList());
+            stats.put("recentLoans", snapshot.recentLoans());
             
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
@@ -66,7 +65,7 @@ public class DashboardController {
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
             // DTO 방식으로 변경하여 프록시 문제 해결
-            response.put("data", loanService.getAllLoansAsDTO().stream().limit(limit).toList());
+            response.put("data", loanService.getRecentLoansAsDTO(Math.max(1, limit)));
             
             return ResponseEntity.ok(response);
             
@@ -81,6 +80,34 @@ public class DashboardController {
         }
     }
     
+    @GetMapping("/popular-books")
+    public ResponseEntity<?> getPopularBooks(@RequestParam(defaultValue = "10") int limit,
+                                             @RequestParam(required = false) Integer days) {
+        try {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            // 대출 시 갱신되는 통계 테이블에서 상위 N권만 조회
+            response.put("data", bookPopularityService.getTopBooks(Math.max(1, Math.min(limit, 100)), days));
+            
+            return ResponseEntity.ok(response);
+            
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("error", e.getMessage());
+            
+            return ResponseEntity.badRequest().body(errorResponse);
+        } catch (Exception e) {
+            log.error("Error getting popular books: {}", e.getMessage());
+            
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("error", "인기 도서 목록을 가져오는데 실패했습니다: " + e.getMessage());
+            
+            return ResponseEntity.internalServerError().body(errorResponse);
+        }
+    }
+    
     @GetMapping("/my-stats")
     @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
     public ResponseEntity<?> getMyDashboardStats(Authentication authentication) {
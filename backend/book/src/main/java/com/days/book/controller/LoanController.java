@@ -1,11 +1,15 @@
 package com.days.book.controller;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.ArrayList;
+import java.util.zip.GZIPOutputStream;
 
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -25,13 +29,22 @@ import com.days.book.entity.Loan;
 import com.days.book.entity.Loan.LoanStatus;
 import com.days.book.entity.Member;
 import com.days.book.entity.User;
+import com.days.book.job.InvalidLoanCleanupJob;
+import com.days.book.job.OverdueSweepJob;
+import com.days.book.service.LoanExportService;
 import com.days.book.service.LoanService;
 import com.days.book.service.MemberService;
+import com.days.book.dto.LoanBatchRequest;
+import com.days.book.dto.LoanBatchResult;
 import com.days.book.dto.LoanCreateRequest;
+import com.days.book.dto.LoanReturnBatchRequest;
+import com.days.book.dto.LoanReturnBatchResult;
+import com.days.book.dto.LoanCursorPage;
 import com.days.book.dto.LoanResponseDTO;
 
 import org.springframework.web.bind.annotation.CrossOrigin;
 
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 
 @RestController
@@ -42,6 +55,9 @@ public class LoanController {
 
     private final LoanService loanService;
     private final MemberService memberService;
+    private final OverdueSweepJob overdueSweepJob;
+    private final InvalidLoanCleanupJob invalidLoanCleanupJob;
+    private final LoanExportService loanExportService;
 
     /**
      * 전체 대출 조회 (관리자 및 사용자) - DTO 방식으로 안정적 처리
@@ -63,6 +79,44 @@ public class LoanController {
         return ResponseEntity.ok(loans);
     }
 
+    /**
+     * 대출 원장 스트리밍 내보내기 (관리자 전용)
+     * format=ndjson|csv, 대출일 기간(from~to)/상태 필터, gzip=true면 Content-Encoding: gzip으로 압축 전송
+     */
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    public void exportLoans(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) LoanStatus status,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletResponse response) throws IOException {
+        LoanExportService.ExportFormat exportFormat;
+        try {
+            exportFormat = LoanExportService.ExportFormat.from(format);
+            loanExportService.validate(from, to);
+        } catch (IllegalArgumentException e) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, e.getMessage());
+            return;
+        }
+
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"loans-" + LocalDate.now() + "." + exportFormat.getExtension() + "\"");
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+
+        OutputStream out = gzip ? new GZIPOutputStream(response.getOutputStream(), 8192) : response.getOutputStream();
+        loanExportService.export(from, to, status, exportFormat, out);
+        if (out instanceof GZIPOutputStream gzipOut) {
+            gzipOut.finish();
+        }
+        out.flush();
+    }
+
     /**
      * 도서 대출 (관리자 및 사용자)
      */
@@ -77,6 +131,34 @@ public class LoanController {
         }
     }
 
+    /**
+     * 일괄 대출 (한 회원이 여러 권을 한 번에 대출, 도서별 결과 반환)
+     */
+    @PostMapping("/batch")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('USER')")
+    public ResponseEntity<LoanBatchResult> createLoans(@RequestBody LoanBatchRequest request) {
+        try {
+            LoanBatchResult result = loanService.createLoans(request.getMemberId(), request.getBookIds());
+            HttpStatus status = result.getSucceeded() > 0 ? HttpStatus.CREATED : HttpStatus.OK;
+            return ResponseEntity.status(status).body(result);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(LoanBatchResult.rejected(request.getMemberId(), e.getMessage()));
+        }
+    }
+
+    /**
+     * 일괄 반납 (스캐너 모드, 항목별 결과 반환)
+     */
+    @PostMapping("/return/batch")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('USER')")
+    public ResponseEntity<LoanReturnBatchResult> returnBooks(@RequestBody LoanReturnBatchRequest request) {
+        try {
+            return ResponseEntity.ok(loanService.returnBooks(request.getItems()));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     /**
      * 도서 반납 (관리자 및 사용자)
      */
@@ -139,9 +221,9 @@ public class LoanController {
      * 회원별 활성 대출 조회
      */
     @GetMapping("/member/{memberId}/active")
-    public ResponseEntity<List<Loan>> getActiveLoansByMember(@PathVariable("memberId") Long memberId) {
+    public ResponseEntity<List<LoanResponseDTO>> getActiveLoansByMember(@PathVariable("memberId") Long memberId) {
         try {
-            List<Loan> loans = loanService.getActiveLoansByMember(memberId);
+            List<LoanResponseDTO> loans = loanService.getActiveLoansByMember(memberId);
             return ResponseEntity.ok(loans);
         } catch (Exception e) {
             return ResponseEntity.notFound().build();
@@ -152,9 +234,9 @@ public class LoanController {
      * 회원별 대출 이력 조회
      */
     @GetMapping("/member/{memberId}/history")
-    public ResponseEntity<List<Loan>> getLoanHistoryByMember(@PathVariable("memberId") Long memberId) {
+    public ResponseEntity<List<LoanResponseDTO>> getLoanHistoryByMember(@PathVariable("memberId") Long memberId) {
         try {
-            List<Loan> loans = loanService.getLoanHistoryByMember(memberId);
+            List<LoanResponseDTO> loans = loanService.getLoanHistoryByMember(memberId);
             return ResponseEntity.ok(loans);
         } catch (Exception e) {
             return ResponseEntity.notFound().build();
@@ -165,9 +247,9 @@ public class LoanController {
      * 도서별 대출 이력 조회
      */
     @GetMapping("/book/{bookId}/history")
-    public ResponseEntity<List<Loan>> getLoanHistoryByBook(@PathVariable("bookId") Long bookId) {
+    public ResponseEntity<List<LoanResponseDTO>> getLoanHistoryByBook(@PathVariable("bookId") Long bookId) {
         try {
-            List<Loan> loans = loanService.getLoanHistoryByBook(bookId);
+            List<LoanResponseDTO> loans = loanService.getLoanHistoryByBook(bookId);
             return ResponseEntity.ok(loans);
         } catch (Exception e) {
             return ResponseEntity.notFound().build();
@@ -178,8 +260,8 @@ public class LoanController {
      * 연체된 대출 조회
      */
     @GetMapping("/overdue")
-    public ResponseEntity<List<Loan>> getOverdueLoans() {
-        List<Loan> loans = loanService.getOverdueLoans();
+    public ResponseEntity<List<LoanResponseDTO>> getOverdueLoans() {
+        List<LoanResponseDTO> loans = loanService.getOverdueLoans();
         return ResponseEntity.ok(loans);
     }
 
@@ -187,8 +269,8 @@ public class LoanController {
      * 오늘 반납 예정인 대출 조회
      */
     @GetMapping("/due-today")
-    public ResponseEntity<List<Loan>> getTodayDueLoans() {
-        List<Loan> loans = loanService.getTodayDueLoans();
+    public ResponseEntity<List<LoanResponseDTO>> getTodayDueLoans() {
+        List<LoanResponseDTO> loans = loanService.getTodayDueLoans();
         return ResponseEntity.ok(loans);
     }
 
@@ -196,8 +278,8 @@ public class LoanController {
      * 상태별 대출 조회
      */
     @GetMapping("/status/{status}")
-    public ResponseEntity<List<Loan>> getLoansByStatus(@PathVariable("status") LoanStatus status) {
-        List<Loan> loans = loanService.getLoansByStatus(status);
+    public ResponseEntity<List<LoanResponseDTO>> getLoansByStatus(@PathVariable("status") LoanStatus status) {
+        List<LoanResponseDTO> loans = loanService.getLoansByStatus(status);
         return ResponseEntity.ok(loans);
     }
 
@@ -205,10 +287,10 @@ public class LoanController {
      * 기간별 대출 조회
      */
     @GetMapping("/date-range")
-    public ResponseEntity<List<Loan>> getLoansByDateRange(
+    public ResponseEntity<List<LoanResponseDTO>> getLoansByDateRange(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
-        List<Loan> loans = loanService.getLoansByDateRange(startDate, endDate);
+        List<LoanResponseDTO> loans = loanService.getLoansByDateRange(startDate, endDate);
         return ResponseEntity.ok(loans);
     }
 
@@ -231,9 +313,22 @@ public class LoanController {
     @PutMapping("/update-overdue-status")
     public ResponseEntity<Integer> updateOverdueStatus() {
         int updatedCount = loanService.updateOverdueStatus();
+        if (updatedCount < 0) {
+            // 스케줄 배치가 이미 실행 중
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
         return ResponseEntity.ok(updatedCount);
     }
 
+    /**
+     * 연체 상태 일괄 업데이트 배치 진행 상황 (관리자용)
+     */
+    @GetMapping("/update-overdue-status/progress")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<OverdueSweepJob.SweepStatus> getOverdueSweepProgress() {
+        return ResponseEntity.ok(overdueSweepJob.getStatus());
+    }
+
     /**
      * 회원의 현재 대출 수 조회
      */
@@ -274,6 +369,31 @@ public class LoanController {
         }
     }
 
+    /**
+     * 내 대출 조회 - 커서 페이지네이션 (loanDate, id 기준 최신순)
+     * 첫 요청은 cursor 없이, 이후에는 응답의 nextCursor를 전달
+     */
+    @GetMapping("/my/page")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<LoanCursorPage> getMyLoansPage(Authentication authentication,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            User user = (User) authentication.getPrincipal();
+            int pageSize = Math.max(1, Math.min(size, 100));
+            LoanCursorPage page = loanService.getLoansByUserIdWithCursor(user.getId(), cursor, pageSize);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            return ResponseEntity.ok(LoanCursorPage.builder()
+                    .content(new ArrayList<>())
+                    .size(0)
+                    .hasNext(false)
+                    .build());
+        }
+    }
+
     /**
      * 대출 삭제 (관리자만)
      */
@@ -289,16 +409,62 @@ public class LoanController {
     }
 
     /**
-     * 잘못된 외래키를 가진 대출 기록 정리 (관리자만)
+     * 잘못된 외래키를 가진 대출 기록 정리 (관리자만) - 완료될 때까지 대기
      */
     @DeleteMapping("/cleanup-invalid")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<String> cleanupInvalidLoans() {
         try {
             int deletedCount = loanService.cleanupInvalidLoans();
+            if (deletedCount < 0) {
+                return ResponseEntity.status(HttpStatus.CONFLICT).body("대출 기록 정리 작업이 이미 실행 중입니다.");
+            }
             return ResponseEntity.ok("정리된 잘못된 대출 기록: " + deletedCount + "건");
         } catch (Exception e) {
             return ResponseEntity.badRequest().body("정리 중 오류 발생: " + e.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 대출 기록 정리 미리보기 - 삭제 없이 대상 건수와 대출 ID 일부 조회 (관리자만)
+     */
+    @GetMapping("/cleanup-invalid/preview")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<InvalidLoanCleanupJob.CleanupPreview> previewInvalidLoanCleanup(
+            @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(invalidLoanCleanupJob.preview(Math.max(1, Math.min(limit, 1000))));
+    }
+
+    /**
+     * 대출 기록 정리 백그라운드 실행 (관리자만)
+     */
+    @PostMapping("/cleanup-invalid/start")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<InvalidLoanCleanupJob.CleanupStatus> startInvalidLoanCleanup() {
+        if (!invalidLoanCleanupJob.start()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(invalidLoanCleanupJob.getStatus());
+        }
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(invalidLoanCleanupJob.getStatus());
+    }
+
+    /**
+     * 실행 중인 대출 기록 정리 취소 (관리자만)
+     */
+    @PostMapping("/cleanup-invalid/cancel")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<InvalidLoanCleanupJob.CleanupStatus> cancelInvalidLoanCleanup() {
+        if (!invalidLoanCleanupJob.cancel()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(invalidLoanCleanupJob.getStatus());
+        }
+        return ResponseEntity.accepted().body(invalidLoanCleanupJob.getStatus());
+    }
+
+    /**
+     * 대출 기록 정리 진행 상황 (관리자만)
+     */
+    @GetMapping("/cleanup-invalid/progress")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<InvalidLoanCleanupJob.CleanupStatus> getInvalidLoanCleanupProgress() {
+        return ResponseEntity.ok(invalidLoanCleanupJob.getStatus());
+    }
+}
@@ -1,5 +1,7 @@
 package com.days.book.controller;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -17,12 +19,15 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.days.book.dto.MemberImportResult;
 import com.days.book.entity.Member;
 import com.days.book.entity.Member.MemberStatus;
+import com.days.book.service.MemberImportService;
 import com.days.book.service.MemberService;
 
 import org.springframework.web.bind.annotation.CrossOrigin;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
@@ -33,6 +38,7 @@ import lombok.RequiredArgsConstructor;
 public class MemberController {
 
     private final MemberService memberService;
+    private final MemberImportService memberImportService;
 
     /**
      * 회원 등록 (관리자만)
@@ -48,6 +54,32 @@ public class MemberController {
         }
     }
 
+    /**
+     * 회원 일괄 등록 (관리자만) - 요청 본문이 CSV(text/csv) 또는 NDJSON(application/x-ndjson)
+     * format 파라미터가 없으면 Content-Type으로 판단, 행별 실패 사유를 결과로 반환
+     */
+    @PostMapping("/import")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> importMembers(@RequestParam(required = false) String format,
+                                           HttpServletRequest request,
+                                           InputStream body) throws IOException {
+        try {
+            MemberImportService.ImportFormat importFormat;
+            if (format != null) {
+                importFormat = MemberImportService.ImportFormat.from(format);
+            } else {
+                String contentType = request.getContentType();
+                importFormat = contentType != null && contentType.contains("json")
+                        ? MemberImportService.ImportFormat.NDJSON
+                        : MemberImportService.ImportFormat.CSV;
+            }
+            MemberImportResult result = memberImportService.importMembers(body, importFormat);
+            return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
     /**
      * 전체 회원 조회 (관리자 및 사용자 - 대출등록용)
      */
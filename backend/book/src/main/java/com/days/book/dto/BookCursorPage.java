@@ -0,0 +1,24 @@
+package com.days.book.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 커서(keyset) 기반 도서 목록 페이지 DTO
+ * nextCursor는 마지막 도서 id이며 다음 페이지 요청 시 그대로 전달
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BookCursorPage {
+
+    private List<BookSummaryDTO> content;
+    private int size;
+    private boolean hasNext;
+    private Long nextCursor;
+}
@@ -0,0 +1,53 @@
+package com.days.book.dto;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 도서 목록용 경량 DTO (description 등 큰 컬럼 제외)
+ * fields 파라미터로 필드를 선택한 경우 선택되지 않은 필드는 null로 비워 응답에서 제외
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BookSummaryDTO {
+
+    public static final Set<String> FIELDS = Set.of(
+            "id", "title", "author", "isbn", "category", "publishedDate", "totalCopies", "availableCopies");
+
+    private Long id;
+    private String title;
+    private String author;
+    private String isbn;
+    private String category;
+    private LocalDate publishedDate;
+    private Integer totalCopies;
+    private Integer availableCopies;
+
+    /**
+     * 선택한 필드만 남김 (비어 있으면 전체 유지)
+     */
+    public BookSummaryDTO retainFields(Set<String> fields) {
+        if (fields == null || fields.isEmpty()) {
+            return this;
+        }
+        if (!fields.contains("id")) id = null;
+        if (!fields.contains("title")) title = null;
+        if (!fields.contains("author")) author = null;
+        if (!fields.contains("isbn")) isbn = null;
+        if (!fields.contains("category")) category = null;
+        if (!fields.contains("publishedDate")) publishedDate = null;
+        if (!fields.contains("totalCopies")) totalCopies = null;
+        if (!fields.contains("availableCopies")) availableCopies = null;
+        return this;
+    }
+}
@@ -0,0 +1,41 @@
+package com.days.book.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 도서 일괄 입고 결과 DTO (처리량과 거부된 레코드 포함)
+ * inserted = 새로 등록된 도서 수, updated = 권수가 추가된 기존 도서 수
+ * aborted = 입력이 손상되어 중간에 중단된 경우 (이미 커밋된 청크는 유지)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CatalogIngestResult {
+
+    private int totalRecords;
+    private int inserted;
+    private int updated;
+    private long copiesAdded;
+    private int rejected;
+    private boolean aborted;
+    private long elapsedMillis;
+    private double recordsPerSecond;
+    private boolean errorsTruncated;
+    private List<RejectedRecord> errors;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class RejectedRecord {
+        private int record;
+        private String isbn;
+        private String reason;
+    }
+}
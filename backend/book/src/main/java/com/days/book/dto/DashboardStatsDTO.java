@@ -0,0 +1,26 @@
+package com.days.book.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 대시보드 집계 통계 DTO
+ * LoanRepository.getDashboardStats 단일 집계 쿼리로 채워짐
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DashboardStatsDTO {
+
+    private Long totalBooks;          // 전체 도서 수
+    private Long totalMembers;        // 전체 회원 수
+    private Long totalLoans;          // 전체 대출 수
+    private Long activeLoans;         // 대출중 (ACTIVE)
+    private Long returnedLoans;       // 반납완료 (RETURNED)
+    private Long overdueStatusLoans;  // 연체 처리됨 (OVERDUE)
+    private Long lostLoans;           // 분실 (LOST)
+    private Long overdueLoans;        // 반납 예정일이 지난 대출중 건수
+}
@@ -0,0 +1,20 @@
+package com.days.book.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일괄 대출 요청 DTO (한 회원이 여러 권을 한 번에 대출)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoanBatchRequest {
+
+    private Long memberId;
+
+    private List<Long> bookIds;
+}
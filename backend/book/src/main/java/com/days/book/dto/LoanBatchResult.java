@@ -0,0 +1,56 @@
+package com.days.book.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일괄 처리 결과 DTO (도서별 성공/실패 결과 포함)
+ * 요청 전체가 거부된 경우 message에 사유가 담기고 results는 비어 있음
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LoanBatchResult {
+
+    private Long memberId;
+    private int requested;
+    private int succeeded;
+    private int failed;
+    private String message;
+    private List<Item> results;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Item {
+        private Long bookId;
+        private Long loanId;
+        private boolean success;
+        private String message;
+    }
+
+    public static LoanBatchResult of(Long memberId, List<Item> results) {
+        int succeeded = (int) results.stream().filter(Item::isSuccess).count();
+        return LoanBatchResult.builder()
+                .memberId(memberId)
+                .requested(results.size())
+                .succeeded(succeeded)
+                .failed(results.size() - succeeded)
+                .results(results)
+                .build();
+    }
+
+    public static LoanBatchResult rejected(Long memberId, String message) {
+        return LoanBatchResult.builder()
+                .memberId(memberId)
+                .message(message)
+                .results(List.of())
+                .build();
+    }
+}
@@ -0,0 +1,45 @@
+package com.days.book.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 커서(keyset) 기반 대출 목록 페이지 DTO
+ * nextCursor는 "loanDate_id" 형식이며 다음 페이지 요청 시 그대로 전달
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LoanCursorPage {
+
+    private List<LoanResponseDTO> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+
+    public static String encodeCursor(LocalDate loanDate, Long id) {
+        return loanDate + "_" + id;
+    }
+
+    public static LocalDate decodeCursorDate(String cursor) {
+        try {
+            return LocalDate.parse(cursor.substring(0, cursor.indexOf('_')));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서 형식입니다: " + cursor);
+        }
+    }
+
+    public static Long decodeCursorId(String cursor) {
+        try {
+            return Long.valueOf(cursor.substring(cursor.indexOf('_') + 1));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서 형식입니다: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.days.book.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일괄 반납 요청 DTO (스캐너 모드)
+ * 항목마다 loanId 또는 isbn + memberId 중 하나로 반납할 대출을 지정
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoanReturnBatchRequest {
+
+    private List<Item> items;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        private Long loanId;
+        private String isbn;
+        private Long memberId;
+    }
+}
@@ -0,0 +1,50 @@
+package com.days.book.dto;
+
+import java.util.List;
+
+import com.days.book.entity.Loan.LoanStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일괄 반납 결과 DTO (요청 순서대로 항목별 처리 결과)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LoanReturnBatchResult {
+
+    private int requested;
+    private int returned;
+    private int failed;
+    private List<Item> results;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Item {
+        private Long loanId;
+        private String isbn;
+        private Long memberId;
+        private Long bookId;
+        private boolean success;
+        private LoanStatus status;
+        private Integer overdueFee;
+        private String message;
+    }
+
+    public static LoanReturnBatchResult of(List<Item> results) {
+        int returned = (int) results.stream().filter(Item::isSuccess).count();
+        return LoanReturnBatchResult.builder()
+                .requested(results.size())
+                .returned(returned)
+                .failed(results.size() - returned)
+                .results(results)
+                .build();
+    }
+}
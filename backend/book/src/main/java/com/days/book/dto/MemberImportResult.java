@@ -0,0 +1,35 @@
+package com.days.book.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회원 일괄 등록 결과 DTO (실패한 행만 행 번호와 사유를 담음)
+ * 오류 목록은 최대 건수까지만 담고 나머지는 errorsTruncated로 표시
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MemberImportResult {
+
+    private int totalRows;
+    private int imported;
+    private int failed;
+    private boolean errorsTruncated;
+    private List<RowError> errors;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class RowError {
+        private int line;
+        private String email;
+        private String message;
+    }
+}
@@ -0,0 +1,24 @@
+package com.days.book.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 인기 도서 순위 항목 (도서 요약 + 대출 횟수)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PopularBookDTO {
+
+    private Long id;
+    private String title;
+    private String author;
+    private String isbn;
+    private String category;
+    private Integer availableCopies;
+    private Long loanCount;
+}
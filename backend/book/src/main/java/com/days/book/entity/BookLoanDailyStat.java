@@ -0,0 +1,48 @@
+package com.days.book.entity;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 도서별 일자별 대출 횟수 (최근 7/30/365일 인기 도서 순위용)
+ * 도서당 하루 한 행이므로 기간 집계 대상이 대출 건수가 아닌 (도서 수 x 일수)로 제한됨
+ */
+@Entity
+@Table(name = "book_loan_daily_stats",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_book_loan_daily_stats_book_date", columnNames = {"book_id", "stat_date"})
+    },
+    indexes = {
+        @Index(name = "idx_book_loan_daily_stats_date", columnList = "stat_date, book_id")
+    })
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BookLoanDailyStat {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "book_id", nullable = false)
+    private Long bookId;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Column(name = "loan_count", nullable = false)
+    private Long loanCount;
+}
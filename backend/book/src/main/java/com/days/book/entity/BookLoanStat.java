@@ -0,0 +1,38 @@
+package com.days.book.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 도서별 누적 대출 횟수 (인기 도서 순위용)
+ * 대출 생성 시 함께 증가시키므로 순위 조회 시 loans 테이블을 집계하지 않음
+ */
+@Entity
+@Table(name = "book_loan_stats", indexes = {
+    @Index(name = "idx_book_loan_stats_total", columnList = "total_loans, book_id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BookLoanStat {
+
+    @Id
+    @Column(name = "book_id")
+    private Long bookId;
+
+    @Column(name = "total_loans", nullable = false)
+    private Long totalLoans;
+
+    @Column(name = "last_loaned_at")
+    private LocalDateTime lastLoanedAt;
+}
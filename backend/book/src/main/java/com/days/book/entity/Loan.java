@@ -19,6 +19,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -28,7 +29,13 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "loans")
+@Table(name = "loans", indexes = {
+    @Index(name = "idx_loans_member_loan_date", columnList = "member_id, loan_date, id"),
+    @Index(name = "idx_loans_status_due_date", columnList = "status, due_date, id"),
+    @Index(name = "idx_loans_member_status", columnList = "member_id, status"),
+    @Index(name = "idx_loans_loan_date", columnList = "loan_date, id"),
+    @Index(name = "idx_loans_book_loan_date", columnList = "book_id, loan_date, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -118,15 +125,13 @@ public class Loan {
         this.returnDate = LocalDate.now();
         this.overdueFee = calculateOverdueFee();
 
-        if(isOverdue()) {
+        // 연체 배치로 이미 OVERDUE가 된 대출도 늦게 반납되면 OVERDUE로 남김 (일괄 반납과 동일 규칙)
+        if(returnDate.isAfter(dueDate)) {
             this.status = LoanStatus.OVERDUE;
         } else {
             this.status = LoanStatus.RETURNED;
         }
-
-        if (book != null) {
-            book.returnBook();;
-        }
+        // 도서 재고 증가는 LoanService에서 DB 원자적 UPDATE로 처리
     }
 
     public void markAsLost() {
@@ -0,0 +1,115 @@
+package com.days.book.entity;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.CreationTimestamp;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 메일 발송 대기열 (outbox)
+ * 요청 트랜잭션에서는 발송할 메일만 저장하고, MailOutboxDispatcher가 백그라운드에서 SMTP로 발송
+ */
+@Entity
+@Table(name = "mail_outbox", indexes = {
+    @Index(name = "idx_mail_outbox_status_next_attempt", columnList = "status, next_attempt_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MailOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String recipient;
+
+    @Column(length = 100)
+    private String sender;
+
+    @Column(nullable = false, length = 200)
+    private String subject;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String body;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private MailStatus status = MailStatus.PENDING;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    @Builder.Default
+    private LocalDateTime nextAttemptAt = LocalDateTime.now();
+
+    // 발송을 가져간 dispatcher 식별자 (중복 발송 방지)
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;
+
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    public enum MailStatus {
+        PENDING("발송대기"),
+        SENDING("발송중"),
+        SENT("발송완료"),
+        FAILED("발송실패");
+
+        private final String description;
+
+        MailStatus(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+
+    /**
+     * 발송 실패 처리 - 최대 시도 횟수 전까지는 지수 백오프로 재시도 예약
+     */
+    public void markFailed(String error, int maxAttempts, long baseBackoffMs, long maxBackoffMs) {
+        this.attempts = attempts + 1;
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+        this.claimToken = null;
+        this.claimedAt = null;
+
+        if (attempts >= maxAttempts) {
+            this.status = MailStatus.FAILED;
+        } else {
+            long backoffMs = Math.min(maxBackoffMs, baseBackoffMs * (1L << Math.min(attempts - 1, 20)));
+            this.status = MailStatus.PENDING;
+            this.nextAttemptAt = LocalDateTime.now().plusNanos(backoffMs * 1_000_000L);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.days.book.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회원번호 일련번호 카운터 (MemberNumberGenerator가 블록 단위로 증가시켜 할당)
+ * 스키마 관리/검증용 매핑이며 값 갱신은 JDBC로만 수행
+ */
+@Entity
+@Table(name = "member_number_sequence")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberNumberSequence {
+
+    @Id
+    @Column(length = 50)
+    private String name;
+
+    @Column(name = "next_value", nullable = false)
+    private Long nextValue;
+}
@@ -1,6 +1,8 @@
 package com.days.book.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
@@ -15,6 +17,8 @@ import java.util.Collection;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
 @Table(name = "users")
 @Data
 @NoArgsConstructor
@@ -164,10 +168,4 @@ public class User implements UserDetails {
     public void withdraw() {
         this.memberStatus = MemberStatus.WITHDRAWN;
     }
-
-    public static String generateMemberNumber() {
-        String date = LocalDate.now().toString().replace("-", "");
-        long timestamp = System.currentTimeMillis() % 1000;
-        return "M" + date + String.format("%03d", timestamp);
-    }
 }
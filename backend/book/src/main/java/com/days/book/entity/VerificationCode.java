@@ -9,7 +9,10 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "verification_codes")
+@Table(name = "verification_codes", indexes = {
+    @Index(name = "idx_verification_codes_lookup", columnList = "email, type, used, expires_at"),
+    @Index(name = "idx_verification_codes_expires_at", columnList = "expires_at")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
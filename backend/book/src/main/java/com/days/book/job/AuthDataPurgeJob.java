@@ -0,0 +1,154 @@
+package com.days.book.job;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.days.book.metrics.PurgeMetrics;
+import com.days.book.repository.MailOutboxRepository;
+import com.days.book.repository.UserRepository;
+import com.days.book.repository.VerificationCodeRepository;
+import com.days.book.security.JwtPrincipalCache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 만료 인증코드 / 오래된 이메일 미인증 계정 / 처리 끝난 메일 outbox 정리 배치
+ * - 인증코드: 만료 후 auth.purge.code-retention-hours가 지난 코드를 청크 단위로 삭제
+ * - 미인증 계정: 마지막 가입(재가입) 후 auth.purge.unverified-user-days가 지난 일반 사용자 계정을 삭제
+ *   (회원(members) 정보는 대출 이력/관리자 등록 회원과 연결될 수 있으므로 유지)
+ * - 메일 outbox: 발송 완료 또는 최종 실패 후 auth.purge.mail-retention-days가 지난 메일을 삭제
+ *   (최종 실패 메일은 인증코드/임시 비밀번호 본문이 남아 있으므로 보관 기간 후 제거)
+ * 청크마다 별도 트랜잭션으로 커밋하므로 중단 후 다시 실행해도 남은 행부터 이어서 처리
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AuthDataPurgeJob {
+
+    private final VerificationCodeRepository verificationCodeRepository;
+    private final UserRepository userRepository;
+    private final MailOutboxRepository mailOutboxRepository;
+    private final JwtPrincipalCache principalCache;
+    private final TransactionTemplate transactionTemplate;
+    private final PurgeMetrics purgeMetrics;
+
+    @Value("${auth.purge.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${auth.purge.code-retention-hours:24}")
+    private long codeRetentionHours;
+
+    @Value("${auth.purge.unverified-user-days:7}")
+    private long unverifiedUserDays;
+
+    @Value("${auth.purge.mail-retention-days:7}")
+    private long mailRetentionDays;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    /**
+     * 스케줄 실행 (기본: 매일 03:30, auth.purge.cron으로 변경 가능, "-"이면 비활성화)
+     */
+    @Scheduled(cron = "${auth.purge.cron:0 30 3 * * *}")
+    public void scheduledPurge() {
+        run();
+    }
+
+    /**
+     * 정리 실행 - 삭제 건수 반환 (이미 실행 중이면 null)
+     */
+    public PurgeResult run() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("인증 데이터 정리 배치가 이미 실행 중입니다.");
+            return null;
+        }
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            int codes = purgeExpiredCodes(now.minusHours(codeRetentionHours));
+            int users = purgeUnverifiedUsers(now.minusDays(unverifiedUserDays));
+            int mails = purgeProcessedMails(now.minusDays(mailRetentionDays));
+            log.info("인증 데이터 정리 배치 완료: 인증코드 {}건, 미인증 계정 {}건, 메일 {}건", codes, users, mails);
+            return new PurgeResult(codes, users, mails);
+        } catch (RuntimeException e) {
+            log.error("인증 데이터 정리 배치 실패 (다음 실행 시 남은 행부터 재처리): {}", e.getMessage());
+            throw e;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private int purgeExpiredCodes(LocalDateTime cutoff) {
+        int deleted = 0;
+        while (true) {
+            List<Long> ids = verificationCodeRepository.findExpiredIds(cutoff, PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            Integer count = transactionTemplate.execute(tx -> verificationCodeRepository.deleteByIds(ids));
+            int chunkDeleted = count != null ? count : 0;
+            deleted += chunkDeleted;
+            purgeMetrics.verificationCodesDeleted(chunkDeleted);
+            if (ids.size() < batchSize) {
+                break;
+            }
+        }
+        return deleted;
+    }
+
+    private int purgeUnverifiedUsers(LocalDateTime cutoff) {
+        int deleted = 0;
+        long lastId = 0L;
+        while (true) {
+            List<Object[]> rows = userRepository.findStaleUnverifiedUsers(cutoff, lastId, PageRequest.of(0, batchSize));
+            if (rows.isEmpty()) {
+                break;
+            }
+            List<Long> ids = new ArrayList<>(rows.size());
+            for (Object[] row : rows) {
+                ids.add((Long) row[0]);
+            }
+            Integer count = transactionTemplate.execute(tx -> userRepository.deleteUnverifiedUsers(ids));
+            int chunkDeleted = count != null ? count : 0;
+            deleted += chunkDeleted;
+            purgeMetrics.unverifiedUsersDeleted(chunkDeleted);
+            for (Object[] row : rows) {
+                principalCache.evict((String) row[1]);
+            }
+            lastId = ids.get(ids.size() - 1);
+        }
+        return deleted;
+    }
+
+    private int purgeProcessedMails(LocalDateTime cutoff) {
+        int deleted = 0;
+        while (true) {
+            List<Long> ids = mailOutboxRepository.findPurgeableIds(cutoff, PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            Integer count = transactionTemplate.execute(tx -> mailOutboxRepository.deleteByIds(ids));
+            int chunkDeleted = count != null ? count : 0;
+            deleted += chunkDeleted;
+            purgeMetrics.mailOutboxDeleted(chunkDeleted);
+            if (ids.size() < batchSize) {
+                break;
+            }
+        }
+        return deleted;
+    }
+
+    /**
+     * 정리 결과 (삭제된 인증코드 수, 삭제된 미인증 계정 수, 삭제된 outbox 메일 수)
+     */
+    public record PurgeResult(int verificationCodes, int unverifiedUsers, int mailOutbox) {
+    }
+}
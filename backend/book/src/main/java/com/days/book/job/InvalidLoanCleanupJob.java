@@ -0,0 +1,153 @@
+package com.days.book.job;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.days.book.repository.LoanRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 잘못된 외래키를 가진 대출 기록 정리 작업
+ * 도서/회원이 없거나(null) 존재하지 않는 대출을 anti-join으로 id 순서의 청크 단위 조회 후 일괄 삭제
+ * - 청크마다 별도 트랜잭션으로 커밋하므로 전체 대출을 메모리에 올리지 않음
+ * - 백그라운드 실행 중 취소 요청 시 현재 청크까지만 처리하고 중단
+ */
+@Component
+@Slf4j
+public class InvalidLoanCleanupJob {
+
+    private final LoanRepository loanRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor executor;
+
+    @Value("${loan.invalid-cleanup.batch-size:1000}")
+    private int batchSize;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicBoolean cancelRequested = new AtomicBoolean(false);
+    private volatile CleanupStatus status = CleanupStatus.idle();
+
+    public InvalidLoanCleanupJob(LoanRepository loanRepository,
+                                 TransactionTemplate transactionTemplate,
+                                 @Qualifier("maintenanceJobExecutor") TaskExecutor executor) {
+        this.loanRepository = loanRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.executor = executor;
+    }
+
+    /**
+     * 삭제 없이 정리 대상 건수와 앞쪽 대출 ID 미리보기
+     */
+    public CleanupPreview preview(int limit) {
+        long total = loanRepository.countInvalidLoans();
+        List<Long> sample = loanRepository.findInvalidLoanIds(0L, PageRequest.of(0, limit));
+        return new CleanupPreview(total, sample);
+    }
+
+    /**
+     * 백그라운드 실행 시작 (이미 실행 중이면 false)
+     */
+    public boolean start() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        // 제출 전에 초기화 - 작업이 실행되기 전에 들어온 취소 요청이 지워지지 않도록 함
+        cancelRequested.set(false);
+        try {
+            executor.execute(this::execute);
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+        return true;
+    }
+
+    /**
+     * 현재 스레드에서 실행 - 삭제된 대출 건수 반환 (이미 실행 중이면 -1)
+     */
+    public int run() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("대출 기록 정리 작업이 이미 실행 중입니다.");
+            return -1;
+        }
+        cancelRequested.set(false);
+        return execute();
+    }
+
+    /**
+     * 실행 중인 작업 취소 요청 (실행 중이 아니면 false)
+     */
+    public boolean cancel() {
+        if (!running.get()) {
+            return false;
+        }
+        cancelRequested.set(true);
+        return true;
+    }
+
+    private int execute() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        int deleted = 0;
+        int chunks = 0;
+        long lastId = 0L;
+        status = new CleanupStatus(true, false, startedAt, null, 0, 0, 0L, null);
+        try {
+            while (!cancelRequested.get()) {
+                List<Long> ids = loanRepository.findInvalidLoanIds(lastId, PageRequest.of(0, batchSize));
+                if (ids.isEmpty()) {
+                    break;
+                }
+
+                Integer removed = transactionTemplate.execute(tx -> loanRepository.deleteAllByIdIn(ids));
+                deleted += removed != null ? removed : 0;
+                chunks++;
+                lastId = ids.get(ids.size() - 1);
+                status = new CleanupStatus(true, false, startedAt, null, deleted, chunks, lastId, null);
+            }
+
+            boolean cancelled = cancelRequested.get();
+            status = new CleanupStatus(false, cancelled, startedAt, LocalDateTime.now(), deleted, chunks, lastId, null);
+            log.info("대출 기록 정리 {}: {}건 삭제, {}개 청크", cancelled ? "취소" : "완료", deleted, chunks);
+            return deleted;
+        } catch (RuntimeException e) {
+            status = new CleanupStatus(false, false, startedAt, LocalDateTime.now(), deleted, chunks, lastId, e.getMessage());
+            log.error("대출 기록 정리 실패 (다시 실행하면 남은 기록부터 처리): {}", e.getMessage());
+            throw e;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 현재/마지막 실행 진행 상황
+     */
+    public CleanupStatus getStatus() {
+        return status;
+    }
+
+    /**
+     * 정리 작업 진행 상황
+     */
+    public record CleanupStatus(boolean running, boolean cancelled, LocalDateTime startedAt, LocalDateTime finishedAt,
+                                int deleted, int chunks, long lastProcessedId, String lastError) {
+
+        static CleanupStatus idle() {
+            return new CleanupStatus(false, false, null, null, 0, 0, 0L, null);
+        }
+    }
+
+    /**
+     * 정리 대상 미리보기 (dry-run)
+     */
+    public record CleanupPreview(long invalidLoans, List<Long> sampleLoanIds) {
+    }
+}
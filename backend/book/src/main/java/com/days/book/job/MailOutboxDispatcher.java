@@ -0,0 +1,193 @@
+package com.days.book.job;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.days.book.entity.MailOutbox;
+import com.days.book.entity.MailOutbox.MailStatus;
+import com.days.book.repository.MailOutboxRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 메일 outbox 발송기
+ * - 대기 중인 메일을 청크 단위로 선점하여 하나의 SMTP 연결로 일괄 발송
+ * - 실패한 메일은 지수 백오프로 재시도, 최대 시도 횟수를 넘으면 FAILED 처리
+ * - 메일 등록 트랜잭션 커밋 직후 즉시 발송을 요청하고, 누락분은 주기적 폴링으로 처리
+ */
+@Component
+@Slf4j
+public class MailOutboxDispatcher {
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final JavaMailSender mailSender;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor executor;
+
+    @Value("${mail.outbox.batch-size:50}")
+    private int batchSize;
+
+    @Value("${mail.outbox.max-attempts:6}")
+    private int maxAttempts;
+
+    @Value("${mail.outbox.retry-backoff-ms:5000}")
+    private long retryBackoffMs;
+
+    @Value("${mail.outbox.max-backoff-ms:3600000}")
+    private long maxBackoffMs;
+
+    @Value("${mail.outbox.stale-claim-minutes:5}")
+    private long staleClaimMinutes;
+
+    public MailOutboxDispatcher(MailOutboxRepository mailOutboxRepository,
+                                JavaMailSender mailSender,
+                                TransactionTemplate transactionTemplate,
+                                @Qualifier("mailDispatchExecutor") ThreadPoolTaskExecutor executor) {
+        this.mailOutboxRepository = mailOutboxRepository;
+        this.mailSender = mailSender;
+        this.transactionTemplate = transactionTemplate;
+        this.executor = executor;
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 발송 요청 (트랜잭션이 없으면 즉시 요청)
+     */
+    public void dispatchAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    requestDispatch();
+                }
+            });
+        } else {
+            requestDispatch();
+        }
+    }
+
+    /**
+     * 주기적 폴링 (재시도 예약 메일, 즉시 발송 요청이 버려진 메일 처리)
+     */
+    @Scheduled(fixedDelayString = "${mail.outbox.poll-interval-ms:10000}")
+    public void poll() {
+        requestDispatch();
+    }
+
+    private void requestDispatch() {
+        // 대기열이 가득 차면 DiscardPolicy로 버려지며 다음 폴링에서 처리
+        executor.execute(this::drain);
+    }
+
+    /**
+     * 발송 가능한 메일이 없을 때까지 청크 단위로 발송
+     */
+    public int drain() {
+        int sent = 0;
+        try {
+            while (true) {
+                List<MailOutbox> batch = claimBatch();
+                if (batch.isEmpty()) {
+                    break;
+                }
+                sent += sendBatch(batch);
+                if (batch.size() < batchSize) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("메일 outbox 발송 처리 실패: {}", e.getMessage());
+        }
+        return sent;
+    }
+
+    private List<MailOutbox> claimBatch() {
+        String token = UUID.randomUUID().toString();
+        return transactionTemplate.execute(tx -> {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime staleBefore = now.minusMinutes(staleClaimMinutes);
+            List<Long> ids = mailOutboxRepository.findDispatchableIds(now, staleBefore, PageRequest.of(0, batchSize));
+            if (ids.isEmpty() || mailOutboxRepository.claim(ids, token, now, staleBefore) == 0) {
+                return List.of();
+            }
+            return mailOutboxRepository.findByClaimTokenAndStatusOrderByIdAsc(token, MailStatus.SENDING);
+        });
+    }
+
+    private int sendBatch(List<MailOutbox> batch) {
+        Map<SimpleMailMessage, MailOutbox> outboxByMessage = new IdentityHashMap<>();
+        for (MailOutbox mail : batch) {
+            outboxByMessage.put(toMessage(mail), mail);
+        }
+
+        Map<MailOutbox, String> failures = new IdentityHashMap<>();
+        try {
+            // JavaMailSenderImpl은 여러 메일을 하나의 SMTP 연결로 발송
+            mailSender.send(outboxByMessage.keySet().toArray(new SimpleMailMessage[0]));
+        } catch (MailSendException e) {
+            if (e.getFailedMessages().isEmpty()) {
+                batch.forEach(mail -> failures.put(mail, e.getMessage()));
+            }
+            e.getFailedMessages().forEach((message, cause) -> {
+                MailOutbox mail = outboxByMessage.get(message);
+                if (mail != null) {
+                    failures.put(mail, cause.getMessage());
+                }
+            });
+        } catch (RuntimeException e) {
+            batch.forEach(mail -> failures.put(mail, e.getMessage()));
+        }
+
+        List<Long> sentIds = new ArrayList<>();
+        List<MailOutbox> failed = new ArrayList<>();
+        for (MailOutbox mail : batch) {
+            String error = failures.get(mail);
+            if (error == null) {
+                sentIds.add(mail.getId());
+            } else {
+                mail.markFailed(error, maxAttempts, retryBackoffMs, maxBackoffMs);
+                failed.add(mail);
+                log.warn("메일 발송 실패 ({}회): {} - {}", mail.getAttempts(), mail.getRecipient(), error);
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(tx -> {
+            if (!sentIds.isEmpty()) {
+                mailOutboxRepository.markSent(sentIds, LocalDateTime.now());
+            }
+            if (!failed.isEmpty()) {
+                mailOutboxRepository.saveAll(failed);
+            }
+        });
+
+        if (!sentIds.isEmpty()) {
+            log.info("메일 발송 완료: {}건", sentIds.size());
+        }
+        return sentIds.size();
+    }
+
+    private SimpleMailMessage toMessage(MailOutbox mail) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setTo(mail.getRecipient());
+        message.setFrom(mail.getSender());
+        message.setSubject(mail.getSubject());
+        message.setText(mail.getBody());
+        return message;
+    }
+}
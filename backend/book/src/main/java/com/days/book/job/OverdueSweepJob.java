@@ -0,0 +1,118 @@
+package com.days.book.job;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.days.book.metrics.LoanMetrics;
+import com.days.book.repository.LoanRepository;
+import com.days.book.service.DashboardService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 연체 상태 일괄 갱신 배치
+ * 반납 예정일이 지난 ACTIVE 대출을 id 순서의 청크 단위로 OVERDUE 처리하고 연체료(연체일수 * 100원)를 계산
+ * - 청크마다 별도 트랜잭션으로 커밋하므로 영속성 컨텍스트가 커지지 않음
+ * - ACTIVE 조건으로만 갱신하므로 중단 후 다시 실행해도 남은 대출부터 이어서 처리 (멱등)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OverdueSweepJob {
+
+    private final LoanRepository loanRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final LoanMetrics loanMetrics;
+    private final DashboardService dashboardService;
+
+    @Value("${loan.overdue-sweep.batch-size:1000}")
+    private int batchSize;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private volatile SweepStatus status = SweepStatus.idle();
+
+    /**
+     * 스케줄 실행 (기본: 매일 01:00, loan.overdue-sweep.cron으로 변경 가능, "-"이면 비활성화)
+     */
+    @Scheduled(cron = "${loan.overdue-sweep.cron:0 0 1 * * *}")
+    public void scheduledSweep() {
+        run();
+    }
+
+    /**
+     * 연체 갱신 실행 - 갱신된 대출 건수 반환 (이미 실행 중이면 -1)
+     */
+    public int run() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("연체 갱신 배치가 이미 실행 중입니다.");
+            return -1;
+        }
+
+        LocalDate today = LocalDate.now();
+        LocalDateTime startedAt = LocalDateTime.now();
+        int processed = 0;
+        int chunks = 0;
+        long lastId = 0L;
+        status = new SweepStatus(true, startedAt, null, 0, 0, 0L, null);
+        try {
+            while (true) {
+                List<Long> ids = loanRepository.findOverdueLoanIds(today, lastId, PageRequest.of(0, batchSize));
+                if (ids.isEmpty()) {
+                    break;
+                }
+
+                Integer updated = transactionTemplate.execute(tx -> loanRepository.markOverdueByIds(ids, today));
+                int marked = updated != null ? updated : 0;
+                processed += marked;
+                loanMetrics.loansOverdue(marked);
+                chunks++;
+                lastId = ids.get(ids.size() - 1);
+                status = new SweepStatus(true, startedAt, null, processed, chunks, lastId, null);
+            }
+
+            status = new SweepStatus(false, startedAt, LocalDateTime.now(), processed, chunks, lastId, null);
+            if (processed > 0) {
+                dashboardService.invalidate();
+            }
+            log.info("연체 갱신 배치 완료: {}건, {}개 청크", processed, chunks);
+            return processed;
+        } catch (RuntimeException e) {
+            status = new SweepStatus(false, startedAt, LocalDateTime.now(), processed, chunks, lastId, e.getMessage());
+            // 실패 전에 커밋된 청크가 있으면 통계에 반영
+            if (processed > 0) {
+                dashboardService.invalidate();
+            }
+            log.error("연체 갱신 배치 실패 (다음 실행 시 남은 대출부터 재처리): {}", e.getMessage());
+            throw e;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 현재/마지막 실행 진행 상황
+     */
+    public SweepStatus getStatus() {
+        return status;
+    }
+
+    /**
+     * 연체 갱신 배치 진행 상황
+     */
+    public record SweepStatus(boolean running, LocalDateTime startedAt, LocalDateTime finishedAt,
+                              int processed, int chunks, long lastProcessedId, String lastError) {
+
+        static SweepStatus idle() {
+            return new SweepStatus(false, null, null, 0, 0, 0L, null);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.days.book.metrics;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 대출 업무 지표 (Prometheus: library_loans_checkout_total 등)
+ * 대출/반납 건수는 트랜잭션이 커밋된 뒤에 반영 (롤백된 대출은 집계하지 않음)
+ */
+@Component
+public class LoanMetrics {
+
+    private final Counter loansCreated;
+    private final Counter loansReturned;
+    private final Counter loansOverdue;
+
+    public LoanMetrics(MeterRegistry registry) {
+        this.loansCreated = Counter.builder("library.loans.checkout")
+                .description("생성된 대출 건수")
+                .register(registry);
+        this.loansReturned = Counter.builder("library.loans.returned")
+                .description("반납 처리된 대출 건수")
+                .register(registry);
+        this.loansOverdue = Counter.builder("library.loans.overdue")
+                .description("연체 처리된 대출 건수")
+                .register(registry);
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 생성된 대출 건수 반영 (트랜잭션이 없으면 즉시)
+     */
+    public void loansCreatedAfterCommit(int count) {
+        if (count > 0) {
+            afterCommit(() -> loansCreated.increment(count));
+        }
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 반납된 대출 건수 반영 (트랜잭션이 없으면 즉시)
+     */
+    public void loansReturnedAfterCommit(int count) {
+        if (count > 0) {
+            afterCommit(() -> loansReturned.increment(count));
+        }
+    }
+
+    public void loansOverdue(int count) {
+        if (count > 0) {
+            loansOverdue.increment(count);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.days.book.metrics;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 정리 배치 삭제 건수 (Prometheus: library_purge_deleted_total{table="..."})
+ */
+@Component
+public class PurgeMetrics {
+
+    private final Counter verificationCodesDeleted;
+    private final Counter unverifiedUsersDeleted;
+    private final Counter mailOutboxDeleted;
+
+    public PurgeMetrics(MeterRegistry registry) {
+        this.verificationCodesDeleted = Counter.builder("library.purge.deleted")
+                .description("정리 배치로 삭제된 행 수")
+                .tag("table", "verification_codes")
+                .register(registry);
+        this.unverifiedUsersDeleted = Counter.builder("library.purge.deleted")
+                .description("정리 배치로 삭제된 행 수")
+                .tag("table", "users")
+                .register(registry);
+        this.mailOutboxDeleted = Counter.builder("library.purge.deleted")
+                .description("정리 배치로 삭제된 행 수")
+                .tag("table", "mail_outbox")
+                .register(registry);
+    }
+
+    public void verificationCodesDeleted(int count) {
+        if (count > 0) {
+            verificationCodesDeleted.increment(count);
+        }
+    }
+
+    public void unverifiedUsersDeleted(int count) {
+        if (count > 0) {
+            unverifiedUsersDeleted.increment(count);
+        }
+    }
+
+    public void mailOutboxDeleted(int count) {
+        if (count > 0) {
+            mailOutboxDeleted.increment(count);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.days.book.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import com.days.book.entity.Book;
+
+/**
+ * 도서 재고 조건부/일괄 갱신 및 일괄 입고 (JDBC)
+ * 갱신한 도서만 2차 캐시에서 제거 (JPQL 일괄 UPDATE는 books 캐시 영역 전체를 비우므로 사용하지 않음)
+ */
+public interface BookBatchRepository {
+
+    /**
+     * 대출 가능 재고 1 감소 (재고가 있을 때만, 변경된 행 수 반환)
+     */
+    int decrementAvailableCopies(Long id);
+
+    /**
+     * 대출 가능 재고 1 증가 (총 수량 미만일 때만, 변경된 행 수 반환)
+     */
+    int incrementAvailableCopies(Long id);
+
+    /**
+     * 여러 도서의 대출 가능 재고를 한 번에 1씩 감소 (재고가 있는 도서만, 변경된 행 수 반환)
+     */
+    int decrementAvailableCopiesIn(Collection<Long> ids);
+
+    /**
+     * 도서별 반납 권수만큼 대출 가능 재고 증가 (총 수량을 넘지 않음), 한 번의 배치로 실행
+     */
+    void incrementAvailableCopies(Map<Long, Integer> countsByBookId);
+
+    /**
+     * 도서별 입고 권수만큼 총 권수와 대출 가능 권수를 함께 증가 (일괄 입고 시 기존 ISBN), 한 번의 배치로 실행
+     */
+    void addCopies(Map<Long, Integer> copiesByBookId);
+
+    /**
+     * 신규 도서 일괄 INSERT (JDBC 배치, id는 채우지 않음)
+     */
+    void insertBooks(List<Book> books);
+}
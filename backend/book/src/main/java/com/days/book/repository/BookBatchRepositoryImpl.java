@@ -0,0 +1,128 @@
+package com.days.book.repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import com.days.book.entity.Book;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class BookBatchRepositoryImpl implements BookBatchRepository {
+
+    private static final String DECREMENT_COPY_SQL =
+            "UPDATE books SET available_copies = available_copies - 1, updated_at = CURRENT_TIMESTAMP " +
+            "WHERE id = ? AND available_copies > 0";
+
+    private static final String INCREMENT_COPY_SQL =
+            "UPDATE books SET available_copies = available_copies + 1, updated_at = CURRENT_TIMESTAMP " +
+            "WHERE id = ? AND available_copies < total_copies";
+
+    private static final String DECREMENT_COPIES_IN_SQL =
+            "UPDATE books SET available_copies = available_copies - 1, updated_at = CURRENT_TIMESTAMP " +
+            "WHERE id IN (:ids) AND available_copies > 0";
+
+    private static final String INCREMENT_COPIES_SQL =
+            "UPDATE books SET available_copies = LEAST(total_copies, available_copies + ?), updated_at = CURRENT_TIMESTAMP " +
+            "WHERE id = ?";
+
+    private static final String ADD_COPIES_SQL =
+            "UPDATE books SET total_copies = total_copies + ?, available_copies = available_copies + ?, " +
+            "updated_at = CURRENT_TIMESTAMP WHERE id = ?";
+
+    private static final String INSERT_BOOK_SQL =
+            "INSERT INTO books (title, author, isbn, category, publisher, published_date, total_copies, available_copies, " +
+            "description, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityCacheEvictor entityCacheEvictor;
+
+    @Override
+    public int decrementAvailableCopies(Long id) {
+        int updated = jdbcTemplate.update(DECREMENT_COPY_SQL, id);
+        entityCacheEvictor.evict(Book.class, List.of(id));
+        return updated;
+    }
+
+    @Override
+    public int incrementAvailableCopies(Long id) {
+        int updated = jdbcTemplate.update(INCREMENT_COPY_SQL, id);
+        entityCacheEvictor.evict(Book.class, List.of(id));
+        return updated;
+    }
+
+    @Override
+    public int decrementAvailableCopiesIn(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        int updated = new NamedParameterJdbcTemplate(jdbcTemplate).update(DECREMENT_COPIES_IN_SQL, Map.of("ids", ids));
+        entityCacheEvictor.evict(Book.class, ids);
+        return updated;
+    }
+
+    @Override
+    public void incrementAvailableCopies(Map<Long, Integer> countsByBookId) {
+        if (countsByBookId.isEmpty()) {
+            return;
+        }
+        // id 순서로 갱신하여 동시 갱신 시 교착 방지
+        List<Map.Entry<Long, Integer>> entries = new ArrayList<>(countsByBookId.entrySet());
+        entries.sort(Map.Entry.comparingByKey());
+        jdbcTemplate.batchUpdate(INCREMENT_COPIES_SQL, entries, entries.size(), (ps, entry) -> {
+            ps.setInt(1, entry.getValue());
+            ps.setLong(2, entry.getKey());
+        });
+        entityCacheEvictor.evict(Book.class, countsByBookId.keySet());
+    }
+
+    @Override
+    public void addCopies(Map<Long, Integer> copiesByBookId) {
+        if (copiesByBookId.isEmpty()) {
+            return;
+        }
+        // id 순서로 갱신하여 동시 갱신 시 교착 방지
+        List<Map.Entry<Long, Integer>> entries = new ArrayList<>(copiesByBookId.entrySet());
+        entries.sort(Map.Entry.comparingByKey());
+        jdbcTemplate.batchUpdate(ADD_COPIES_SQL, entries, entries.size(), (ps, entry) -> {
+            ps.setInt(1, entry.getValue());
+            ps.setInt(2, entry.getValue());
+            ps.setLong(3, entry.getKey());
+        });
+        entityCacheEvictor.evict(Book.class, copiesByBookId.keySet());
+    }
+
+    @Override
+    public void insertBooks(List<Book> books) {
+        if (books.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_BOOK_SQL, books, books.size(), (ps, book) -> {
+            ps.setString(1, book.getTitle());
+            ps.setString(2, book.getAuthor());
+            ps.setString(3, book.getIsbn());
+            ps.setString(4, book.getCategory());
+            ps.setString(5, book.getPublisher());
+            if (book.getPublishedDate() != null) {
+                ps.setDate(6, Date.valueOf(book.getPublishedDate()));
+            } else {
+                ps.setNull(6, Types.DATE);
+            }
+            ps.setInt(7, book.getTotalCopies());
+            ps.setInt(8, book.getAvailableCopies());
+            ps.setString(9, book.getDescription());
+            ps.setTimestamp(10, now);
+            ps.setTimestamp(11, now);
+        });
+    }
+}
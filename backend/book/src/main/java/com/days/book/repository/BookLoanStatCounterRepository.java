@@ -0,0 +1,20 @@
+package com.days.book.repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+/**
+ * 인기 도서 통계 카운터 갱신 (JDBC upsert)
+ */
+public interface BookLoanStatCounterRepository {
+
+    /**
+     * 대출된 도서들의 누적/일자별 대출 횟수를 1씩 증가 (같은 도서가 여러 번 있으면 그만큼 증가)
+     */
+    void incrementLoanCounts(Collection<Long> bookIds, LocalDate loanDate);
+
+    /**
+     * loans 테이블에서 통계 전체 재계산 - 재계산된 도서 수 반환
+     */
+    int rebuildFromLoans();
+}
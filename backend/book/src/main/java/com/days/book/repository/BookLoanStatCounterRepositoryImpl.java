@@ -0,0 +1,69 @@
+package com.days.book.repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class BookLoanStatCounterRepositoryImpl implements BookLoanStatCounterRepository {
+
+    private static final String UPSERT_TOTAL_SQL =
+            "INSERT INTO book_loan_stats (book_id, total_loans, last_loaned_at) VALUES (?, ?, CURRENT_TIMESTAMP) " +
+            "ON DUPLICATE KEY UPDATE total_loans = total_loans + ?, last_loaned_at = CURRENT_TIMESTAMP";
+
+    private static final String UPSERT_DAILY_SQL =
+            "INSERT INTO book_loan_daily_stats (book_id, stat_date, loan_count) VALUES (?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE loan_count = loan_count + ?";
+
+    private static final String REBUILD_TOTAL_SQL =
+            "INSERT INTO book_loan_stats (book_id, total_loans, last_loaned_at) " +
+            "SELECT l.book_id, COUNT(*), MAX(l.created_at) FROM loans l JOIN books b ON b.id = l.book_id GROUP BY l.book_id";
+
+    private static final String REBUILD_DAILY_SQL =
+            "INSERT INTO book_loan_daily_stats (book_id, stat_date, loan_count) " +
+            "SELECT l.book_id, l.loan_date, COUNT(*) FROM loans l JOIN books b ON b.id = l.book_id " +
+            "WHERE l.loan_date IS NOT NULL GROUP BY l.book_id, l.loan_date";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void incrementLoanCounts(Collection<Long> bookIds, LocalDate loanDate) {
+        if (bookIds.isEmpty()) {
+            return;
+        }
+        // 도서 id 순서로 갱신하여 동시 갱신 시 교착 방지
+        Map<Long, Integer> counts = new TreeMap<>();
+        for (Long bookId : bookIds) {
+            counts.merge(bookId, 1, Integer::sum);
+        }
+        List<Map.Entry<Long, Integer>> entries = new ArrayList<>(counts.entrySet());
+        jdbcTemplate.batchUpdate(UPSERT_TOTAL_SQL, entries, entries.size(), (ps, entry) -> {
+            ps.setLong(1, entry.getKey());
+            ps.setInt(2, entry.getValue());
+            ps.setInt(3, entry.getValue());
+        });
+        Date day = Date.valueOf(loanDate);
+        jdbcTemplate.batchUpdate(UPSERT_DAILY_SQL, entries, entries.size(), (ps, entry) -> {
+            ps.setLong(1, entry.getKey());
+            ps.setDate(2, day);
+            ps.setInt(3, entry.getValue());
+            ps.setInt(4, entry.getValue());
+        });
+    }
+
+    @Override
+    public int rebuildFromLoans() {
+        jdbcTemplate.update("DELETE FROM book_loan_daily_stats");
+        jdbcTemplate.update("DELETE FROM book_loan_stats");
+        jdbcTemplate.update(REBUILD_DAILY_SQL);
+        return jdbcTemplate.update(REBUILD_TOTAL_SQL);
+    }
+}
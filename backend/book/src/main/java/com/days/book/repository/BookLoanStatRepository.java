@@ -0,0 +1,37 @@
+package com.days.book.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.days.book.dto.PopularBookDTO;
+import com.days.book.entity.BookLoanStat;
+
+@Repository
+public interface BookLoanStatRepository extends JpaRepository<BookLoanStat, Long>, BookLoanStatCounterRepository {
+
+    // 누적 대출 횟수 상위 N권 (total_loans 인덱스 순서로 N건만 읽음)
+    @Query("SELECT new com.days.book.dto.PopularBookDTO(b.id, b.title, b.author, b.isbn, b.category, b.availableCopies, s.totalLoans) " +
+           "FROM BookLoanStat s JOIN Book b ON b.id = s.bookId " +
+           "ORDER BY s.totalLoans DESC, s.bookId DESC")
+    List<PopularBookDTO> findTopBooks(Pageable pageable);
+
+    // 기간 내 대출 횟수 상위 N권 (일자별 집계 테이블 기준)
+    @Query("SELECT new com.days.book.dto.PopularBookDTO(b.id, b.title, b.author, b.isbn, b.category, b.availableCopies, SUM(d.loanCount)) " +
+           "FROM BookLoanDailyStat d JOIN Book b ON b.id = d.bookId " +
+           "WHERE d.statDate >= :from " +
+           "GROUP BY b.id, b.title, b.author, b.isbn, b.category, b.availableCopies " +
+           "ORDER BY SUM(d.loanCount) DESC, b.id DESC")
+    List<PopularBookDTO> findTopBooksSince(@Param("from") LocalDate from, Pageable pageable);
+
+    // 보관 기간이 지난 일자별 통계 삭제
+    @Modifying
+    @Query("DELETE FROM BookLoanDailyStat d WHERE d.statDate < :before")
+    int deleteDailyStatsBefore(@Param("before") LocalDate before);
+}
@@ -1,19 +1,30 @@
 package com.days.book.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.days.book.dto.BookSummaryDTO;
 import com.days.book.entity.Book;
 
+import jakarta.persistence.LockModeType;
+
 @Repository
-public interface BookRepository extends JpaRepository<Book, Long>{
+public interface BookRepository extends JpaRepository<Book, Long>, BookBatchRepository {
 
     Optional<Book> findByIsbn(String isbn);
+    
+    // ISBN 일괄 조회 (도서 일괄 입고 중복 확인용) - [id, isbn]
+    @Query("SELECT b.id, b.isbn FROM Book b WHERE b.isbn IN :isbns")
+    List<Object[]> findIdAndIsbnByIsbnIn(@Param("isbns") Collection<String> isbns);
 
     List<Book> findByTitleContaining(String title);
 
@@ -27,13 +38,30 @@ public interface BookRepository extends JpaRepository<Book, Long>{
 
     List<Book> findByTitleContainingAndAuthorContaining(String title, String author);
 
+    // id 기준 청크 조회 (검색 색인 재구성용)
+    List<Book> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    // 목록용 경량 프로젝션 (description 제외, 정렬/페이지는 Pageable로 지정)
+    @Query(value = "SELECT new com.days.book.dto.BookSummaryDTO(" +
+                   "b.id, b.title, b.author, b.isbn, b.category, b.publishedDate, b.totalCopies, b.availableCopies) " +
+                   "FROM Book b",
+           countQuery = "SELECT COUNT(b) FROM Book b")
+    Page<BookSummaryDTO> findAllSummaries(Pageable pageable);
+
+    // 목록용 경량 프로젝션 - id 커서(keyset) 기반 조회
+    @Query("SELECT new com.days.book.dto.BookSummaryDTO(" +
+           "b.id, b.title, b.author, b.isbn, b.category, b.publishedDate, b.totalCopies, b.availableCopies) " +
+           "FROM Book b WHERE b.id > :lastId ORDER BY b.id ASC")
+    List<BookSummaryDTO> findSummariesAfterId(@Param("lastId") Long lastId, Pageable pageable);
+
     @Query("SELECT b FROM Book b WHERE b.title LIKE %:keyword% OR b.author LIKE %:keyword%")
     List<Book> findByKeyword(@Param("keyword") String keyword);
 
     @Query("SELECT b FROM Book b WHERE b.availableCopies = 0")
     List<Book> findOutOfStockBooks();
 
-    @Query("SELECT b FROM Book b LEFT JOIN Loan l ON b.id = l.book.id " +
-           "GROUP BY b.id ORDER BY COUNT(l.id) DESC")
-    List<Book> findPopularBooks();
+    // 여러 도서 행 잠금 조회 (SELECT ... FOR UPDATE, 교착 방지를 위해 id 순서로 잠금)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM Book b WHERE b.id IN :ids ORDER BY b.id")
+    List<Book> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,63 @@
+package com.days.book.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * JDBC로 직접 갱신한 엔티티의 2차 캐시 무효화
+ * Hibernate를 거치지 않은 UPDATE는 캐시에 반영되지 않으므로 갱신 직후와 트랜잭션 종료 후(커밋/롤백) 두 번 제거
+ * (트랜잭션 도중 다른 요청이 이전 값을 다시 캐시에 올려도 종료 시점에 정리됨)
+ */
+@Component
+@RequiredArgsConstructor
+public class EntityCacheEvictor {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public void evict(Class<?> entityType, Collection<?> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        List<?> targets = List.copyOf(ids);
+        evictNow(entityType, targets);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evictNow(entityType, targets);
+                }
+            });
+        }
+    }
+
+    /**
+     * JDBC로 행을 추가/삭제한 경우 캐시된 쿼리 결과 무효화
+     * Hibernate가 테이블 변경 시각을 알 수 없으므로 기본 쿼리 캐시 영역 전체를 같은 시점(직후/트랜잭션 종료 후)에 제거
+     */
+    public void evictQueryResults() {
+        org.hibernate.Cache cache = entityManagerFactory.getCache().unwrap(org.hibernate.Cache.class);
+        cache.evictDefaultQueryRegion();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.evictDefaultQueryRegion();
+                }
+            });
+        }
+    }
+
+    private void evictNow(Class<?> entityType, List<?> ids) {
+        jakarta.persistence.Cache cache = entityManagerFactory.getCache();
+        for (Object id : ids) {
+            cache.evict(entityType, id);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.days.book.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 대출 일괄 INSERT (JDBC 배치)
+ * Loan은 IDENTITY 전략이라 Hibernate가 INSERT를 배치로 묶지 못하므로 JdbcTemplate으로 직접 실행
+ */
+public interface LoanBatchRepository {
+
+    int[] insertActiveLoans(Long memberId, List<Long> bookIds, LocalDate loanDate, LocalDate dueDate);
+}
@@ -0,0 +1,37 @@
+package com.days.book.repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.days.book.entity.Loan.LoanStatus;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class LoanBatchRepositoryImpl implements LoanBatchRepository {
+
+    private static final String INSERT_LOAN_SQL =
+            "INSERT INTO loans (book_id, member_id, loan_date, due_date, status, overdue_fee, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, 0, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int[] insertActiveLoans(Long memberId, List<Long> bookIds, LocalDate loanDate, LocalDate dueDate) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return jdbcTemplate.batchUpdate(INSERT_LOAN_SQL, bookIds, bookIds.size(), (ps, bookId) -> {
+            ps.setLong(1, bookId);
+            ps.setLong(2, memberId);
+            ps.setDate(3, Date.valueOf(loanDate));
+            ps.setDate(4, Date.valueOf(dueDate));
+            ps.setString(5, LoanStatus.ACTIVE.name());
+            ps.setTimestamp(6, now);
+            ps.setTimestamp(7, now);
+        })[0];
+    }
+}
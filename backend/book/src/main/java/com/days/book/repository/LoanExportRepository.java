@@ -0,0 +1,21 @@
+package com.days.book.repository;
+
+import java.time.LocalDate;
+import java.util.stream.Stream;
+
+import com.days.book.dto.LoanResponseDTO;
+import com.days.book.entity.Loan.LoanStatus;
+
+/**
+ * 대출 원장 내보내기용 스트리밍 조회 (JDBC forward-only 커서)
+ * 결과를 List로 모으지 않고 fetch size 단위로 읽어 대용량 내보내기도 일정한 힙 사용량으로 처리
+ */
+public interface LoanExportRepository {
+
+    /**
+     * 대출일(from~to) / 상태 조건으로 대출 DTO를 (loan_date, id) 순으로 스트리밍 - null 조건은 무시
+     * 연체 일수/여부는 today 기준으로 SQL에서 계산
+     * 반환된 Stream은 트랜잭션 안에서 소비하고 반드시 close 해야 함 (커넥션/커서 반환)
+     */
+    Stream<LoanResponseDTO> streamLoansForExport(LocalDate from, LocalDate to, LoanStatus status, LocalDate today);
+}
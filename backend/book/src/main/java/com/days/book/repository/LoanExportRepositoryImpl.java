@@ -0,0 +1,119 @@
+package com.days.book.repository;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.days.book.dto.LoanResponseDTO;
+import com.days.book.entity.Loan.LoanStatus;
+
+public class LoanExportRepositoryImpl implements LoanExportRepository {
+
+    // LOAN_DTO_SELECT와 같은 컬럼/기본값 (삭제된 도서/회원도 포함), 연체 일수/여부도 SQL에서 계산 (첫 두 파라미터 = 기준일)
+    private static final String EXPORT_SELECT_SQL =
+            "SELECT l.id, l.loan_date, l.due_date, l.return_date, l.status, l.overdue_fee, l.notes, l.created_at, l.updated_at, " +
+            "COALESCE(b.id, 0), COALESCE(b.title, '삭제된 도서'), COALESCE(b.author, '정보없음'), COALESCE(b.isbn, '정보없음'), COALESCE(b.category, '정보없음'), " +
+            "COALESCE(m.id, 0), COALESCE(m.name, '삭제된 회원'), COALESCE(m.email, '정보없음'), COALESCE(m.member_number, '정보없음'), " +
+            "GREATEST(TIMESTAMPDIFF(DAY, l.due_date, COALESCE(l.return_date, ?)), 0), l.due_date < COALESCE(l.return_date, ?) " +
+            "FROM loans l " +
+            "LEFT JOIN books b ON b.id = l.book_id " +
+            "LEFT JOIN members m ON m.id = l.member_id";
+
+    private static final String MYSQL = "MySQL";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int fetchSize;
+
+    public LoanExportRepositoryImpl(JdbcTemplate jdbcTemplate,
+                                    @Value("${loan.export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public Stream<LoanResponseDTO> streamLoansForExport(LocalDate from, LocalDate to, LoanStatus status, LocalDate today) {
+        StringBuilder sql = new StringBuilder(EXPORT_SELECT_SQL);
+        List<Object> params = new ArrayList<>(List.of(Date.valueOf(today), Date.valueOf(today)));
+        String prefix = " WHERE ";
+        if (from != null) {
+            sql.append(prefix).append("l.loan_date >= ?");
+            params.add(Date.valueOf(from));
+            prefix = " AND ";
+        }
+        if (to != null) {
+            sql.append(prefix).append("l.loan_date <= ?");
+            params.add(Date.valueOf(to));
+            prefix = " AND ";
+        }
+        if (status != null) {
+            sql.append(prefix).append("l.status = ?");
+            params.add(status.name());
+        }
+        // idx_loans_loan_date (loan_date, id) 순서 그대로 읽음
+        sql.append(" ORDER BY l.loan_date, l.id");
+
+        return jdbcTemplate.queryForStream(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql.toString(),
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(streamingFetchSize(connection));
+            for (int i = 0; i < params.size(); i++) {
+                ps.setObject(i + 1, params.get(i));
+            }
+            return ps;
+        }, (rs, rowNum) -> mapRow(rs));
+    }
+
+    // MySQL 드라이버는 forward-only/read-only + Integer.MIN_VALUE일 때만 행 단위 스트리밍
+    // (URL의 useCursorFetch=true는 앱 전체를 서버 측 prepared statement로 바꾸므로 사용하지 않음)
+    // 스트리밍 중에는 같은 커넥션에서 다른 쿼리를 실행할 수 없으므로 내보내기 트랜잭션에서만 사용
+    private int streamingFetchSize(Connection connection) throws SQLException {
+        if (MYSQL.equals(connection.getMetaData().getDatabaseProductName())) {
+            return Integer.MIN_VALUE;
+        }
+        return fetchSize;
+    }
+
+    private static LoanResponseDTO mapRow(ResultSet rs) throws SQLException {
+        return LoanResponseDTO.builder()
+                .id(rs.getLong(1))
+                .loanDate(toLocalDate(rs.getDate(2)))
+                .dueDate(toLocalDate(rs.getDate(3)))
+                .returnDate(toLocalDate(rs.getDate(4)))
+                .status(LoanStatus.valueOf(rs.getString(5)))
+                .overdueFee(rs.getObject(6) != null ? rs.getInt(6) : null)
+                .notes(rs.getString(7))
+                .createdAt(toLocalDateTime(rs.getTimestamp(8)))
+                .updatedAt(toLocalDateTime(rs.getTimestamp(9)))
+                .bookId(rs.getLong(10))
+                .bookTitle(rs.getString(11))
+                .bookAuthor(rs.getString(12))
+                .bookIsbn(rs.getString(13))
+                .bookCategory(rs.getString(14))
+                .memberId(rs.getLong(15))
+                .memberName(rs.getString(16))
+                .memberEmail(rs.getString(17))
+                .memberNumber(rs.getString(18))
+                .overdueDays(rs.getLong(19))
+                .overdue(rs.getBoolean(20))
+                .build();
+    }
+
+    private static LocalDate toLocalDate(Date date) {
+        return date != null ? date.toLocalDate() : null;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
@@ -1,11 +1,13 @@
 package com.days.book.repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -16,10 +18,31 @@ import com.days.book.entity.Book;
 import com.days.book.entity.Loan;
 import com.days.book.entity.Loan.LoanStatus;
 import com.days.book.entity.Member;
+import com.days.book.dto.DashboardStatsDTO;
 import com.days.book.dto.LoanResponseDTO;
 
+import jakarta.persistence.LockModeType;
+
 @Repository
-public interface LoanRepository extends JpaRepository<Loan, Long> {
+public interface LoanRepository extends JpaRepository<Loan, Long>, LoanBatchRepository, LoanExportRepository {
+    
+    // 연체 일수/여부 (반납일, 미반납이면 :today 기준) - 서비스에서 다시 계산하지 않도록 SQL에서 바로 채움
+    String LOAN_OVERDUE_COLUMNS =
+           "CASE WHEN l.dueDate < COALESCE(l.returnDate, :today) THEN (COALESCE(l.returnDate, :today) - l.dueDate) BY DAY ELSE 0L END, " +
+           "CASE WHEN l.dueDate < COALESCE(l.returnDate, :today) THEN true ELSE false END) ";
+    
+    // 반납되지 않은 대출 조건 - 연체 배치가 OVERDUE로 바꾼 미반납 대출 포함 (연체 반납도 OVERDUE이므로 반납일로 구분)
+    String OPEN_LOAN = "l.returnDate IS NULL AND l.status IN ('ACTIVE', 'OVERDUE') ";
+    
+    // 대출 DTO 프로젝션 공통 SELECT (도서/회원을 한 번에 조인하여 행마다 추가 조회 없음)
+    String LOAN_DTO_SELECT = "SELECT new com.days.book.dto.LoanResponseDTO(" +
+           "l.id, l.loanDate, l.dueDate, l.returnDate, l.status, l.overdueFee, l.notes, l.createdAt, l.updatedAt, " +
+           "COALESCE(b.id, 0L), COALESCE(b.title, '삭제된 도서'), COALESCE(b.author, '정보없음'), COALESCE(b.isbn, '정보없음'), COALESCE(b.category, '정보없음'), " +
+           "COALESCE(m.id, 0L), COALESCE(m.name, '삭제된 회원'), COALESCE(m.email, '정보없음'), COALESCE(m.memberNumber, '정보없음'), " +
+           LOAN_OVERDUE_COLUMNS +
+           "FROM Loan l " +
+           "LEFT JOIN l.book b " +
+           "LEFT JOIN l.member m ";
     
     // 회원의 특정 상태 대출 조회
     List<Loan> findByMemberAndStatus(Member member, LoanStatus status);
@@ -79,12 +102,28 @@ public interface LoanRepository extends JpaRepository<Loan, Long> {
     // 회원의 모든 대출 기록 삭제 (강제 삭제용)
     void deleteByMember(Member member);
     
-    // 오늘까지 연체된 대출 자동 조회 (배치용)
-    @Query("SELECT l FROM Loan l WHERE l.status = 'ACTIVE' AND l.dueDate < :today")
+    // 반납 예정일이 지난 미반납 대출 조회
+    @Query("SELECT l FROM Loan l WHERE " + OPEN_LOAN + "AND l.dueDate < :today")
     List<Loan> findOverdueLoans(@Param("today") LocalDate today);
     
-    // 특정 회원의 활성 대출 조회
-    @Query("SELECT l FROM Loan l WHERE l.member = :member AND l.status = 'ACTIVE'")
+    // 반납 예정일이 지난 미반납 대출 건수 조회 (엔티티 로딩 없이 COUNT)
+    @Query("SELECT COUNT(l) FROM Loan l WHERE " + OPEN_LOAN + "AND l.dueDate < :today")
+    long countOverdueLoans(@Param("today") LocalDate today);
+    
+    // 연체 대상 대출 ID 청크 조회 (id 오름차순 keyset)
+    @Query("SELECT l.id FROM Loan l WHERE l.status = 'ACTIVE' AND l.dueDate < :today AND l.id > :lastId ORDER BY l.id")
+    List<Long> findOverdueLoanIds(@Param("today") LocalDate today, @Param("lastId") Long lastId, Pageable pageable);
+    
+    // 연체 상태/연체료 일괄 갱신 (연체일수 * 100원, ACTIVE 조건으로 재실행해도 안전)
+    @Modifying
+    @Query("UPDATE Loan l SET l.status = 'OVERDUE', " +
+           "l.overdueFee = ((:today - l.dueDate) by day) * 100, " +
+           "l.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE l.id IN :ids AND l.status = 'ACTIVE' AND l.dueDate < :today")
+    int markOverdueByIds(@Param("ids") List<Long> ids, @Param("today") LocalDate today);
+    
+    // 특정 회원의 미반납 대출 조회
+    @Query("SELECT l FROM Loan l WHERE l.member = :member AND " + OPEN_LOAN)
     List<Loan> findActiveLoansByMember(@Param("member") Member member);
     
     // 최근 대출 조회 (대출일 기준 최신순, 삭제된 엔티티도 포함) - Pageable 지원
@@ -116,14 +155,134 @@ public interface LoanRepository extends JpaRepository<Loan, Long> {
     void updateBookToNullByBookId(@Param("bookId") Long bookId);
     
     // DTO 방식으로 모든 대출 조회 (프록시 문제 해결) - NULL 처리 개선 및 삭제된 엔티티 포함, 최신순 정렬
-    @Query("SELECT new com.days.book.dto.LoanResponseDTO(" +
-           "l.id, l.loanDate, l.dueDate, l.returnDate, l.status, l.overdueFee, l.notes, l.createdAt, l.updatedAt, " +
-           "COALESCE(b.id, 0L), COALESCE(b.title, '삭제된 도서'), COALESCE(b.author, '정보없음'), COALESCE(b.isbn, '정보없음'), COALESCE(b.category, '정보없음'), " +
-           "COALESCE(m.id, 0L), COALESCE(m.name, '삭제된 회원'), COALESCE(m.email, '정보없음'), COALESCE(m.memberNumber, '정보없음'), " +
-           "0L, false) " +
-           "FROM Loan l " +
-           "LEFT JOIN l.book b " +
-           "LEFT JOIN l.member m " +
+    @Query(LOAN_DTO_SELECT + "ORDER BY l.loanDate DESC, l.id DESC")
+    List<LoanResponseDTO> findAllLoansAsDTO(@Param("today") LocalDate today);
+    
+    // DTO 방식으로 최근 대출 조회 (대시보드용, Pageable로 limit 적용)
+    @Query(LOAN_DTO_SELECT + "ORDER BY l.loanDate DESC, l.id DESC")
+    List<LoanResponseDTO> findRecentLoansAsDTO(@Param("today") LocalDate today, Pageable pageable);
+    
+    // 대시보드 통계 단일 집계 쿼리 (상태별 건수, 연체 건수, 도서/회원 총계)
+    @Query("SELECT new com.days.book.dto.DashboardStatsDTO(" +
+           "(SELECT COUNT(b) FROM Book b), " +
+           "(SELECT COUNT(m) FROM Member m), " +
+           "COUNT(l), " +
+           "COALESCE(SUM(CASE WHEN l.status = 'ACTIVE' THEN 1L ELSE 0L END), 0L), " +
+           "COALESCE(SUM(CASE WHEN l.status = 'RETURNED' THEN 1L ELSE 0L END), 0L), " +
+           "COALESCE(SUM(CASE WHEN l.status = 'OVERDUE' THEN 1L ELSE 0L END), 0L), " +
+           "COALESCE(SUM(CASE WHEN l.status = 'LOST' THEN 1L ELSE 0L END), 0L), " +
+           "COALESCE(SUM(CASE WHEN " + OPEN_LOAN + "AND l.dueDate < :today THEN 1L ELSE 0L END), 0L)) " +
+           "FROM Loan l")
+    DashboardStatsDTO getDashboardStats(@Param("today") LocalDate today);
+    
+    // 회원별 대출 DTO 조회 - 첫 페이지 (idx_loans_member_loan_date 인덱스 사용)
+    @Query(LOAN_DTO_SELECT + "WHERE m.id = :memberId ORDER BY l.loanDate DESC, l.id DESC")
+    List<LoanResponseDTO> findLoansAsDTOByMemberId(@Param("memberId") Long memberId, @Param("today") LocalDate today,
+                                                     Pageable pageable);
+    
+    // 회원별 대출 DTO 조회 - 커서 이후 페이지 (loanDate, id) keyset 페이지네이션
+    @Query(LOAN_DTO_SELECT + "WHERE m.id = :memberId " +
+           "AND (l.loanDate < :cursorDate OR (l.loanDate = :cursorDate AND l.id < :cursorId)) " +
            "ORDER BY l.loanDate DESC, l.id DESC")
-    List<LoanResponseDTO> findAllLoansAsDTO();
-}
\ No newline at end of file
+    List<LoanResponseDTO> findLoansAsDTOByMemberIdAfterCursor(@Param("memberId") Long memberId,
+                                                              @Param("cursorDate") LocalDate cursorDate,
+                                                              @Param("cursorId") Long cursorId,
+                                                              @Param("today") LocalDate today,
+                                                              Pageable pageable);
+    
+    // 회원이 특정 도서를 반납하지 않았는지 확인 (연체 중 포함, 같은 도서 중복 대출 방지)
+    @Query("SELECT CASE WHEN COUNT(l) > 0 THEN true ELSE false END FROM Loan l " +
+           "WHERE l.member = :member AND l.book.id = :bookId AND " + OPEN_LOAN)
+    boolean existsOpenLoanByMemberAndBookId(@Param("member") Member member, @Param("bookId") Long bookId);
+    
+    // 회원의 미반납 대출 수 (연체 중 포함, 대출 한도 확인용)
+    @Query("SELECT COUNT(l) FROM Loan l WHERE l.member = :member AND " + OPEN_LOAN)
+    long countOpenLoansByMember(@Param("member") Member member);
+    
+    // 회원의 전체 대출 건수 조회
+    long countByMember(Member member);
+    
+    // 회원의 연체 중인 대출 건수 조회 (반납 예정일이 지난 미반납 대출)
+    @Query("SELECT COUNT(l) FROM Loan l WHERE l.member = :member AND " + OPEN_LOAN + "AND l.dueDate < :today")
+    long countOverdueLoansByMember(@Param("member") Member member, @Param("today") LocalDate today);
+    
+    // 회원의 특정 상태 대출 DTO 조회
+    @Query(LOAN_DTO_SELECT + "WHERE m.id = :memberId AND l.status = :status ORDER BY l.loanDate DESC, l.id DESC")
+    List<LoanResponseDTO> findLoansAsDTOByMemberIdAndStatus(@Param("memberId") Long memberId, @Param("status") LoanStatus status,
+                                                              @Param("today") LocalDate today);
+    
+    // 도서의 대출 이력 DTO 조회 (최신순)
+    @Query(LOAN_DTO_SELECT + "WHERE b.id = :bookId ORDER BY l.loanDate DESC, l.id DESC")
+    List<LoanResponseDTO> findLoansAsDTOByBookId(@Param("bookId") Long bookId, @Param("today") LocalDate today);
+    
+    // 회원의 미반납 대출 DTO 조회 (연체 중 포함)
+    @Query(LOAN_DTO_SELECT + "WHERE m.id = :memberId AND " + OPEN_LOAN + "ORDER BY l.loanDate DESC, l.id DESC")
+    List<LoanResponseDTO> findOpenLoansAsDTOByMemberId(@Param("memberId") Long memberId, @Param("today") LocalDate today);
+    
+    // 연체된 대출 DTO 조회 (반납 예정일이 지난 미반납 대출)
+    @Query(LOAN_DTO_SELECT + "WHERE " + OPEN_LOAN + "AND l.dueDate < :today ORDER BY l.dueDate, l.id")
+    List<LoanResponseDTO> findOverdueLoansAsDTO(@Param("today") LocalDate today);
+    
+    // 반납 예정일 기준 대출 DTO 조회
+    @Query(LOAN_DTO_SELECT + "WHERE l.dueDate = :dueDate AND l.status = :status ORDER BY l.id")
+    List<LoanResponseDTO> findLoansAsDTOByDueDateAndStatus(@Param("dueDate") LocalDate dueDate, @Param("status") LoanStatus status,
+                                                             @Param("today") LocalDate today);
+    
+    // 상태별 대출 DTO 조회
+    @Query(LOAN_DTO_SELECT + "WHERE l.status = :status ORDER BY l.loanDate DESC, l.id DESC")
+    List<LoanResponseDTO> findLoansAsDTOByStatus(@Param("status") LoanStatus status, @Param("today") LocalDate today);
+    
+    // 기간별 대출 DTO 조회
+    @Query(LOAN_DTO_SELECT + "WHERE l.loanDate BETWEEN :startDate AND :endDate ORDER BY l.loanDate DESC, l.id DESC")
+    List<LoanResponseDTO> findLoansAsDTOByLoanDateBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate,
+                                                            @Param("today") LocalDate today);
+    
+    // 회원이 반납하지 않은 도서 ID 조회 (연체 중 포함, 일괄 대출 중복 확인용)
+    @Query("SELECT l.book.id FROM Loan l WHERE l.member = :member AND " + OPEN_LOAN + "AND l.book.id IN :bookIds")
+    List<Long> findActiveBookIdsByMember(@Param("member") Member member, @Param("bookIds") Collection<Long> bookIds);
+    
+    // 회원의 활성 대출 (도서 ID, 대출 ID) 조회 (일괄 대출 후 생성된 대출 ID 확인용)
+    @Query("SELECT l.book.id, l.id FROM Loan l WHERE l.member = :member AND l.status = 'ACTIVE' AND l.book.id IN :bookIds")
+    List<Object[]> findActiveLoanIdsByMember(@Param("member") Member member, @Param("bookIds") Collection<Long> bookIds);
+    
+    // 대출 행 잠금 조회 (일괄 반납 시 동시 반납으로 재고가 두 번 증가하지 않도록 id 순서로 잠금)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT l FROM Loan l WHERE l.id IN :ids ORDER BY l.id")
+    List<Loan> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
+    
+    // 반납되지 않은 대출 조회 - ISBN + 회원 기준 (스캐너 반납용, 오래된 대출 순)
+    @Query("SELECT l.id, b.isbn, m.id FROM Loan l JOIN l.book b JOIN l.member m " +
+           "WHERE l.returnDate IS NULL AND l.status <> 'RETURNED' AND b.isbn IN :isbns AND m.id IN :memberIds " +
+           "ORDER BY l.id")
+    List<Object[]> findUnreturnedLoanIdsByIsbnAndMember(@Param("isbns") Collection<String> isbns,
+                                                        @Param("memberIds") Collection<Long> memberIds);
+    
+    // 일괄 반납 처리 (Loan.returnBook()과 같은 규칙: 연체 반납은 OVERDUE, 연체료 = 연체일수 * 100원)
+    @Modifying
+    @Query("UPDATE Loan l SET l.returnDate = :today, " +
+           "l.overdueFee = CASE WHEN l.dueDate < :today THEN ((:today - l.dueDate) by day) * 100 ELSE 0 END, " +
+           "l.status = CASE WHEN l.dueDate < :today THEN 'OVERDUE' ELSE 'RETURNED' END, " +
+           "l.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE l.id IN :ids AND l.returnDate IS NULL AND l.status <> 'RETURNED'")
+    int returnLoansByIds(@Param("ids") Collection<Long> ids, @Param("today") LocalDate today);
+    
+    // 도서/회원이 없거나 존재하지 않는 대출 ID 청크 조회 (anti-join, id 오름차순 keyset)
+    // 연관관계 조인은 FK 컬럼으로 최적화될 수 있으므로 엔티티 조인으로 실제 행 존재 여부 확인
+    @Query("SELECT l.id FROM Loan l " +
+           "LEFT JOIN Book b ON b.id = l.book.id " +
+           "LEFT JOIN Member m ON m.id = l.member.id " +
+           "WHERE (b.id IS NULL OR m.id IS NULL) AND l.id > :lastId ORDER BY l.id")
+    List<Long> findInvalidLoanIds(@Param("lastId") Long lastId, Pageable pageable);
+    
+    // 도서/회원이 없거나 존재하지 않는 대출 건수
+    @Query("SELECT COUNT(l) FROM Loan l " +
+           "LEFT JOIN Book b ON b.id = l.book.id " +
+           "LEFT JOIN Member m ON m.id = l.member.id " +
+           "WHERE b.id IS NULL OR m.id IS NULL")
+    long countInvalidLoans();
+    
+    // 대출 일괄 삭제 (엔티티 로딩 없이 단일 DELETE)
+    @Modifying
+    @Query("DELETE FROM Loan l WHERE l.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+}
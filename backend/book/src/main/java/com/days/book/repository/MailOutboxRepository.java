@@ -0,0 +1,62 @@
+package com.days.book.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.days.book.entity.MailOutbox;
+import com.days.book.entity.MailOutbox.MailStatus;
+
+@Repository
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long> {
+
+    // 발송 가능한 메일 ID 조회 (재시도 시각이 된 대기 메일 + 오래 방치된 발송중 메일)
+    @Query("SELECT m.id FROM MailOutbox m " +
+           "WHERE (m.status = 'PENDING' AND m.nextAttemptAt <= :now) " +
+           "OR (m.status = 'SENDING' AND m.claimedAt < :staleBefore) " +
+           "ORDER BY m.id")
+    List<Long> findDispatchableIds(@Param("now") LocalDateTime now,
+                                   @Param("staleBefore") LocalDateTime staleBefore,
+                                   Pageable pageable);
+
+    // 발송 대상 선점 (다른 dispatcher가 먼저 가져간 메일은 제외됨)
+    @Modifying
+    @Query("UPDATE MailOutbox m SET m.status = 'SENDING', m.claimToken = :token, m.claimedAt = :now " +
+           "WHERE m.id IN :ids AND ((m.status = 'PENDING' AND m.nextAttemptAt <= :now) " +
+           "OR (m.status = 'SENDING' AND m.claimedAt < :staleBefore))")
+    int claim(@Param("ids") List<Long> ids,
+              @Param("token") String token,
+              @Param("now") LocalDateTime now,
+              @Param("staleBefore") LocalDateTime staleBefore);
+
+    // 선점한 메일 조회
+    List<MailOutbox> findByClaimTokenAndStatusOrderByIdAsc(String claimToken, MailStatus status);
+
+    // 발송 완료 일괄 처리 (임시 비밀번호/인증코드가 담긴 본문은 발송 후 보관하지 않음)
+    @Modifying
+    @Query("UPDATE MailOutbox m SET m.status = 'SENT', m.sentAt = :sentAt, m.attempts = m.attempts + 1, " +
+           "m.claimToken = null, m.lastError = null, m.body = '' WHERE m.id IN :ids")
+    int markSent(@Param("ids") List<Long> ids, @Param("sentAt") LocalDateTime sentAt);
+
+    // 보관 기간이 지난 발송 완료/최종 실패 메일 ID 조회 (정리 배치 청크 조회)
+    @Query("SELECT m.id FROM MailOutbox m " +
+           "WHERE (m.status = 'SENT' AND m.sentAt < :cutoff) " +
+           "OR (m.status = 'FAILED' AND m.createdAt < :cutoff) " +
+           "ORDER BY m.id")
+    List<Long> findPurgeableIds(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    // 메일 일괄 삭제 (엔티티 로딩 없이 단일 DELETE)
+    @Modifying
+    @Query("DELETE FROM MailOutbox m WHERE m.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
+    // 상태별 메일 수 조회
+    long countByStatus(MailStatus status);
+}
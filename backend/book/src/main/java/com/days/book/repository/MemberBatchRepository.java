@@ -0,0 +1,18 @@
+package com.days.book.repository;
+
+import java.util.List;
+
+import com.days.book.entity.Member;
+
+/**
+ * 회원 일괄 INSERT (JDBC 배치)
+ * Member는 IDENTITY 전략이라 Hibernate가 INSERT를 배치로 묶지 못하므로 JdbcTemplate으로 직접 실행
+ * (rewriteBatchedStatements=true로 MySQL에서는 다중 행 INSERT로 전송)
+ */
+public interface MemberBatchRepository {
+
+    /**
+     * 회원 목록을 한 번의 배치로 INSERT - 행별 결과 반환 (id는 채우지 않음)
+     */
+    int[] insertMembers(List<Member> members);
+}
@@ -0,0 +1,46 @@
+package com.days.book.repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.days.book.entity.Member;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class MemberBatchRepositoryImpl implements MemberBatchRepository {
+
+    private static final String INSERT_MEMBER_SQL =
+            "INSERT INTO members (member_number, name, email, phone, address, join_date, status, max_loan_count, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityCacheEvictor entityCacheEvictor;
+
+    @Override
+    public int[] insertMembers(List<Member> members) {
+        if (members.isEmpty()) {
+            return new int[0];
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int[] counts = jdbcTemplate.batchUpdate(INSERT_MEMBER_SQL, members, members.size(), (ps, member) -> {
+            ps.setString(1, member.getMemberNumber());
+            ps.setString(2, member.getName());
+            ps.setString(3, member.getEmail());
+            ps.setString(4, member.getPhone());
+            ps.setString(5, member.getAddress());
+            ps.setDate(6, Date.valueOf(member.getJoinDate()));
+            ps.setString(7, member.getStatus().name());
+            ps.setInt(8, member.getMaxLoanCount());
+            ps.setTimestamp(9, now);
+            ps.setTimestamp(10, now);
+        })[0];
+        // findByEmail/findByMemberNumber 쿼리 캐시에 남은 "없음" 결과 제거
+        entityCacheEvictor.evictQueryResults();
+        return counts;
+    }
+}
@@ -1,22 +1,30 @@
 package com.days.book.repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.days.book.entity.Member;
 import com.days.book.entity.Member.MemberStatus;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
-public interface MemberRepository extends JpaRepository<Member,Long>{
+public interface MemberRepository extends JpaRepository<Member,Long>, MemberBatchRepository {
 
+    // 대출/인증 경로에서 반복 조회되므로 쿼리 캐시 사용 (members 테이블 변경 시 자동 무효화)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Member> findByMemberNumber(String memberNumber);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Member> findByEmail(String email);
 
     Optional<Member> findByEmailAndStatus(String email, MemberStatus status);
@@ -39,14 +47,14 @@ public interface MemberRepository extends JpaRepository<Member,Long>{
     List<Member> findByJoinDateBetween(@Param("startDate") LocalDate startDate, 
                                       @Param("endDate") LocalDate endDate);
     
-    // 현재 대출 중인 회원 조회
+    // 현재 대출 중인 회원 조회 (연체 중인 미반납 대출 포함)
     @Query("SELECT DISTINCT m FROM Member m JOIN Loan l ON m.id = l.member.id " +
-           "WHERE l.status = com.days.book.entity.Loan.LoanStatus.ACTIVE")
+           "WHERE l.returnDate IS NULL AND l.status IN ('ACTIVE', 'OVERDUE')")
     List<Member> findMembersWithActiveLoans();
     
-    // 연체가 있는 회원 조회
+    // 연체가 있는 회원 조회 (반납 예정일이 지난 미반납 대출)
     @Query("SELECT DISTINCT m FROM Member m JOIN Loan l ON m.id = l.member.id " +
-           "WHERE l.status = com.days.book.entity.Loan.LoanStatus.OVERDUE")
+           "WHERE l.returnDate IS NULL AND l.status IN ('ACTIVE', 'OVERDUE') AND l.dueDate < CURRENT_DATE")
     List<Member> findMembersWithOverdueLoans();
     
     // 회원번호 중복 확인
@@ -54,4 +62,8 @@ public interface MemberRepository extends JpaRepository<Member,Long>{
     
     // 이메일 중복 확인
     boolean existsByEmail(String email);
+    
+    // 이미 등록된 이메일 일괄 확인 (일괄 등록 사전 검증용, 청크당 1회)
+    @Query("SELECT m.email FROM Member m WHERE m.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
 }
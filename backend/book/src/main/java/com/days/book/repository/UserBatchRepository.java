@@ -0,0 +1,15 @@
+package com.days.book.repository;
+
+import java.util.Collection;
+
+/**
+ * 사용자 일괄 삭제 (JDBC)
+ * 삭제한 사용자만 2차 캐시에서 제거 (JPQL 일괄 DELETE는 users 캐시 영역 전체를 비우므로 사용하지 않음)
+ */
+public interface UserBatchRepository {
+
+    /**
+     * 이메일 미인증 사용자 일괄 삭제 (그 사이 인증을 마친 사용자는 제외, 삭제된 행 수 반환)
+     */
+    int deleteUnverifiedUsers(Collection<Long> ids);
+}
@@ -0,0 +1,33 @@
+package com.days.book.repository;
+
+import java.util.Collection;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import com.days.book.entity.User;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class UserBatchRepositoryImpl implements UserBatchRepository {
+
+    private static final String DELETE_UNVERIFIED_SQL =
+            "DELETE FROM users WHERE id IN (:ids) AND email_verified = false";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityCacheEvictor entityCacheEvictor;
+
+    @Override
+    public int deleteUnverifiedUsers(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        int deleted = new NamedParameterJdbcTemplate(jdbcTemplate).update(DELETE_UNVERIFIED_SQL, Map.of("ids", ids));
+        entityCacheEvictor.evict(User.class, ids);
+        // findByUsername/findByEmail 쿼리 캐시에 삭제된 사용자가 남지 않도록 무효화
+        entityCacheEvictor.evictQueryResults();
+        return deleted;
+    }
+}
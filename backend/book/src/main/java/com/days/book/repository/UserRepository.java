@@ -1,19 +1,49 @@
 package com.days.book.repository;
 
 import com.days.book.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserBatchRepository {
     
+    // 인증 경로에서 반복 조회되므로 쿼리 캐시 사용 (users 테이블 변경 시 자동 무효화)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findByUsername(String username);
     
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findByEmail(String email);
     
     boolean existsByUsername(String username);
     
     boolean existsByEmail(String email);
+
+    // 비밀번호 해시 교체 (현재 해시가 조회 시점 그대로일 때만, 로그인 시 재해시용)
+    @Modifying
+    @Transactional
+    @Query("UPDATE User u SET u.password = :newPassword, u.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE u.id = :id AND u.password = :currentPassword")
+    int updatePasswordIfUnchanged(@Param("id") Long id,
+                                  @Param("currentPassword") String currentPassword,
+                                  @Param("newPassword") String newPassword);
+
+    // 기준 시각 이후로 가입/재가입하지 않은 이메일 미인증 일반 계정 (정리 배치용, id 커서) - [id, username]
+    @Query("SELECT u.id, u.username FROM User u " +
+           "WHERE u.emailVerified = false AND u.role = com.days.book.entity.Role.USER " +
+           "AND COALESCE(u.updatedAt, u.createdAt) < :cutoff AND u.id > :lastId ORDER BY u.id")
+    List<Object[]> findStaleUnverifiedUsers(@Param("cutoff") LocalDateTime cutoff,
+                                            @Param("lastId") Long lastId,
+                                            Pageable pageable);
 }
@@ -2,12 +2,16 @@ package com.days.book.repository;
 
 import com.days.book.entity.VerificationCode;
 import com.days.book.entity.VerificationCode.VerificationType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -39,7 +43,15 @@ public interface VerificationCodeRepository extends JpaRepository<VerificationCo
     );
     
     /**
-     * 만료된 인증코드 삭제
+     * 기준 시각 이전에 만료된 인증코드 id (정리 배치 청크 조회, expires_at 인덱스 순서)
      */
-    void deleteByExpiresAtBefore(LocalDateTime dateTime);
+    @Query("SELECT vc.id FROM VerificationCode vc WHERE vc.expiresAt < :cutoff ORDER BY vc.expiresAt")
+    List<Long> findExpiredIds(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    /**
+     * 인증코드 일괄 삭제 (엔티티 로딩 없이 단일 DELETE)
+     */
+    @Modifying
+    @Query("DELETE FROM VerificationCode vc WHERE vc.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,344 @@
+package com.days.book.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.days.book.entity.Book;
+import com.days.book.repository.BookRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 도서 검색용 인메모리 역색인
+ * 제목/저자/출판사/카테고리/설명을 n-gram 토큰으로 색인하여 LIKE '%keyword%' 전체 스캔을 대체
+ * - 애플리케이션 시작 시 전체 재색인, 이후 BookService의 등록/수정/삭제 커밋 시 증분 반영
+ * - 마지막 검색어 토큰은 접두어로 확장하여 자동완성(typeahead) 지원
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BookSearchIndex {
+
+    private static final int REBUILD_CHUNK_SIZE = 1000;
+    private static final int MAX_PREFIX_EXPANSION = 200;
+
+    private static final float TITLE_WEIGHT = 3.0f;
+    private static final float AUTHOR_WEIGHT = 2.0f;
+    private static final float PUBLISHER_WEIGHT = 1.0f;
+    private static final float CATEGORY_WEIGHT = 1.0f;
+    private static final float DESCRIPTION_WEIGHT = 0.5f;
+
+    public enum SearchField {
+        ALL,     // 전체 필드
+        TITLE,   // 제목에 검색어 포함
+        AUTHOR   // 저자에 검색어 포함
+    }
+
+    private final BookRepository bookRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableMap<String, Map<Long, Float>> postings = new TreeMap<>();
+    private final Map<Long, IndexedBook> documents = new HashMap<>();
+
+    /**
+     * 전체 재색인 (애플리케이션 시작 시 실행, id 기준 청크 단위로 조회)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+
+            long lastId = 0L;
+            List<Book> chunk;
+            do {
+                chunk = bookRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, REBUILD_CHUNK_SIZE));
+                for (Book book : chunk) {
+                    put(toDocument(book));
+                    lastId = book.getId();
+                }
+            } while (chunk.size() == REBUILD_CHUNK_SIZE);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("도서 검색 색인 완료: {}권, {}개 토큰, {}ms", documents.size(), postings.size(),
+                System.currentTimeMillis() - started);
+    }
+
+    /**
+     * 도서 색인 추가/갱신 (현재 트랜잭션이 커밋된 후 반영)
+     */
+    public void indexAfterCommit(Book book) {
+        IndexedBook document = toDocument(book);
+        runAfterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                put(document);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * 여러 도서 색인 추가/갱신 (일괄 입고용, 커밋 후 한 번의 쓰기 잠금으로 반영)
+     */
+    public void indexAllAfterCommit(Collection<Book> books) {
+        if (books.isEmpty()) {
+            return;
+        }
+        List<IndexedBook> indexed = new ArrayList<>(books.size());
+        for (Book book : books) {
+            indexed.add(toDocument(book));
+        }
+        runAfterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                for (IndexedBook document : indexed) {
+                    put(document);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * 도서 색인 삭제 (현재 트랜잭션이 커밋된 후 반영)
+     */
+    public void removeAfterCommit(Long bookId) {
+        runAfterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                remove(bookId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * 검색 - 점수 내림차순으로 정렬된 도서 ID 중 offset부터 limit개 반환
+     */
+    public SearchResult search(String query, SearchField field, int offset, int limit) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(NGramTokenizer.tokenize(query)));
+        if (terms.isEmpty()) {
+            return new SearchResult(List.of(), 0);
+        }
+        String normalizedQuery = NGramTokenizer.normalize(query.trim());
+
+        List<ScoredBook> hits;
+        lock.readLock().lock();
+        try {
+            Map<Long, Float> scores = null;
+            for (int i = 0; i < terms.size(); i++) {
+                boolean prefix = i == terms.size() - 1;
+                Map<Long, Float> termScores = prefix ? scorePrefix(terms.get(i)) : scoreExact(terms.get(i));
+                scores = scores == null ? termScores : intersect(scores, termScores);
+                if (scores.isEmpty()) {
+                    return new SearchResult(List.of(), 0);
+                }
+            }
+
+            hits = new ArrayList<>(scores.size());
+            for (Map.Entry<Long, Float> entry : scores.entrySet()) {
+                IndexedBook document = documents.get(entry.getKey());
+                if (document != null && matchesField(document, field, normalizedQuery)) {
+                    hits.add(new ScoredBook(entry.getKey(), entry.getValue()));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        hits.sort(Comparator.comparingDouble(ScoredBook::score).reversed()
+                .thenComparing(ScoredBook::id));
+
+        int from = Math.min(Math.max(offset, 0), hits.size());
+        int to = (int) Math.min((long) from + Math.max(limit, 0), hits.size());
+        List<Long> ids = new ArrayList<>(to - from);
+        for (ScoredBook hit : hits.subList(from, to)) {
+            ids.add(hit.id());
+        }
+        return new SearchResult(ids, hits.size());
+    }
+
+    /**
+     * 자동완성 - 입력 중인 검색어에 대한 상위 도서 제목 목록
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        SearchResult result = search(prefix, SearchField.ALL, 0, limit);
+        List<Suggestion> suggestions = new ArrayList<>(result.ids().size());
+        lock.readLock().lock();
+        try {
+            for (Long id : result.ids()) {
+                IndexedBook document = documents.get(id);
+                if (document != null) {
+                    suggestions.add(new Suggestion(id, document.title(), document.author()));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return suggestions;
+    }
+
+    /**
+     * 색인된 도서 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Map<Long, Float> scoreExact(String term) {
+        Map<Long, Float> posting = postings.get(term);
+        if (posting == null) {
+            return Map.of();
+        }
+        float idf = idf(posting.size());
+        Map<Long, Float> scores = new HashMap<>(posting.size() * 2);
+        posting.forEach((id, weight) -> scores.put(id, weight * idf));
+        return scores;
+    }
+
+    // 접두어로 시작하는 토큰들을 합쳐 점수 계산 (문서별 최고 점수 사용)
+    private Map<Long, Float> scorePrefix(String prefix) {
+        Map<Long, Float> scores = new HashMap<>();
+        int expanded = 0;
+        for (Map.Entry<String, Map<Long, Float>> entry
+                : postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false).entrySet()) {
+            if (expanded++ >= MAX_PREFIX_EXPANSION) {
+                break;
+            }
+            float idf = idf(entry.getValue().size());
+            entry.getValue().forEach((id, weight) -> scores.merge(id, weight * idf, Math::max));
+        }
+        return scores;
+    }
+
+    private Map<Long, Float> intersect(Map<Long, Float> left, Map<Long, Float> right) {
+        Map<Long, Float> smaller = left.size() <= right.size() ? left : right;
+        Map<Long, Float> larger = smaller == left ? right : left;
+        Map<Long, Float> result = new HashMap<>(smaller.size() * 2);
+        smaller.forEach((id, score) -> {
+            Float other = larger.get(id);
+            if (other != null) {
+                result.put(id, score + other);
+            }
+        });
+        return result;
+    }
+
+    private float idf(int documentFrequency) {
+        return (float) Math.log(1.0 + (double) documents.size() / documentFrequency);
+    }
+
+    private boolean matchesField(IndexedBook document, SearchField field, String normalizedQuery) {
+        return switch (field) {
+            case ALL -> true;
+            case TITLE -> document.normalizedTitle().contains(normalizedQuery);
+            case AUTHOR -> document.normalizedAuthor().contains(normalizedQuery);
+        };
+    }
+
+    // writeLock 보유 상태에서 호출
+    private void put(IndexedBook document) {
+        remove(document.id());
+        documents.put(document.id(), document);
+        document.termWeights().forEach((term, weight) ->
+                postings.computeIfAbsent(term, key -> new HashMap<>()).put(document.id(), weight));
+    }
+
+    // writeLock 보유 상태에서 호출
+    private void remove(Long bookId) {
+        IndexedBook previous = documents.remove(bookId);
+        if (previous == null) {
+            return;
+        }
+        for (String term : previous.termWeights().keySet()) {
+            Map<Long, Float> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(bookId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    private IndexedBook toDocument(Book book) {
+        Map<String, Float> termWeights = new HashMap<>();
+        addField(termWeights, book.getTitle(), TITLE_WEIGHT);
+        addField(termWeights, book.getAuthor(), AUTHOR_WEIGHT);
+        addField(termWeights, book.getPublisher(), PUBLISHER_WEIGHT);
+        addField(termWeights, book.getCategory(), CATEGORY_WEIGHT);
+        addField(termWeights, book.getDescription(), DESCRIPTION_WEIGHT);
+
+        String title = book.getTitle() != null ? book.getTitle() : "";
+        String author = book.getAuthor() != null ? book.getAuthor() : "";
+        return new IndexedBook(book.getId(), title, author,
+                NGramTokenizer.normalize(title), NGramTokenizer.normalize(author), termWeights);
+    }
+
+    private void addField(Map<String, Float> termWeights, String text, float fieldWeight) {
+        for (String token : NGramTokenizer.tokenize(text)) {
+            termWeights.merge(token, fieldWeight, Float::sum);
+        }
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private record IndexedBook(Long id, String title, String author,
+                               String normalizedTitle, String normalizedAuthor,
+                               Map<String, Float> termWeights) {
+    }
+
+    private record ScoredBook(Long id, float score) {
+    }
+
+    /**
+     * 검색 결과 (현재 페이지의 도서 ID 목록과 전체 일치 건수)
+     */
+    public record SearchResult(List<Long> ids, long total) {
+    }
+
+    /**
+     * 자동완성 항목
+     */
+    public record Suggestion(Long id, String title, String author) {
+    }
+}
@@ -0,0 +1,71 @@
+package com.days.book.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 도서 검색용 토크나이저
+ * - 한글/한자/가나가 포함된 단어는 2-gram(bigram)으로 분해 (조사/붙여쓰기에도 부분 일치 가능)
+ * - 그 외(영문, 숫자)는 소문자 단어 단위로 분해
+ */
+final class NGramTokenizer {
+
+    private NGramTokenizer() {
+    }
+
+    /**
+     * 텍스트를 검색어 토큰 목록으로 분해 (중복 포함, 등장 순서 유지)
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+
+        String normalized = normalize(text);
+        int length = normalized.length();
+        int start = -1;
+        for (int i = 0; i <= length; i++) {
+            boolean wordChar = i < length && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                addWordTokens(normalized.substring(start, i), tokens);
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 대소문자/전각 문자 차이를 없앤 비교용 문자열
+     */
+    static String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    private static void addWordTokens(String word, List<String> tokens) {
+        if (!containsCjk(word) || word.length() == 1) {
+            tokens.add(word);
+            return;
+        }
+        for (int i = 0; i < word.length() - 1; i++) {
+            tokens.add(word.substring(i, i + 2));
+        }
+    }
+
+    private static boolean containsCjk(String word) {
+        for (int i = 0; i < word.length(); i++) {
+            Character.UnicodeScript script = Character.UnicodeScript.of(word.charAt(i));
+            if (script == Character.UnicodeScript.HANGUL
+                    || script == Character.UnicodeScript.HAN
+                    || script == Character.UnicodeScript.HIRAGANA
+                    || script == Character.UnicodeScript.KATAKANA) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,6 +1,7 @@
 package com.days.book.security;
 
 import com.days.book.service.JwtService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -8,9 +9,9 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -24,7 +25,7 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     
     private final JwtService jwtService;
-    private final UserDetailsService userDetailsService;
+    private final JwtPrincipalCache principalCache;
     
     @Override
     protected void doFilterInternal(HttpServletRequest request, 
@@ -33,16 +34,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = parseJwt(request);
             if (jwt != null && !jwt.isEmpty()) {
-                String username = jwtService.extractUsername(jwt);
+                // 서명/만료 검증을 포함해 토큰은 한 번만 파싱
+                Claims claims = jwtService.parseClaims(jwt);
+                String username = claims.getSubject();
                 
                 if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                    UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-                    if (jwtService.isTokenValid(jwt, userDetails)) {
+                    // principal은 캐시에서 조회 (캐시 미스일 때만 DB 조회)
+                    UserDetails userDetails = principalCache.get(username);
+                    if (matchesRole(claims, userDetails)) {
                         UsernamePasswordAuthenticationToken authentication = 
                             new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
                         authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                         
                         SecurityContextHolder.getContext().setAuthentication(authentication);
+                    } else {
+                        log.warn("Token role no longer matches user: {}", username);
                     }
                 }
             }
@@ -53,6 +59,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
     
+    // 권한은 현재 사용자 정보 기준, 토큰의 role 클레임은 발급 이후 권한이 바뀌지 않았는지 확인하는 데만 사용
+    private boolean matchesRole(Claims claims, UserDetails userDetails) {
+        String role = claims.get("role", String.class);
+        if (!StringUtils.hasText(role)) {
+            return true;
+        }
+        for (GrantedAuthority authority : userDetails.getAuthorities()) {
+            if (role.equals(authority.getAuthority())) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
     private String parseJwt(HttpServletRequest request) {
         String headerAuth = request.getHeader("Authorization");
         
@@ -0,0 +1,80 @@
+package com.days.book.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * JWT 인증용 principal 캐시
+ * 요청마다 DB에서 사용자를 조회하지 않도록 username -> UserDetails를 크기/TTL 제한으로 보관
+ * 사용자 정보 변경, 탈퇴, 삭제 시 evictAfterCommit 호출 필요
+ */
+@Component
+@Slf4j
+public class JwtPrincipalCache {
+
+    private final UserDetailsService userDetailsService;
+    private final Cache<String, UserDetails> cache;
+
+    public JwtPrincipalCache(UserDetailsService userDetailsService,
+                             @Value("${jwt.principal-cache.max-size:10000}") long maxSize,
+                             @Value("${jwt.principal-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.userDetailsService = userDetailsService;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    /**
+     * 캐시에서 사용자 조회, 없으면 UserDetailsService로 로드 후 저장
+     */
+    public UserDetails get(String username) {
+        return cache.get(username, userDetailsService::loadUserByUsername);
+    }
+
+    /**
+     * 특정 사용자 캐시 무효화
+     */
+    public void evict(String username) {
+        if (username != null) {
+            cache.invalidate(username);
+            log.debug("JWT principal cache evicted: {}", username);
+        }
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 사용자 캐시 무효화 (트랜잭션이 없으면 즉시)
+     * 커밋 전에 무효화하면 다른 요청이 변경 전 사용자를 다시 읽어 TTL 동안 캐시할 수 있음
+     */
+    public void evictAfterCommit(String username) {
+        if (username == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(username);
+                }
+            });
+        } else {
+            evict(username);
+        }
+    }
+
+    /**
+     * 전체 캐시 무효화
+     */
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+}
@@ -7,13 +7,15 @@ import com.days.book.entity.VerificationCode.VerificationType;
 import com.days.book.repository.UserRepository;
 import com.days.book.repository.VerificationCodeRepository;
 import com.days.book.repository.MemberRepository;
+import com.days.book.security.JwtPrincipalCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import jakarta.persistence.EntityNotFoundException;
 import java.time.LocalDateTime;
@@ -29,37 +31,61 @@ public class AuthService {
 
     private final UserRepository userRepository;
     private final VerificationCodeRepository verificationCodeRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashService passwordHashService;
     private final JwtService jwtService;
     private final EmailService emailService;
     private final AuthenticationManager authenticationManager;
     private final MemberRepository memberRepository;
     private final MemberService memberService;
+    private final JwtPrincipalCache principalCache;
+    private final MemberNumberGenerator memberNumberGenerator;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * 회원가입
+     * 비밀번호 해시는 트랜잭션 밖에서 계산하고, 저장은 짧은 쓰기 트랜잭션으로 처리 (해시를 기다리는 동안 DB 커넥션을 잡지 않음)
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public String register(String username, String password, String email, String name, String phone, String address) {
-        // 중복 확인 - 미인증 계정은 덮어쓰기 허용
-        Optional<User> existingUser = userRepository.findByUsername(username);
+        // 중복 확인 - 해시 계산 전에 먼저 거절
+        checkRegistrable(userRepository.findByUsername(username), userRepository.findByEmail(email));
+
+        // 비밀번호 해시 (전용 스레드 풀에서 계산)
+        String encodedPassword = passwordHashService.encode(password);
+
+        // 이메일 인증 토큰 생성
+        String verificationToken = emailService.generateEmailVerificationToken();
+
+        transactionTemplate.executeWithoutResult(status ->
+                saveRegistration(username, encodedPassword, email, name, phone, address, verificationToken));
+        principalCache.evictAfterCommit(username);
+
+        return "회원가입이 완료되었습니다. 이메일을 확인하여 인증을 완료해주세요.";
+    }
+
+    // 중복 확인 - 미인증 계정은 덮어쓰기 허용
+    private void checkRegistrable(Optional<User> existingUser, Optional<User> existingEmailUser) {
         if (existingUser.isPresent() && existingUser.get().getEmailVerified()) {
             throw new RuntimeException("이미 존재하는 사용자명입니다.");
         }
-        
-        Optional<User> existingEmailUser = userRepository.findByEmail(email);
         if (existingEmailUser.isPresent() && existingEmailUser.get().getEmailVerified()) {
             throw new RuntimeException("이미 존재하는 이메일입니다.");
         }
+    }
 
-        // 이메일 인증 토큰 생성
-        String verificationToken = emailService.generateEmailVerificationToken();
+    // 회원가입 저장 (쓰기 트랜잭션 안에서 호출, 해시 계산 중 다른 요청이 먼저 가입했을 수 있으므로 중복을 다시 확인)
+    private void saveRegistration(String username, String encodedPassword, String email, String name,
+                                  String phone, String address, String verificationToken) {
+        Optional<User> existingUser = userRepository.findByUsername(username);
+        Optional<User> existingEmailUser = userRepository.findByEmail(email);
+        checkRegistrable(existingUser, existingEmailUser);
 
         // 기존 미인증 계정이 있으면 업데이트, 없으면 새로 생성
         User user;
         if (existingUser.isPresent() && !existingUser.get().getEmailVerified()) {
             // 기존 미인증 계정 업데이트
             user = existingUser.get();
-            user.setPassword(passwordEncoder.encode(password));
+            user.setPassword(encodedPassword);
             user.setEmail(email);
             user.setName(name);
             user.setPhone(phone);
@@ -69,8 +95,9 @@ public class AuthService {
         } else if (existingEmailUser.isPresent() && !existingEmailUser.get().getEmailVerified()) {
             // 기존 미인증 이메일 계정 업데이트
             user = existingEmailUser.get();
+            principalCache.evictAfterCommit(user.getUsername());
             user.setUsername(username);
-            user.setPassword(passwordEncoder.encode(password));
+            user.setPassword(encodedPassword);
             user.setName(name);
             user.setPhone(phone);
             user.setAddress(address);
@@ -80,12 +107,12 @@ public class AuthService {
             // 새 사용자 생성
             user = User.builder()
                     .username(username)
-                    .password(passwordEncoder.encode(password))
+                    .password(encodedPassword)
                     .email(email)
                     .name(name)
                     .phone(phone)
                     .address(address)
-                    .memberNumber(User.generateMemberNumber())
+                    .memberNumber(memberNumberGenerator.next())
                     .role(Role.USER)
                     .emailVerified(false)
                     .emailVerificationToken(verificationToken)
@@ -128,22 +155,22 @@ public class AuthService {
             // 향후 로그인 시 Member가 없으면 자동 생성하도록 처리할 수 있음
         }
 
-        // 이메일 인증 메일 발송
+        // 이메일 인증 메일 발송 (outbox에 등록되어 가입 정보와 함께 커밋)
         emailService.sendEmailVerification(email, verificationToken, username);
-
-        return "회원가입이 완료되었습니다. 이메일을 확인하여 인증을 완료해주세요.";
     }
 
     /**
      * 로그인 (사용자 정보 포함)
+     * 비밀번호 검증을 기다리는 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행 (저장은 각 리포지토리/서비스 트랜잭션)
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Map<String, String> loginWithUserInfo(String username, String password) {
         // 사용자 존재 여부 확인
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new RuntimeException("존재하지 않는 계정입니다."));
 
         // 비밀번호 확인
-        if (!passwordEncoder.matches(password, user.getPassword())) {
+        if (!passwordHashService.matches(password, user.getPassword())) {
             throw new RuntimeException("비밀번호가 일치하지 않습니다.");
         }
 
@@ -152,6 +179,11 @@ public class AuthService {
             throw new RuntimeException("이메일 인증이 완료되지 않은 계정입니다. 이메일을 확인해주세요.");
         }
 
+        // 이전 형식/비용 인자의 해시는 현재 설정으로 재해시 (인증된 계정만, 실패해도 다음 로그인 때 다시 시도)
+        if (passwordHashService.needsRehash(user.getPassword())) {
+            rehashPassword(user, password);
+        }
+
         // Member 테이블에서 Member 존재 확인 및 자동 생성 (admin 계정 제외)
         if (!username.equals("admin")) {
             Optional<com.days.book.entity.Member> memberOpt = memberRepository.findByEmail(user.getEmail());
@@ -186,6 +218,19 @@ public class AuthService {
         return result;
     }
 
+    // 조회한 해시가 그대로일 때만 갱신 (그 사이 비밀번호가 바뀌었으면 새 비밀번호를 덮어쓰지 않음)
+    private void rehashPassword(User user, String rawPassword) {
+        try {
+            String rehashed = passwordHashService.encode(rawPassword);
+            if (userRepository.updatePasswordIfUnchanged(user.getId(), user.getPassword(), rehashed) > 0) {
+                principalCache.evictAfterCommit(user.getUsername());
+                log.info("비밀번호 해시 갱신: username={}", user.getUsername());
+            }
+        } catch (PasswordHashService.PasswordHashBusyException e) {
+            log.debug("비밀번호 재해시 보류 (해시 대기열 초과): username={}", user.getUsername());
+        }
+    }
+
     /**
      * 이메일 인증
      */
@@ -200,6 +245,7 @@ public class AuthService {
         user.setEmailVerified(true);
         user.setEmailVerificationToken(null);
         userRepository.save(user);
+        principalCache.evictAfterCommit(user.getUsername());
 
         return "이메일 인증이 완료되었습니다.";
     }
@@ -360,54 +406,74 @@ public class AuthService {
     
     /**
      * 비밀번호 찾기 - 새 비밀번호 설정
+     * 비밀번호 해시는 트랜잭션 밖에서 계산하고, 비밀번호 변경과 인증코드 사용 처리만 쓰기 트랜잭션으로 묶음
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public String resetPasswordWithCode(String username, String email, String code, String newPassword) {
-        // 유효한 인증코드 찾기
+        // 인증코드/사용자 확인 - 해시 계산 전에 먼저 거절
+        findResetPasswordCode(username, email, code);
+        userRepository.findByUsername(username)
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+
+        // 새 비밀번호 해시 (전용 스레드 풀에서 계산)
+        String encodedPassword = passwordHashService.encode(newPassword);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            // 해시 계산 중 같은 코드로 먼저 재설정했을 수 있으므로 다시 확인
+            VerificationCode verificationCode = findResetPasswordCode(username, email, code);
+            User user = userRepository.findByUsername(username)
+                    .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+
+            // 새 비밀번호 설정
+            user.setPassword(encodedPassword);
+            userRepository.save(user);
+
+            // 인증코드 사용 처리
+            verificationCode.setUsed(true);
+            verificationCodeRepository.save(verificationCode);
+        });
+        principalCache.evictAfterCommit(username);
+
+        log.info("비밀번호 재설정 완료: username={}", username);
+        return "비밀번호가 성공적으로 변경되었습니다.";
+    }
+
+    // 유효한 비밀번호 재설정 인증코드 조회 (사용자명까지 일치해야 함)
+    private VerificationCode findResetPasswordCode(String username, String email, String code) {
         VerificationCode verificationCode = verificationCodeRepository
                 .findValidCode(email, code, VerificationType.RESET_PASSWORD, LocalDateTime.now())
                 .orElseThrow(() -> new RuntimeException("잘못되었거나 만료된 인증코드입니다."));
-        
+
         // 사용자명 확인
         if (!verificationCode.getUsername().equals(username)) {
             throw new RuntimeException("인증 정보가 일치하지 않습니다.");
         }
-        
-        // 사용자 정보 조회
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
-        
-        // 새 비밀번호 설정
-        user.setPassword(passwordEncoder.encode(newPassword));
-        userRepository.save(user);
-        
-        // 인증코드 사용 처리
-        verificationCode.setUsed(true);
-        verificationCodeRepository.save(verificationCode);
-        
-        log.info("비밀번호 재설정 완료: username={}", username);
-        return "비밀번호가 성공적으로 변경되었습니다.";
+        return verificationCode;
     }
 
     /**
      * 회원탈퇴
+     * 비밀번호 검증은 트랜잭션 밖에서 하고, 삭제만 리포지토리 트랜잭션으로 실행
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public String withdrawUser(String username, String password) {
         // 사용자 정보 조회
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
 
-        // 비밀번호 확인
-        if (!passwordEncoder.matches(password, user.getPassword())) {
-            throw new RuntimeException("비밀번호가 일치하지 않습니다.");
-        }
-
         // 관리자 계정은 탈퇴 불가
-        if ("admin".equals(username)) {
+        if (user.getRole() == Role.ADMIN || "admin".equals(username)) {
             throw new RuntimeException("관리자 계정은 탈퇴할 수 없습니다.");
         }
 
+        // 비밀번호 확인
+        if (!passwordHashService.matches(password, user.getPassword())) {
+            throw new RuntimeException("비밀번호가 일치하지 않습니다.");
+        }
+
         // 사용자 삭제
         userRepository.delete(user);
+        principalCache.evictAfterCommit(username);
         
         log.info("회원탈퇴 완료: username={}", username);
         return "회원탈퇴가 완료되었습니다.";
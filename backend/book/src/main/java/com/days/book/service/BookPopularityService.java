@@ -0,0 +1,113 @@
+package com.days.book.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.days.book.dto.PopularBookDTO;
+import com.days.book.repository.BookLoanStatRepository;
+import com.days.book.repository.LoanRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 인기 도서 순위
+ * 대출 생성 시 book_loan_stats(누적) / book_loan_daily_stats(일자별)를 함께 증가시키고 순위는 통계 테이블에서만 조회
+ * - 누적 순위: total_loans 인덱스로 상위 N건만 읽음
+ * - 기간 순위(7/30/365일): 일자별 통계를 집계하고 짧은 TTL로 캐시
+ */
+@Service
+@Transactional
+@Slf4j
+public class BookPopularityService {
+
+    public static final Set<Integer> WINDOW_DAYS = Set.of(7, 30, 365);
+    private static final int MAX_LIMIT = 100;
+
+    private final BookLoanStatRepository bookLoanStatRepository;
+    private final LoanRepository loanRepository;
+    private final Cache<String, List<PopularBookDTO>> windowCache;
+
+    @Value("${book.popularity.daily-retention-days:400}")
+    private int dailyRetentionDays;
+
+    public BookPopularityService(BookLoanStatRepository bookLoanStatRepository,
+                                 LoanRepository loanRepository,
+                                 @Value("${book.popularity.window-cache-ttl-seconds:60}") long ttlSeconds) {
+        this.bookLoanStatRepository = bookLoanStatRepository;
+        this.loanRepository = loanRepository;
+        this.windowCache = Caffeine.newBuilder()
+                .maximumSize(100)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    /**
+     * 대출된 도서들의 대출 횟수 증가 (대출 생성과 같은 트랜잭션에서 호출)
+     */
+    public void recordLoans(Collection<Long> bookIds) {
+        bookLoanStatRepository.incrementLoanCounts(bookIds, LocalDate.now());
+    }
+
+    /**
+     * 인기 도서 상위 N권 (days가 null이면 누적, 7/30/365이면 최근 기간 기준)
+     */
+    @Transactional(readOnly = true)
+    public List<PopularBookDTO> getTopBooks(int limit, Integer days) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit은 1~" + MAX_LIMIT + " 사이여야 합니다: " + limit);
+        }
+        if (days == null) {
+            return bookLoanStatRepository.findTopBooks(PageRequest.of(0, limit));
+        }
+        if (!WINDOW_DAYS.contains(days)) {
+            throw new IllegalArgumentException("지원하지 않는 기간입니다: " + days + " (가능한 값: 7, 30, 365)");
+        }
+        LocalDate from = LocalDate.now().minusDays(days - 1);
+        return windowCache.get(days + ":" + limit + ":" + from,
+                key -> bookLoanStatRepository.findTopBooksSince(from, PageRequest.of(0, limit)));
+    }
+
+    /**
+     * loans 테이블에서 통계 전체 재계산 (최초 도입 시 또는 관리자 요청 시)
+     */
+    public int rebuild() {
+        int books = bookLoanStatRepository.rebuildFromLoans();
+        windowCache.invalidateAll();
+        log.info("인기 도서 통계 재계산 완료: {}권", books);
+        return books;
+    }
+
+    /**
+     * 시작 시 통계가 비어 있고 대출 기록이 있으면 한 번 재계산 (기존 데이터 이관)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        if (bookLoanStatRepository.count() == 0 && loanRepository.count() > 0) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 일자별 통계 정리 (기본: 매일 01:30)
+     */
+    @Scheduled(cron = "${book.popularity.prune-cron:0 30 1 * * *}")
+    public void pruneDailyStats() {
+        int deleted = bookLoanStatRepository.deleteDailyStatsBefore(LocalDate.now().minusDays(dailyRetentionDays));
+        if (deleted > 0) {
+            log.info("오래된 일자별 인기 도서 통계 {}건 삭제", deleted);
+        }
+    }
+}
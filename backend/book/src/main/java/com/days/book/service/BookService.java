@@ -1,19 +1,35 @@
 package com.days.book.service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.days.book.dto.BookCursorPage;
+import com.days.book.dto.BookSummaryDTO;
+import com.days.book.dto.PageResponse;
+import com.days.book.dto.PopularBookDTO;
 import com.days.book.entity.Book;
 import com.days.book.repository.BookRepository;
 import com.days.book.repository.LoanRepository;
+import com.days.book.search.BookSearchIndex;
+import com.days.book.search.BookSearchIndex.SearchField;
+import com.days.book.search.BookSearchIndex.SearchResult;
+import com.days.book.search.BookSearchIndex.Suggestion;
 
-import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
-import jakarta.persistence.PersistenceContext;
 
 @Service
 @Transactional
@@ -25,13 +41,21 @@ public class BookService {
     @Autowired
     private LoanRepository loanRepository;
     
-    @PersistenceContext
-    private EntityManager entityManager;
+    @Autowired
+    private BookSearchIndex bookSearchIndex;
+    
+    @Autowired
+    private BookPopularityService bookPopularityService;
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final Set<String> SORTABLE_FIELDS = Set.of(
+            "id", "title", "author", "isbn", "category", "publishedDate", "availableCopies");
 
     //도서등록
     public Book saveBook(Book book) {
-        
-        if (book.getIsbn() != null && bookRepository.findByIsbn(book.getIsbn()).isPresent()) {
+        // 일괄 입고와 같은 형식으로 저장 (하이픈 유무와 관계없이 중복 확인)
+        book.setIsbn(IsbnNormalizer.normalize(book.getIsbn()));
+        if (book.getIsbn() != null && findByIsbnForms(book.getIsbn()).isPresent()) {
             throw new IllegalArgumentException("이미 등록된 ISBN입니다:" + book.getIsbn());
         }
         
@@ -46,7 +70,9 @@ public class BookService {
             book.setAvailableCopies(1);
         }
 
-        return bookRepository.save(book);
+        Book savedBook = bookRepository.save(book);
+        bookSearchIndex.indexAfterCommit(savedBook);
+        return savedBook;
     }
 
     //도서 조회 (ID로)
@@ -60,9 +86,21 @@ public class BookService {
                 .orElseThrow(() -> new EntityNotFoundException("도서를 찾을 수 없습니다. ID: " + id));
     }
 
-    //도서 조회(ISBN으로)
+    //도서 조회(ISBN으로) - 하이픈 포함/ISBN-10 입력도 같은 도서로 조회
     public Optional<Book> findBookByIsbn(String isbn) {
-        return bookRepository.findByIsbn(isbn);
+        String normalized = IsbnNormalizer.normalize(isbn);
+        return normalized != null ? findByIsbnForms(normalized) : Optional.empty();
+    }
+
+    // 정규화된 ISBN 또는 대응하는 ISBN-10으로 저장된 도서 조회
+    private Optional<Book> findByIsbnForms(String normalizedIsbn) {
+        for (String key : IsbnNormalizer.lookupKeys(normalizedIsbn)) {
+            Optional<Book> book = bookRepository.findByIsbn(key);
+            if (book.isPresent()) {
+                return book;
+            }
+        }
+        return Optional.empty();
     }
 
     //모든 도서 조회
@@ -70,22 +108,116 @@ public class BookService {
         return bookRepository.findAll();
     }
 
-    //제목으로 도서 검색
+    //도서 목록 조회 - 페이지 단위 경량 프로젝션 (정렬 컬럼 + id로 정렬하여 페이지 간 순서 고정)
+    @Transactional(readOnly = true)
+    public PageResponse<BookSummaryDTO> findBookSummaries(Pageable pageable, Set<String> fields) {
+        Set<String> selected = validateFields(fields);
+        PageRequest request = PageRequest.of(pageable.getPageNumber(),
+                Math.min(pageable.getPageSize(), MAX_PAGE_SIZE), stableSort(pageable.getSort()));
+        Page<BookSummaryDTO> page = bookRepository.findAllSummaries(request);
+        page.getContent().forEach(book -> book.retainFields(selected));
+        return PageResponse.of(page.getContent(), page.getNumber(), page.getSize(), page.getTotalElements());
+    }
+
+    //도서 목록 조회 - id 커서(keyset) 기반, 전체 목록을 한 페이지씩 순회할 때 사용
+    @Transactional(readOnly = true)
+    public BookCursorPage findBookSummariesAfter(Long cursor, int size, Set<String> fields) {
+        Set<String> selected = validateFields(fields);
+        int pageSize = Math.min(size, MAX_PAGE_SIZE);
+        List<BookSummaryDTO> rows = bookRepository.findSummariesAfterId(
+                cursor != null ? cursor : 0L, PageRequest.of(0, pageSize + 1));
+
+        boolean hasNext = rows.size() > pageSize;
+        List<BookSummaryDTO> content = hasNext ? rows.subList(0, pageSize) : rows;
+        Long nextCursor = hasNext ? content.get(content.size() - 1).getId() : null;
+        content.forEach(book -> book.retainFields(selected));
+        return BookCursorPage.builder()
+                .content(content)
+                .size(pageSize)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    // 허용된 정렬 컬럼만 사용하고 마지막에 id를 붙여 동일 값 사이의 순서를 고정
+    private Sort stableSort(Sort sort) {
+        for (Sort.Order order : sort) {
+            if (!SORTABLE_FIELDS.contains(order.getProperty())) {
+                throw new IllegalArgumentException("정렬할 수 없는 필드입니다: " + order.getProperty());
+            }
+        }
+        if (sort.getOrderFor("id") != null) {
+            return sort;
+        }
+        return sort.and(Sort.by(Sort.Direction.ASC, "id"));
+    }
+
+    private Set<String> validateFields(Set<String> fields) {
+        if (fields == null || fields.isEmpty()) {
+            return Set.of();
+        }
+        for (String field : fields) {
+            if (!BookSummaryDTO.FIELDS.contains(field)) {
+                throw new IllegalArgumentException("선택할 수 없는 필드입니다: " + field);
+            }
+        }
+        return fields;
+    }
+
+    //제목으로 도서 검색 (검색 색인 사용)
     public List<Book> searchBooksByTitle(String title) {
-        return bookRepository.findByTitleContaining(title);
+        return searchIndexed(title, SearchField.TITLE);
     }
 
-    //저자로 도서 검색
+    //저자로 도서 검색 (검색 색인 사용)
     public List<Book> searchBooksByAuthor(String author) {
-        return bookRepository.findByAuthorContaining(author);
+        return searchIndexed(author, SearchField.AUTHOR);
     }
 
-    //키워드로 도서 검색(제목 + 저자)
+    //키워드로 도서 검색(제목 + 저자 + 출판사 + 카테고리 + 설명, 검색 색인 사용, 관련도순)
     public List<Book> searchBooksByKeyword(String keyword) {
         if(keyword == null || keyword.trim().isEmpty()) {
             return findAllBooks();
         }
-        return bookRepository.findByKeyword(keyword.trim());
+        return searchIndexed(keyword, SearchField.ALL);
+    }
+
+    //키워드로 도서 검색 - 페이지 단위 (관련도순)
+    public PageResponse<Book> searchBooksByKeyword(String keyword, int page, int size) {
+        if (keyword == null || keyword.trim().isEmpty()) {
+            return PageResponse.of(List.of(), page, size, 0);
+        }
+        SearchResult result = bookSearchIndex.search(keyword, SearchField.ALL, page * size, size);
+        return PageResponse.of(findBooksInOrder(result.ids()), page, size, result.total());
+    }
+
+    //검색어 자동완성
+    public List<Suggestion> suggestBooks(String prefix, int limit) {
+        if (prefix == null || prefix.trim().isEmpty()) {
+            return List.of();
+        }
+        return bookSearchIndex.suggest(prefix, limit);
+    }
+
+    private List<Book> searchIndexed(String query, SearchField field) {
+        if (query == null || query.trim().isEmpty()) {
+            return List.of();
+        }
+        SearchResult result = bookSearchIndex.search(query, field, 0, Integer.MAX_VALUE);
+        return findBooksInOrder(result.ids());
+    }
+
+    // 색인 결과 ID 순서(관련도순)대로 도서 조회
+    private List<Book> findBooksInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Book> booksById = bookRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Book::getId, Function.identity()));
+        return ids.stream()
+                .map(booksById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
     }
 
     //카테고리별 도서 조회
@@ -108,15 +240,15 @@ public class BookService {
         Book existingBook = bookRepository.findById(id)
             .orElseThrow(() -> new IllegalArgumentException("존재하지 않은 도서입니다:" + id));
 
-            if(updatedBook.getIsbn() != null &&
-                !updatedBook.getIsbn().equals(existingBook.getIsbn()) &&
-                bookRepository.findByIsbn(updatedBook.getIsbn()).isPresent()) {
-                    throw new IllegalArgumentException("이미 등록된 ISBN입니다." + updatedBook.getIsbn());
+            String isbn = IsbnNormalizer.normalize(updatedBook.getIsbn());
+            if(isbn != null &&
+                findByIsbnForms(isbn).filter(book -> !book.getId().equals(id)).isPresent()) {
+                    throw new IllegalArgumentException("이미 등록된 ISBN입니다." + isbn);
                 }
 
                 existingBook.setTitle(updatedBook.getTitle());
                 existingBook.setAuthor(updatedBook.getAuthor());
-                existingBook.setIsbn(updatedBook.getIsbn());
+                existingBook.setIsbn(isbn);
                 existingBook.setCategory(updatedBook.getCategory());
                 existingBook.setPublisher(updatedBook.getPublisher());
                 existingBook.setPublishedDate(updatedBook.getPublishedDate());
@@ -125,7 +257,9 @@ public class BookService {
                 if(updatedBook.getTotalCopies() != null) {
                     updateBookCopies(id, updatedBook.getTotalCopies());
                 }
-                return bookRepository.save(existingBook);
+                Book savedBook = bookRepository.save(existingBook);
+                bookSearchIndex.indexAfterCommit(savedBook);
+                return savedBook;
             }
 
     //도서 정보 수정 (Book 객체로) - LoanService용
@@ -133,6 +267,31 @@ public class BookService {
         return bookRepository.save(book);
     }
 
+    //대출 가능 재고 감소 - LoanService용 (DB 조건부 UPDATE로 동시 대출 시 초과 대출 방지)
+    public boolean decreaseAvailableCopies(Long id) {
+        return bookRepository.decrementAvailableCopies(id) > 0;
+    }
+
+    //대출 가능 재고 증가 - LoanService용
+    public boolean increaseAvailableCopies(Long id) {
+        return bookRepository.incrementAvailableCopies(id) > 0;
+    }
+
+    //여러 도서 행 잠금 조회 - 일괄 대출용 (트랜잭션 종료까지 다른 대출/반납 대기)
+    public List<Book> lockBooks(Collection<Long> ids) {
+        return bookRepository.findAllByIdForUpdate(ids);
+    }
+
+    //도서별 반납 권수만큼 대출 가능 재고 일괄 증가 - 일괄 반납용 (JDBC 배치)
+    public void increaseAvailableCopies(Map<Long, Integer> countsByBookId) {
+        bookRepository.incrementAvailableCopies(countsByBookId);
+    }
+
+    //여러 도서 대출 가능 재고 일괄 감소 - 일괄 대출용 (단일 UPDATE, 변경된 행 수 반환)
+    public int decreaseAvailableCopies(Collection<Long> ids) {
+        return bookRepository.decrementAvailableCopiesIn(ids);
+    }
+
     public Book updateBookCopies (Long id, Integer newTotalCopies) {
         Book book = bookRepository.findById(id)
         .orElseThrow(() ->  new IllegalArgumentException("존재하지 않는 도서입니다:" + id));
@@ -171,13 +330,20 @@ public class BookService {
             
             // 2단계: 이제 안전하게 도서 삭제 (폐기처분/분실 처리)
             bookRepository.deleteById(id);
+            bookSearchIndex.removeAfterCommit(id);
         } catch (Exception e) {
             throw new IllegalStateException("도서 삭제 중 오류가 발생했습니다: " + e.getMessage());
         }
     }
 
-    public List<Book> findPopularBooks() {
-        return bookRepository.findPopularBooks();
+    // 인기 도서 순위는 통계 테이블에서 조회 (loans 전체 집계 없음)
+    @Transactional(readOnly = true)
+    public List<PopularBookDTO> findPopularBooks(int limit, Integer days) {
+        return bookPopularityService.getTopBooks(limit, days);
+    }
+
+    public int rebuildPopularityStats() {
+        return bookPopularityService.rebuild();
     }
 
 
@@ -193,16 +359,4 @@ public class BookService {
     public long getTotalBooksCount() {
         return bookRepository.count();
     }
-    
-    // 임시 메서드: 데이터베이스 스키마 수정 (book_id 컬럼을 nullable로 변경)
-    @Transactional
-    public String fixLoanTableSchema() {
-        try {
-            // loans 테이블의 book_id 컬럼을 nullable로 변경
-            entityManager.createNativeQuery("ALTER TABLE loans MODIFY COLUMN book_id BIGINT NULL").executeUpdate();
-            return "스키마 수정 완료: loans.book_id 컬럼이 nullable로 변경되었습니다.";
-        } catch (Exception e) {
-            return "스키마 수정 실패: " + e.getMessage();
-        }
-    }
 }
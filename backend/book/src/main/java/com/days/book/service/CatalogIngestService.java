@@ -0,0 +1,511 @@
+package com.days.book.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.days.book.dto.CatalogIngestResult;
+import com.days.book.entity.Book;
+import com.days.book.repository.BookRepository;
+import com.days.book.search.BookSearchIndex;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 도서 일괄 입고 (MARC / CSV / NDJSON / JSON 배열)
+ * 입력을 레코드 단위로 읽어 청크마다 별도 트랜잭션으로 처리
+ * - ISBN을 ISBN-13으로 정규화하고 청크당 한 번의 IN 조회로 기존 도서 확인 (ISBN-10으로 저장된 도서도 매칭)
+ * - 기존 ISBN은 총/대출 가능 권수를 입고 권수만큼 증가, 새 ISBN은 JDBC 배치로 INSERT
+ * - 같은 입력 안에서 반복된 ISBN은 권수를 합산 (메타데이터는 처음 레코드 기준)
+ * - 새 도서는 커밋 후 검색 색인에 반영, 권수 갱신 도서는 2차 캐시에서 제거
+ */
+@Service
+@Slf4j
+public class CatalogIngestService {
+
+    private final BookRepository bookRepository;
+    private final BookSearchIndex bookSearchIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${book.ingest.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${book.ingest.max-errors:1000}")
+    private int maxErrors;
+
+    public CatalogIngestService(BookRepository bookRepository,
+                                BookSearchIndex bookSearchIndex,
+                                TransactionTemplate transactionTemplate,
+                                ObjectMapper objectMapper) {
+        this.bookRepository = bookRepository;
+        this.bookSearchIndex = bookSearchIndex;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    public enum IngestFormat {
+        MARC, CSV, NDJSON, JSON;
+
+        public static IngestFormat from(String value) {
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("지원하지 않는 형식입니다: " + value + " (marc, csv, ndjson, json)");
+            }
+        }
+    }
+
+    /**
+     * 입력 스트림의 도서를 일괄 입고
+     * 필드: isbn, title, author 필수 / publisher, category, publishedDate(yyyy-MM-dd 또는 yyyy), description, copies(기본 1) 선택
+     * CSV 헤더가 잘못된 경우 등 처음부터 처리할 수 없으면 IllegalArgumentException
+     */
+    public CatalogIngestResult ingest(InputStream in, IngestFormat format) throws IOException {
+        long started = System.nanoTime();
+        Report report = new Report(maxErrors);
+        RecordReader reader = openReader(in, format);
+
+        Map<String, CatalogEntry> chunk = new LinkedHashMap<>();
+        while (true) {
+            Map<String, String> fields;
+            try {
+                fields = reader.next();
+            } catch (IllegalArgumentException e) {
+                report.totalRecords++;
+                report.reject(reader.recordNumber(), null, e.getMessage());
+                continue;
+            } catch (IOException e) {
+                // 다음 레코드 위치를 알 수 없음 - 지금까지 읽은 레코드만 반영하고 중단
+                report.aborted = true;
+                report.reject(reader.recordNumber(), null, "입력을 더 읽을 수 없어 중단했습니다: " + e.getMessage());
+                break;
+            }
+            if (fields == null) {
+                break;
+            }
+
+            report.totalRecords++;
+            CatalogEntry entry;
+            try {
+                entry = toEntry(reader.recordNumber(), fields);
+            } catch (IllegalArgumentException e) {
+                report.reject(reader.recordNumber(), fields.get("isbn"), e.getMessage());
+                continue;
+            }
+            chunk.merge(entry.isbn(), entry, CatalogEntry::addCopies);
+            if (chunk.size() >= chunkSize) {
+                ingestChunk(chunk, report);
+                chunk.clear();
+            }
+        }
+        ingestChunk(chunk, report);
+
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        CatalogIngestResult result = report.toResult(elapsedMillis);
+        log.info("도서 일괄 입고 완료 - 형식: {}, 레코드: {}, 신규: {}, 권수 추가: {}, 거부: {}, {}ms ({}건/초)",
+                format, result.getTotalRecords(), result.getInserted(), result.getUpdated(), result.getRejected(),
+                elapsedMillis, String.format("%.1f", result.getRecordsPerSecond()));
+        return result;
+    }
+
+    /**
+     * 청크 하나를 한 트랜잭션으로 반영 (DB 오류 시 청크 전체 롤백 후 해당 레코드들을 거부로 기록)
+     */
+    private void ingestChunk(Map<String, CatalogEntry> chunk, Report report) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            int[] counts = transactionTemplate.execute(status -> {
+                // ISBN-13과 대응하는 ISBN-10을 함께 조회하여 기존 도서를 정규화된 ISBN으로 매칭
+                List<String> lookup = new ArrayList<>(chunk.size() * 2);
+                for (String isbn : chunk.keySet()) {
+                    lookup.addAll(IsbnNormalizer.lookupKeys(isbn));
+                }
+                Map<String, Long> existingIds = new HashMap<>();
+                for (Object[] row : bookRepository.findIdAndIsbnByIsbnIn(lookup)) {
+                    existingIds.putIfAbsent(IsbnNormalizer.normalize((String) row[1]), (Long) row[0]);
+                }
+
+                Map<Long, Integer> copiesByBookId = new HashMap<>();
+                List<Book> newBooks = new ArrayList<>();
+                for (CatalogEntry entry : chunk.values()) {
+                    Long bookId = existingIds.get(entry.isbn());
+                    if (bookId != null) {
+                        copiesByBookId.merge(bookId, entry.copies(), Integer::sum);
+                    } else {
+                        newBooks.add(entry.toBook());
+                    }
+                }
+                bookRepository.addCopies(copiesByBookId);
+                bookRepository.insertBooks(newBooks);
+
+                if (!newBooks.isEmpty()) {
+                    Map<String, Book> byIsbn = new HashMap<>();
+                    for (Book book : newBooks) {
+                        byIsbn.put(book.getIsbn(), book);
+                    }
+                    for (Object[] row : bookRepository.findIdAndIsbnByIsbnIn(byIsbn.keySet())) {
+                        byIsbn.get((String) row[1]).setId((Long) row[0]);
+                    }
+                    bookSearchIndex.indexAllAfterCommit(newBooks);
+                }
+                return new int[] {newBooks.size(), copiesByBookId.size()};
+            });
+            report.inserted += counts[0];
+            report.updated += counts[1];
+            for (CatalogEntry entry : chunk.values()) {
+                report.copiesAdded += entry.copies();
+            }
+        } catch (DataAccessException e) {
+            log.error("도서 일괄 입고 청크 실패 ({}건): {}", chunk.size(), e.getMessage());
+            for (CatalogEntry entry : chunk.values()) {
+                for (int record : entry.records()) {
+                    report.reject(record, entry.isbn(), "저장 중 오류가 발생했습니다: " + e.getMostSpecificCause().getMessage());
+                }
+            }
+        }
+    }
+
+    private static CatalogEntry toEntry(int record, Map<String, String> fields) {
+        String isbn = IsbnNormalizer.toIsbn13(fields.get("isbn"));
+        if (isbn == null) {
+            throw new IllegalArgumentException("유효한 ISBN(ISBN-10/13)이 필요합니다: " + fields.get("isbn"));
+        }
+        String title = requireLength(fields, "title", 200, true);
+        String author = requireLength(fields, "author", 100, true);
+        String publisher = requireLength(fields, "publisher", 100, false);
+        String category = requireLength(fields, "category", 50, false);
+        String description = blankToNull(fields.get("description"));
+        LocalDate publishedDate = parsePublishedDate(blankToNull(fields.get("publishedDate")));
+
+        int copies = 1;
+        String copiesValue = blankToNull(fields.get("copies"));
+        if (copiesValue != null) {
+            try {
+                copies = Integer.parseInt(copiesValue);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("권수가 숫자가 아닙니다: " + copiesValue);
+            }
+            if (copies < 1) {
+                throw new IllegalArgumentException("권수는 1 이상이어야 합니다.");
+            }
+        }
+        return new CatalogEntry(isbn, title, author, publisher, category, publishedDate, description, copies,
+                new ArrayList<>(List.of(record)));
+    }
+
+    private static String requireLength(Map<String, String> fields, String name, int maxLength, boolean required) {
+        String value = blankToNull(fields.get(name));
+        if (value == null) {
+            if (required) {
+                throw new IllegalArgumentException(name + " 값이 필요합니다.");
+            }
+            return null;
+        }
+        if (value.length() > maxLength) {
+            throw new IllegalArgumentException(name + "은(는) " + maxLength + "자 이하여야 합니다.");
+        }
+        return value;
+    }
+
+    /**
+     * yyyy-MM-dd 또는 발행년(yyyy, 1월 1일로 저장)
+     */
+    private static LocalDate parsePublishedDate(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            if (value.length() == 4) {
+                return LocalDate.of(Integer.parseInt(value), 1, 1);
+            }
+            return LocalDate.parse(value);
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new IllegalArgumentException("발행일 형식이 올바르지 않습니다: " + value);
+        }
+    }
+
+    private static String blankToNull(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    private RecordReader openReader(InputStream in, IngestFormat format) throws IOException {
+        return switch (format) {
+            case MARC -> new MarcReader(new MarcRecordReader(in));
+            case CSV -> new CsvReader(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+            case NDJSON -> new NdjsonReader(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+            case JSON -> new JsonArrayReader(objectMapper.getFactory().createParser(in));
+        };
+    }
+
+    /**
+     * 입력 형식별 레코드 읽기 - 입력 끝이면 null
+     * 해당 레코드만 잘못된 경우 IllegalArgumentException, 이후 입력을 읽을 수 없으면 IOException
+     */
+    private interface RecordReader {
+        Map<String, String> next() throws IOException;
+
+        int recordNumber();
+    }
+
+    private static final class MarcReader implements RecordReader {
+        private final MarcRecordReader reader;
+        private int record;
+
+        MarcReader(MarcRecordReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public Map<String, String> next() throws IOException {
+            // 읽는 중 손상이 발견되면 해당 레코드 순번으로 보고
+            record++;
+            Map<String, String> fields = reader.next();
+            if (fields == null) {
+                record--;
+            }
+            return fields;
+        }
+
+        @Override
+        public int recordNumber() {
+            return record;
+        }
+    }
+
+    /**
+     * CSV - 첫 행은 헤더, 레코드 번호는 줄 번호
+     */
+    private static final class CsvReader implements RecordReader {
+        private final BufferedReader reader;
+        private final Map<String, Integer> header = new HashMap<>();
+        private int line;
+
+        CsvReader(BufferedReader reader) throws IOException {
+            this.reader = reader;
+            String first = readNonBlank();
+            if (first == null) {
+                return;
+            }
+            if (first.startsWith("\uFEFF")) {
+                first = first.substring(1);
+            }
+            List<String> columns = CsvLineParser.split(first);
+            for (int i = 0; i < columns.size(); i++) {
+                header.put(columns.get(i).trim(), i);
+            }
+            if (!header.containsKey("isbn") || !header.containsKey("title") || !header.containsKey("author")) {
+                throw new IllegalArgumentException("CSV 첫 행에 isbn, title, author 헤더가 필요합니다.");
+            }
+        }
+
+        @Override
+        public Map<String, String> next() throws IOException {
+            String value = readNonBlank();
+            if (value == null) {
+                return null;
+            }
+            List<String> values = CsvLineParser.split(value);
+            Map<String, String> fields = new HashMap<>();
+            for (Map.Entry<String, Integer> column : header.entrySet()) {
+                if (column.getValue() < values.size()) {
+                    fields.put(column.getKey(), values.get(column.getValue()));
+                }
+            }
+            return fields;
+        }
+
+        private String readNonBlank() throws IOException {
+            String value;
+            do {
+                value = reader.readLine();
+                line++;
+            } while (value != null && value.isBlank());
+            return value;
+        }
+
+        @Override
+        public int recordNumber() {
+            return line;
+        }
+    }
+
+    /**
+     * NDJSON - 한 줄에 JSON 객체 하나, 레코드 번호는 줄 번호
+     */
+    private final class NdjsonReader implements RecordReader {
+        private final BufferedReader reader;
+        private int line;
+
+        NdjsonReader(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public Map<String, String> next() throws IOException {
+            String value;
+            do {
+                value = reader.readLine();
+                line++;
+            } while (value != null && value.isBlank());
+            if (value == null) {
+                return null;
+            }
+            JsonNode node;
+            try {
+                node = objectMapper.readTree(value);
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("JSON 형식이 올바르지 않습니다.");
+            }
+            return toFields(node);
+        }
+
+        @Override
+        public int recordNumber() {
+            return line;
+        }
+    }
+
+    /**
+     * JSON 배열 - 원소를 하나씩 스트리밍으로 읽음, 레코드 번호는 배열 순번 (1부터)
+     */
+    private static final class JsonArrayReader implements RecordReader {
+        private final JsonParser parser;
+        private boolean started;
+        private int record;
+
+        JsonArrayReader(JsonParser parser) {
+            this.parser = parser;
+        }
+
+        @Override
+        public Map<String, String> next() throws IOException {
+            if (!started) {
+                started = true;
+                JsonToken first = parser.nextToken();
+                if (first == null) {
+                    return null;
+                }
+                if (first != JsonToken.START_ARRAY) {
+                    throw new IOException("JSON 배열이 아닙니다.");
+                }
+            }
+            JsonToken token = parser.nextToken();
+            if (token == null || token == JsonToken.END_ARRAY) {
+                return null;
+            }
+            record++;
+            JsonNode node = parser.readValueAsTree();
+            return toFields(node);
+        }
+
+        @Override
+        public int recordNumber() {
+            return record;
+        }
+    }
+
+    private static Map<String, String> toFields(JsonNode node) {
+        if (node == null || !node.isObject()) {
+            throw new IllegalArgumentException("JSON 객체가 아닙니다.");
+        }
+        Map<String, String> fields = new HashMap<>();
+        for (Map.Entry<String, JsonNode> field : node.properties()) {
+            if (!field.getValue().isNull() && field.getValue().isValueNode()) {
+                fields.put(field.getKey(), field.getValue().asText());
+            }
+        }
+        return fields;
+    }
+
+    private record CatalogEntry(String isbn, String title, String author, String publisher, String category,
+                                LocalDate publishedDate, String description, int copies, List<Integer> records) {
+
+        CatalogEntry addCopies(CatalogEntry other) {
+            List<Integer> merged = new ArrayList<>(records);
+            merged.addAll(other.records);
+            return new CatalogEntry(isbn, title, author, publisher, category, publishedDate, description,
+                    copies + other.copies, merged);
+        }
+
+        Book toBook() {
+            return Book.builder()
+                    .isbn(isbn)
+                    .title(title)
+                    .author(author)
+                    .publisher(publisher)
+                    .category(category)
+                    .publishedDate(publishedDate)
+                    .description(description)
+                    .totalCopies(copies)
+                    .availableCopies(copies)
+                    .build();
+        }
+    }
+
+    private static class Report {
+        private final int maxErrors;
+        private final List<CatalogIngestResult.RejectedRecord> errors = new ArrayList<>();
+        private int totalRecords;
+        private int inserted;
+        private int updated;
+        private long copiesAdded;
+        private int rejected;
+        private boolean aborted;
+
+        Report(int maxErrors) {
+            this.maxErrors = maxErrors;
+        }
+
+        void reject(int record, String isbn, String reason) {
+            rejected++;
+            if (errors.size() < maxErrors) {
+                errors.add(new CatalogIngestResult.RejectedRecord(record, isbn, reason));
+            }
+        }
+
+        CatalogIngestResult toResult(long elapsedMillis) {
+            // 청크 단위로 기록되므로 레코드 순으로 정렬
+            errors.sort(Comparator.comparingInt(CatalogIngestResult.RejectedRecord::getRecord));
+            return CatalogIngestResult.builder()
+                    .totalRecords(totalRecords)
+                    .inserted(inserted)
+                    .updated(updated)
+                    .copiesAdded(copiesAdded)
+                    .rejected(rejected)
+                    .aborted(aborted)
+                    .elapsedMillis(elapsedMillis)
+                    .recordsPerSecond(elapsedMillis > 0 ? totalRecords * 1000.0 / elapsedMillis : totalRecords)
+                    .errorsTruncated(rejected > errors.size())
+                    .errors(errors)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.days.book.service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.days.book.dto.DashboardStatsDTO;
+import com.days.book.dto.LoanResponseDTO;
+import com.days.book.repository.LoanRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 관리자 대시보드 통계 스냅샷 서비스
+ * 집계 쿼리 결과를 메모리에 보관하고 TTL이 지나거나 대출/반납/연체 갱신이 커밋된 경우에만 다시 조회
+ * (LoanService가 무효화를 호출하므로 LoanService가 아닌 LoanRepository에서 직접 집계)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DashboardService {
+
+    private static final int RECENT_LOANS_LIMIT = 5;
+
+    private final LoanRepository loanRepository;
+
+    @Value("${dashboard.stats.ttl-ms:5000}")
+    private long statsTtlMs;
+
+    // 가상 스레드에서 집계 쿼리(JDBC I/O) 동안 carrier가 고정되지 않도록 synchronized 대신 ReentrantLock 사용
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private volatile DashboardSnapshot snapshot;
+
+    /**
+     * 대시보드 통계 스냅샷 조회 (TTL 이내면 메모리에서 반환)
+     */
+    public DashboardSnapshot getSnapshot() {
+        DashboardSnapshot current = snapshot;
+        if (current != null && !current.isExpired(statsTtlMs)) {
+            return current;
+        }
+        return refreshSnapshot();
+    }
+
+    /**
+     * 스냅샷 무효화 (다음 조회 시 다시 집계)
+     */
+    public void invalidate() {
+        snapshot = null;
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 스냅샷 무효화 (트랜잭션이 없으면 즉시)
+     * 커밋 전에 무효화하면 다른 요청이 변경 전 데이터로 스냅샷을 다시 채울 수 있음
+     */
+    public void invalidateAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate();
+                }
+            });
+        } else {
+            invalidate();
+        }
+    }
+
+    // 동시에 여러 요청이 만료된 스냅샷을 만나도 집계 쿼리는 한 번만 실행
+    private DashboardSnapshot refreshSnapshot() {
+        refreshLock.lock();
+        try {
+            DashboardSnapshot current = snapshot;
+            if (current != null && !current.isExpired(statsTtlMs)) {
+                return current;
+            }
+
+            LocalDate today = LocalDate.now();
+            DashboardStatsDTO stats = loanRepository.getDashboardStats(today);
+            List<LoanResponseDTO> recentLoans = loanRepository.findRecentLoansAsDTO(today, PageRequest.of(0, RECENT_LOANS_LIMIT));
+
+            DashboardSnapshot refreshed = new DashboardSnapshot(stats, recentLoans, System.currentTimeMillis());
+            snapshot = refreshed;
+            log.debug("Dashboard stats snapshot refreshed: {}", stats);
+            return refreshed;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * 대시보드 통계 스냅샷
+     */
+    public record DashboardSnapshot(DashboardStatsDTO stats, List<LoanResponseDTO> recentLoans, long refreshedAt) {
+
+        boolean isExpired(long ttlMs) {
+            return System.currentTimeMillis() - refreshedAt >= ttlMs;
+        }
+    }
+}
@@ -1,9 +1,10 @@
 package com.days.book.service;
 
+import com.days.book.entity.MailOutbox;
+import com.days.book.job.MailOutboxDispatcher;
+import com.days.book.repository.MailOutboxRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
 import java.util.Random;
@@ -13,7 +14,10 @@ import java.util.Random;
 @Slf4j
 public class EmailService {
     
-    private final JavaMailSender mailSender;
+    private static final String SENDER = "noreply@library.com";
+    
+    private final MailOutboxRepository mailOutboxRepository;
+    private final MailOutboxDispatcher mailOutboxDispatcher;
     
     /**
      * 이메일 인증 코드 생성 (6자리 숫자)
@@ -28,70 +32,40 @@ public class EmailService {
      * 아이디 찾기 인증 코드 이메일 발송
      */
     public void sendUsernameVerificationEmail(String toEmail, String verificationCode) {
-        try {
-            SimpleMailMessage message = new SimpleMailMessage();
-            message.setTo(toEmail);
-            message.setSubject("[도서관리시스템] 아이디 찾기 인증코드");
-            message.setText("안녕하세요.\n\n" +
-                    "아이디 찾기를 위한 인증코드입니다.\n\n" +
-                    "인증코드: " + verificationCode + "\n\n" +
-                    "본 인증코드는 5분간 유효합니다.\n\n" +
-                    "감사합니다.");
-            message.setFrom("noreply@library.com");
-            
-            mailSender.send(message);
-            log.info("아이디 찾기 인증 이메일 발송 성공: {}", toEmail);
-        } catch (Exception e) {
-            log.error("아이디 찾기 인증 이메일 발송 실패: {} - {}", toEmail, e.getMessage());
-            throw new RuntimeException("이메일 발송에 실패했습니다.", e);
-        }
+        enqueue(toEmail, "[도서관리시스템] 아이디 찾기 인증코드",
+                "안녕하세요.\n\n" +
+                "아이디 찾기를 위한 인증코드입니다.\n\n" +
+                "인증코드: " + verificationCode + "\n\n" +
+                "본 인증코드는 5분간 유효합니다.\n\n" +
+                "감사합니다.");
+        log.info("아이디 찾기 인증 이메일 발송 요청 등록: {}", toEmail);
     }
     
     /**
      * 비밀번호 초기화 인증 코드 이메일 발송
      */
     public void sendPasswordResetVerificationEmail(String toEmail, String verificationCode) {
-        try {
-            SimpleMailMessage message = new SimpleMailMessage();
-            message.setTo(toEmail);
-            message.setSubject("[도서관리시스템] 비밀번호 초기화 인증코드");
-            message.setText("안녕하세요.\n\n" +
-                    "비밀번호 초기화를 위한 인증코드입니다.\n\n" +
-                    "인증코드: " + verificationCode + "\n\n" +
-                    "본 인증코드는 5분간 유효합니다.\n\n" +
-                    "만약 본인이 요청하지 않은 이메일이라면 무시해주세요.\n\n" +
-                    "감사합니다.");
-            message.setFrom("noreply@library.com");
-            
-            mailSender.send(message);
-            log.info("비밀번호 초기화 인증 이메일 발송 성공: {}", toEmail);
-        } catch (Exception e) {
-            log.error("비밀번호 초기화 인증 이메일 발송 실패: {} - {}", toEmail, e.getMessage());
-            throw new RuntimeException("이메일 발송에 실패했습니다.", e);
-        }
+        enqueue(toEmail, "[도서관리시스템] 비밀번호 초기화 인증코드",
+                "안녕하세요.\n\n" +
+                "비밀번호 초기화를 위한 인증코드입니다.\n\n" +
+                "인증코드: " + verificationCode + "\n\n" +
+                "본 인증코드는 5분간 유효합니다.\n\n" +
+                "만약 본인이 요청하지 않은 이메일이라면 무시해주세요.\n\n" +
+                "감사합니다.");
+        log.info("비밀번호 초기화 인증 이메일 발송 요청 등록: {}", toEmail);
     }
     
     /**
      * 찾은 아이디 이메일 발송
      */
     public void sendFoundUsernameEmail(String toEmail, String username) {
-        try {
-            SimpleMailMessage message = new SimpleMailMessage();
-            message.setTo(toEmail);
-            message.setSubject("[도서관리시스템] 아이디 찾기 결과");
-            message.setText("안녕하세요.\n\n" +
-                    "요청하신 아이디 찾기 결과입니다.\n\n" +
-                    "아이디: " + username + "\n\n" +
-                    "로그인 페이지에서 해당 아이디로 로그인하실 수 있습니다.\n\n" +
-                    "감사합니다.");
-            message.setFrom("noreply@library.com");
-            
-            mailSender.send(message);
-            log.info("아이디 찾기 결과 이메일 발송 성공: {}", toEmail);
-        } catch (Exception e) {
-            log.error("아이디 찾기 결과 이메일 발송 실패: {} - {}", toEmail, e.getMessage());
-            throw new RuntimeException("이메일 발송에 실패했습니다.", e);
-        }
+        enqueue(toEmail, "[도서관리시스템] 아이디 찾기 결과",
+                "안녕하세요.\n\n" +
+                "요청하신 아이디 찾기 결과입니다.\n\n" +
+                "아이디: " + username + "\n\n" +
+                "로그인 페이지에서 해당 아이디로 로그인하실 수 있습니다.\n\n" +
+                "감사합니다.");
+        log.info("아이디 찾기 결과 이메일 발송 요청 등록: {}", toEmail);
     }
     
     /**
@@ -105,24 +79,14 @@ public class EmailService {
      * 회원가입 이메일 인증 발송
      */
     public void sendEmailVerification(String email, String token, String username) {
-        try {
-            SimpleMailMessage message = new SimpleMailMessage();
-            message.setTo(email);
-            message.setSubject("[도서관리시스템] 회원가입 이메일 인증");
-            message.setText("안녕하세요 " + username + "님,\n\n" +
-                    "회원가입을 완료하기 위해 이메일 인증이 필요합니다.\n\n" +
-                    "인증코드: " + token + "\n\n" +
-                    "본 인증코드는 5분간 유효합니다.\n\n" +
-                    "회원가입을 완료하려면 인증코드를 입력해주세요.\n\n" +
-                    "감사합니다.");
-            message.setFrom("noreply@library.com");
-            
-            mailSender.send(message);
-            log.info("회원가입 이메일 인증 발송 성공: {}", email);
-        } catch (Exception e) {
-            log.error("회원가입 이메일 인증 발송 실패: {} - {}", email, e.getMessage());
-            throw new RuntimeException("이메일 발송에 실패했습니다.", e);
-        }
+        enqueue(email, "[도서관리시스템] 회원가입 이메일 인증",
+                "안녕하세요 " + username + "님,\n\n" +
+                "회원가입을 완료하기 위해 이메일 인증이 필요합니다.\n\n" +
+                "인증코드: " + token + "\n\n" +
+                "본 인증코드는 5분간 유효합니다.\n\n" +
+                "회원가입을 완료하려면 인증코드를 입력해주세요.\n\n" +
+                "감사합니다.");
+        log.info("회원가입 이메일 인증 발송 요청 등록: {}", email);
     }
     
     /**
@@ -149,22 +113,25 @@ public class EmailService {
      * 임시 비밀번호 이메일 발송
      */
     public void sendTemporaryPassword(String toEmail, String temporaryPassword, String username) {
-        try {
-            SimpleMailMessage message = new SimpleMailMessage();
-            message.setTo(toEmail);
-            message.setSubject("[도서관리시스템] 임시 비밀번호 발급");
-            message.setText("안녕하세요 " + username + "님,\n\n" +
-                    "요청하신 임시 비밀번호가 발급되었습니다.\n\n" +
-                    "임시 비밀번호: " + temporaryPassword + "\n\n" +
-                    "로그인 후 반드시 비밀번호를 변경해주세요.\n\n" +
-                    "감사합니다.");
-            message.setFrom("noreply@library.com");
-            
-            mailSender.send(message);
-            log.info("임시 비밀번호 이메일 발송 성공: {}", toEmail);
-        } catch (Exception e) {
-            log.error("임시 비밀번호 이메일 발송 실패: {} - {}", toEmail, e.getMessage());
-            throw new RuntimeException("이메일 발송에 실패했습니다.", e);
-        }
+        enqueue(toEmail, "[도서관리시스템] 임시 비밀번호 발급",
+                "안녕하세요 " + username + "님,\n\n" +
+                "요청하신 임시 비밀번호가 발급되었습니다.\n\n" +
+                "임시 비밀번호: " + temporaryPassword + "\n\n" +
+                "로그인 후 반드시 비밀번호를 변경해주세요.\n\n" +
+                "감사합니다.");
+        log.info("임시 비밀번호 이메일 발송 요청 등록: {}", toEmail);
+    }
+    
+    /**
+     * 메일을 outbox에 등록 (호출한 트랜잭션과 함께 커밋되며, 커밋 후 백그라운드에서 SMTP 발송)
+     */
+    private void enqueue(String toEmail, String subject, String body) {
+        mailOutboxRepository.save(MailOutbox.builder()
+                .recipient(toEmail)
+                .sender(SENDER)
+                .subject(subject)
+                .body(body)
+                .build());
+        mailOutboxDispatcher.dispatchAfterCommit();
     }
 }
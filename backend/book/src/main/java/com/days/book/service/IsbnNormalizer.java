@@ -0,0 +1,111 @@
+package com.days.book.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ISBN 정규화 (도서 등록/수정, 일괄 입고, 스캐너 반납이 같은 규칙으로 저장/조회하도록 공통화)
+ * - 유효한 ISBN-10/13은 하이픈/공백을 제거한 ISBN-13으로 저장
+ * - 체크 숫자가 맞지 않는 값은 하이픈/공백만 제거하고 대문자로 저장
+ * - 기존 ISBN-10으로 저장된 도서도 찾을 수 있도록 조회 시에는 ISBN-10 형태도 함께 조회
+ */
+final class IsbnNormalizer {
+
+    private IsbnNormalizer() {
+    }
+
+    /**
+     * 저장용 ISBN (유효하면 ISBN-13, 아니면 구분자만 제거, 비어 있으면 null)
+     */
+    static String normalize(String value) {
+        String compact = compact(value);
+        if (compact == null) {
+            return null;
+        }
+        String isbn13 = toIsbn13(compact);
+        return isbn13 != null ? isbn13 : compact;
+    }
+
+    /**
+     * 정규화된 ISBN으로 저장되었을 수 있는 값 목록 (ISBN-13 + 대응하는 ISBN-10)
+     */
+    static List<String> lookupKeys(String normalized) {
+        List<String> keys = new ArrayList<>(2);
+        keys.add(normalized);
+        String isbn10 = toIsbn10(normalized);
+        if (isbn10 != null) {
+            keys.add(isbn10);
+        }
+        return keys;
+    }
+
+    /**
+     * 하이픈/공백을 제거하고 ISBN-13으로 정규화 (체크 숫자가 맞지 않으면 null)
+     */
+    static String toIsbn13(String value) {
+        String isbn = compact(value);
+        if (isbn == null) {
+            return null;
+        }
+        if (isbn.length() == 10 && isbn.substring(0, 9).chars().allMatch(Character::isDigit)
+                && (Character.isDigit(isbn.charAt(9)) || isbn.charAt(9) == 'X')) {
+            int sum = 0;
+            for (int i = 0; i < 10; i++) {
+                int digit = isbn.charAt(i) == 'X' ? 10 : isbn.charAt(i) - '0';
+                sum += digit * (10 - i);
+            }
+            if (sum % 11 != 0) {
+                return null;
+            }
+            String body = "978" + isbn.substring(0, 9);
+            return body + isbn13CheckDigit(body);
+        }
+        if (isbn.length() == 13 && isbn.chars().allMatch(Character::isDigit)
+                && (isbn.startsWith("978") || isbn.startsWith("979"))
+                && isbn13CheckDigit(isbn.substring(0, 12)) == isbn.charAt(12) - '0') {
+            return isbn;
+        }
+        return null;
+    }
+
+    /**
+     * 978로 시작하는 ISBN-13에 대응하는 ISBN-10 (그 외 null)
+     */
+    static String toIsbn10(String isbn13) {
+        if (isbn13 == null || isbn13.length() != 13 || !isbn13.startsWith("978")
+                || !isbn13.chars().allMatch(Character::isDigit)) {
+            return null;
+        }
+        String body = isbn13.substring(3, 12);
+        int sum = 0;
+        for (int i = 0; i < 9; i++) {
+            sum += (body.charAt(i) - '0') * (10 - i);
+        }
+        int check = (11 - sum % 11) % 11;
+        return body + (check == 10 ? "X" : String.valueOf(check));
+    }
+
+    // 하이픈/공백 제거 + 대문자 (비어 있으면 null)
+    private static String compact(String value) {
+        if (value == null) {
+            return null;
+        }
+        StringBuilder sb = new StringBuilder(13);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '-' || Character.isWhitespace(c)) {
+                continue;
+            }
+            sb.append(Character.toUpperCase(c));
+        }
+        return sb.length() > 0 ? sb.toString() : null;
+    }
+
+    private static int isbn13CheckDigit(String first12) {
+        int sum = 0;
+        for (int i = 0; i < 12; i++) {
+            sum += (first12.charAt(i) - '0') * (i % 2 == 0 ? 1 : 3);
+        }
+        return (10 - sum % 10) % 10;
+    }
+}
@@ -0,0 +1,175 @@
+package com.days.book.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.days.book.dto.LoanResponseDTO;
+import com.days.book.entity.Loan.LoanStatus;
+import com.days.book.repository.LoanRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 대출 원장 스트리밍 내보내기 (NDJSON / CSV)
+ * JDBC 커서에서 한 행씩 읽어 바로 출력 스트림에 쓰므로 행 수와 관계없이 힙 사용량이 일정
+ */
+@Service
+@Slf4j
+public class LoanExportService {
+
+    private static final String[] CSV_HEADER = {
+            "id", "loanDate", "dueDate", "returnDate", "status", "overdueFee", "notes", "createdAt", "updatedAt",
+            "bookId", "bookTitle", "bookAuthor", "bookIsbn", "bookCategory",
+            "memberId", "memberName", "memberEmail", "memberNumber",
+            "overdueDays", "overdue"
+    };
+
+    private final LoanRepository loanRepository;
+    private final ObjectWriter ndjsonWriter;
+    private final ObjectMapper objectMapper;
+
+    public LoanExportService(LoanRepository loanRepository, ObjectMapper objectMapper) {
+        this.loanRepository = loanRepository;
+        this.objectMapper = objectMapper;
+        // 행마다 flush 하지 않고 출력 버퍼가 찰 때만 전송
+        this.ndjsonWriter = objectMapper.writerFor(LoanResponseDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    public enum ExportFormat {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        ExportFormat(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public static ExportFormat from(String value) {
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + value + " (ndjson, csv)");
+            }
+        }
+    }
+
+    /**
+     * 내보내기 조건 검증 (응답 헤더를 쓰기 전에 호출)
+     */
+    public void validate(LocalDate from, LocalDate to) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("시작일이 종료일보다 늦을 수 없습니다.");
+        }
+    }
+
+    /**
+     * 조건에 맞는 대출을 지정 형식으로 out에 기록 - 기록한 행 수 반환 (out은 닫지 않음)
+     */
+    @Transactional(readOnly = true)
+    public long export(LocalDate from, LocalDate to, LoanStatus status, ExportFormat format, OutputStream out)
+            throws IOException {
+        validate(from, to);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+
+        long rows = 0;
+        try (Stream<LoanResponseDTO> loans = loanRepository.streamLoansForExport(from, to, status, LocalDate.now())) {
+            Iterator<LoanResponseDTO> iterator = loans.iterator();
+            if (format == ExportFormat.NDJSON) {
+                JsonGenerator generator = objectMapper.getFactory().createGenerator(writer);
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.setRootValueSeparator(new SerializedString("\n"));
+                while (iterator.hasNext()) {
+                    ndjsonWriter.writeValue(generator, iterator.next());
+                    rows++;
+                }
+                if (rows > 0) {
+                    generator.writeRaw('\n');
+                }
+                generator.flush();
+            } else {
+                // 엑셀에서 한글이 깨지지 않도록 UTF-8 BOM 기록
+                writer.write('\uFEFF');
+                writeCsvRow(writer, CSV_HEADER);
+                while (iterator.hasNext()) {
+                    writeCsvRow(writer, toCsvValues(iterator.next()));
+                    rows++;
+                }
+            }
+        }
+        writer.flush();
+        log.info("대출 내보내기 완료 - 형식: {}, 행 수: {}, 기간: {} ~ {}, 상태: {}", format, rows, from, to, status);
+        return rows;
+    }
+
+    private static Object[] toCsvValues(LoanResponseDTO loan) {
+        return new Object[] {
+                loan.getId(), loan.getLoanDate(), loan.getDueDate(), loan.getReturnDate(), loan.getStatus(),
+                loan.getOverdueFee(), loan.getNotes(), loan.getCreatedAt(), loan.getUpdatedAt(),
+                loan.getBookId(), loan.getBookTitle(), loan.getBookAuthor(), loan.getBookIsbn(), loan.getBookCategory(),
+                loan.getMemberId(), loan.getMemberName(), loan.getMemberEmail(), loan.getMemberNumber(),
+                loan.getOverdueDays(), loan.isOverdue()
+        };
+    }
+
+    private static void writeCsvRow(Writer writer, Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] != null) {
+                writer.write(escapeCsv(values[i].toString()));
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * RFC 4180 인용 처리 + 스프레드시트 수식 주입 방지 (=, +, -, @ 로 시작하는 문자열 앞에 ' 추가)
+     */
+    private static String escapeCsv(String value) {
+        if (!value.isEmpty() && "=+-@".indexOf(value.charAt(0)) >= 0 && !isNumber(value)) {
+            value = "'" + value;
+        }
+        if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+        return value;
+    }
+
+    private static boolean isNumber(String value) {
+        try {
+            Double.parseDouble(value);
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
@@ -1,13 +1,22 @@
 package com.days.book.service;
 
 import java.time.LocalDate;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.days.book.entity.Book;
@@ -16,8 +25,16 @@ import com.days.book.entity.Loan.LoanStatus;
 import com.days.book.entity.Member;
 import com.days.book.entity.Member.MemberStatus;
 import com.days.book.entity.User;
+import com.days.book.job.InvalidLoanCleanupJob;
+import com.days.book.job.OverdueSweepJob;
+import com.days.book.metrics.LoanMetrics;
 import com.days.book.repository.LoanRepository;
 import com.days.book.repository.UserRepository;
+import com.days.book.dto.DashboardStatsDTO;
+import com.days.book.dto.LoanBatchResult;
+import com.days.book.dto.LoanReturnBatchRequest;
+import com.days.book.dto.LoanReturnBatchResult;
+import com.days.book.dto.LoanCursorPage;
 import com.days.book.dto.LoanResponseDTO;
 
 import jakarta.persistence.EntityNotFoundException;
@@ -34,17 +51,31 @@ public class LoanService {
     private final BookService bookService;
     private final MemberService memberService;
     private final UserRepository userRepository;
+    private final OverdueSweepJob overdueSweepJob;
+    private final InvalidLoanCleanupJob invalidLoanCleanupJob;
+    private final LoanMetrics loanMetrics;
+    private final BookPopularityService bookPopularityService;
+    private final DashboardService dashboardService;
+
+    private static final int MAX_BATCH_SIZE = 20;
+    private static final int MAX_RETURN_BATCH_SIZE = 500;
 
     /**
      * 도서 대출
      */
     public Loan createLoan(Long bookId, Long memberId) {
-        // 1. 도서와 회원 정보 조회
-        Book book = bookService.getBook(bookId);
+        // 1. 회원 정보 조회 및 대출 가능 여부 검증
         Member member = memberService.getMember(memberId);
+        validateLoanEligibility(bookId, member);
 
-        // 2. 대출 가능 여부 검증
-        validateLoanEligibility(book, member);
+        // 2. 도서 재고 감소 (조건부 UPDATE - 재고가 있을 때만 성공하므로 동시 대출 시에도 초과 대출 없음)
+        if (!bookService.decreaseAvailableCopies(bookId)) {
+            if (!bookService.existtById(bookId)) {
+                throw new EntityNotFoundException("도서를 찾을 수 없습니다. ID: " + bookId);
+            }
+            throw new RuntimeException("대출 가능한 재고가 없습니다.");
+        }
+        Book book = bookService.getBook(bookId);
 
         // 3. 대출 생성
         Loan loan = Loan.builder()
@@ -56,11 +87,95 @@ public class LoanService {
                 .overdueFee(0)
                 .build();
 
-        // 4. 도서 재고 감소
-        book.loanBook();
-        bookService.updateBook(book);
+        Loan saved = loanRepository.save(loan);
+        bookPopularityService.recordLoans(List.of(bookId));
+        loanMetrics.loansCreatedAfterCommit(1);
+        dashboardService.invalidateAfterCommit();
+        return saved;
+    }
 
-        return loanRepository.save(loan);
+    /**
+     * 일괄 대출 (한 회원이 여러 권을 한 트랜잭션으로 대출)
+     * - 회원 상태와 대출 한도는 요청 전체 기준으로 한 번만 확인 (초과 시 전체 거부)
+     * - 도서 행을 한 번에 잠근 뒤 재고가 있는 도서만 단일 UPDATE로 재고 감소
+     * - 대출은 JDBC 배치 INSERT로 생성하고 도서별 성공/실패 결과 반환
+     */
+    public LoanBatchResult createLoans(Long memberId, List<Long> bookIds) {
+        if (bookIds == null || bookIds.isEmpty()) {
+            throw new IllegalArgumentException("대출할 도서를 선택해주세요.");
+        }
+        if (bookIds.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("한 번에 최대 " + MAX_BATCH_SIZE + "권까지 대출할 수 있습니다.");
+        }
+
+        // 1. 회원 상태 및 대출 한도 확인 (요청 전체 기준 1회)
+        Member member = memberService.getMember(memberId);
+        if (member.getStatus() != MemberStatus.ACTIVE) {
+            throw new RuntimeException("대출 불가능한 회원 상태입니다: " + member.getStatus().getDescription());
+        }
+        Set<Long> distinctIds = new LinkedHashSet<>(bookIds);
+        long currentLoanCount = loanRepository.countOpenLoansByMember(member);
+        if (currentLoanCount + distinctIds.size() > member.getMaxLoanCount()) {
+            throw new RuntimeException("대출 한도를 초과했습니다. 현재 대출: " + currentLoanCount +
+                    ", 요청: " + distinctIds.size() + ", 최대 허용: " + member.getMaxLoanCount());
+        }
+
+        // 2. 이미 대출 중인 도서 확인 (1회 조회)
+        Set<Long> alreadyBorrowed = new HashSet<>(loanRepository.findActiveBookIdsByMember(member, distinctIds));
+
+        // 3. 도서 행 잠금 후 재고 확인
+        Map<Long, Book> books = bookService.lockBooks(distinctIds).stream()
+                .collect(Collectors.toMap(Book::getId, Function.identity()));
+
+        Map<Long, String> failures = new HashMap<>();
+        List<Long> lendable = new ArrayList<>();
+        Set<Long> seen = new HashSet<>();
+        for (Long bookId : bookIds) {
+            if (!seen.add(bookId)) {
+                continue;
+            }
+            Book book = books.get(bookId);
+            if (book == null) {
+                failures.put(bookId, "도서를 찾을 수 없습니다. ID: " + bookId);
+            } else if (alreadyBorrowed.contains(bookId)) {
+                failures.put(bookId, "이미 대출 중인 도서입니다.");
+            } else if (book.getAvailableCopies() == null || book.getAvailableCopies() <= 0) {
+                failures.put(bookId, "대출 가능한 재고가 없습니다.");
+            } else {
+                lendable.add(bookId);
+            }
+        }
+
+        // 4. 재고 일괄 감소 + 대출 일괄 생성
+        Map<Long, Long> loanIds = new HashMap<>();
+        if (!lendable.isEmpty()) {
+            bookService.decreaseAvailableCopies(lendable);
+            LocalDate today = LocalDate.now();
+            loanRepository.insertActiveLoans(member.getId(), lendable, today, today.plusDays(14));
+            for (Object[] row : loanRepository.findActiveLoanIdsByMember(member, lendable)) {
+                loanIds.put((Long) row[0], (Long) row[1]);
+            }
+            bookPopularityService.recordLoans(lendable);
+            loanMetrics.loansCreatedAfterCommit(lendable.size());
+            dashboardService.invalidateAfterCommit();
+        }
+
+        // 5. 요청 순서대로 도서별 결과 구성 (중복 요청은 두 번째부터 실패 처리)
+        List<LoanBatchResult.Item> results = new ArrayList<>();
+        seen.clear();
+        for (Long bookId : bookIds) {
+            if (!seen.add(bookId)) {
+                results.add(LoanBatchResult.Item.builder()
+                        .bookId(bookId).success(false).message("중복 요청된 도서입니다.").build());
+            } else if (failures.containsKey(bookId)) {
+                results.add(LoanBatchResult.Item.builder()
+                        .bookId(bookId).success(false).message(failures.get(bookId)).build());
+            } else {
+                results.add(LoanBatchResult.Item.builder()
+                        .bookId(bookId).loanId(loanIds.get(bookId)).success(true).build());
+            }
+        }
+        return LoanBatchResult.of(member.getId(), results);
     }
 
     /**
@@ -69,18 +184,140 @@ public class LoanService {
     public Loan returnBook(Long loanId) {
         Loan loan = getLoan(loanId);
 
-        // 이미 반납된 대출인지 확인
-        if (loan.getStatus() == LoanStatus.RETURNED) {
+        // 이미 반납된 대출인지 확인 (연체 반납은 OVERDUE 상태이므로 반납일도 확인)
+        if (loan.getStatus() == LoanStatus.RETURNED || loan.getReturnDate() != null) {
             throw new RuntimeException("이미 반납된 대출입니다.");
         }
 
         // 반납 처리 (Loan 엔티티의 메서드 사용)
         loan.returnBook();
         
-        // Book 엔티티의 availableCopies 변경사항 저장
-        bookService.updateBook(loan.getBook());
+        // 도서 재고 증가 (DB 원자적 UPDATE)
+        if (loan.getBook() != null) {
+            bookService.increaseAvailableCopies(loan.getBook().getId());
+        }
 
-        return loanRepository.save(loan);
+        Loan saved = loanRepository.save(loan);
+        loanMetrics.loansReturnedAfterCommit(1);
+        dashboardService.invalidateAfterCommit();
+        return saved;
+    }
+
+    /**
+     * 일괄 반납 (스캐너 모드 - 반납함 도서를 한 번에 처리)
+     * - loanId 또는 isbn + memberId로 대출 지정 (ISBN 항목은 한 번의 조회로 대출 ID 확인)
+     * - 대출 행을 한 번에 잠그고 단일 UPDATE로 반납일/상태/연체료 일괄 갱신
+     * - 도서 재고는 도서별 반납 권수를 합산하여 JDBC 배치로 한 번에 증가
+     */
+    public LoanReturnBatchResult returnBooks(List<LoanReturnBatchRequest.Item> items) {
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("반납할 대출을 선택해주세요.");
+        }
+        if (items.size() > MAX_RETURN_BATCH_SIZE) {
+            throw new IllegalArgumentException("한 번에 최대 " + MAX_RETURN_BATCH_SIZE + "건까지 반납할 수 있습니다.");
+        }
+
+        // 1. ISBN + 회원 항목을 대출 ID로 변환 (같은 도서를 여러 번 스캔하면 오래된 대출부터 배정)
+        Long[] resolvedIds = resolveReturnLoanIds(items);
+
+        // 2. 대상 대출 잠금 조회
+        Set<Long> loanIds = new HashSet<>();
+        for (Long id : resolvedIds) {
+            if (id != null) {
+                loanIds.add(id);
+            }
+        }
+        Map<Long, Loan> loans = loanIds.isEmpty() ? Map.of() : loanRepository.findAllByIdForUpdate(loanIds).stream()
+                .collect(Collectors.toMap(Loan::getId, Function.identity()));
+
+        // 3. 항목별 반납 가능 여부 판정
+        LocalDate today = LocalDate.now();
+        List<LoanReturnBatchResult.Item> results = new ArrayList<>();
+        List<Long> returnable = new ArrayList<>();
+        Map<Long, Integer> returnedCopies = new HashMap<>();
+        Set<Long> seen = new HashSet<>();
+        for (int i = 0; i < items.size(); i++) {
+            LoanReturnBatchRequest.Item item = items.get(i);
+            Long loanId = resolvedIds[i];
+            Loan loan = loanId != null ? loans.get(loanId) : null;
+            LoanReturnBatchResult.Item.ItemBuilder result = LoanReturnBatchResult.Item.builder()
+                    .loanId(loanId)
+                    .isbn(item.getIsbn())
+                    .memberId(item.getMemberId());
+
+            if (loan == null) {
+                results.add(result.success(false).message("반납할 대출을 찾을 수 없습니다.").build());
+                continue;
+            }
+            Long bookId = loan.getBook() != null ? loan.getBook().getId() : null;
+            result.bookId(bookId);
+            if (!seen.add(loanId)) {
+                results.add(result.success(false).message("중복 요청된 대출입니다.").build());
+            } else if (loan.getStatus() == LoanStatus.RETURNED || loan.getReturnDate() != null) {
+                results.add(result.success(false).status(loan.getStatus()).message("이미 반납된 대출입니다.").build());
+            } else {
+                boolean late = today.isAfter(loan.getDueDate());
+                LoanStatus status = late ? LoanStatus.OVERDUE : LoanStatus.RETURNED;
+                int fee = late ? (int) (java.time.temporal.ChronoUnit.DAYS.between(loan.getDueDate(), today) * 100) : 0;
+                results.add(result.success(true).status(status).overdueFee(fee).build());
+                returnable.add(loanId);
+                if (bookId != null) {
+                    returnedCopies.merge(bookId, 1, Integer::sum);
+                }
+            }
+        }
+
+        // 4. 반납 일괄 처리 + 도서별 재고 일괄 증가
+        if (!returnable.isEmpty()) {
+            loanRepository.returnLoansByIds(returnable, today);
+            bookService.increaseAvailableCopies(returnedCopies);
+            loanMetrics.loansReturnedAfterCommit(returnable.size());
+            dashboardService.invalidateAfterCommit();
+        }
+        return LoanReturnBatchResult.of(results);
+    }
+
+    // 요청 항목별 대출 ID (찾지 못하면 null)
+    private Long[] resolveReturnLoanIds(List<LoanReturnBatchRequest.Item> items) {
+        Long[] ids = new Long[items.size()];
+        Set<Long> explicitIds = new HashSet<>();
+        Set<String> isbns = new HashSet<>();
+        Set<Long> memberIds = new HashSet<>();
+        for (int i = 0; i < items.size(); i++) {
+            LoanReturnBatchRequest.Item item = items.get(i);
+            if (item.getLoanId() != null) {
+                ids[i] = item.getLoanId();
+                explicitIds.add(item.getLoanId());
+            } else if (item.getIsbn() != null && item.getMemberId() != null) {
+                String isbn = IsbnNormalizer.normalize(item.getIsbn());
+                if (isbn != null) {
+                    isbns.addAll(IsbnNormalizer.lookupKeys(isbn));
+                    memberIds.add(item.getMemberId());
+                }
+            }
+        }
+        if (isbns.isEmpty()) {
+            return ids;
+        }
+
+        // (정규화된 isbn, memberId) -> 반납되지 않은 대출 ID 목록 (오래된 순)
+        Map<String, Deque<Long>> candidates = new HashMap<>();
+        for (Object[] row : loanRepository.findUnreturnedLoanIdsByIsbnAndMember(isbns, memberIds)) {
+            String isbn = IsbnNormalizer.normalize((String) row[1]);
+            candidates.computeIfAbsent(isbn + "|" + row[2], key -> new ArrayDeque<>()).add((Long) row[0]);
+        }
+        for (int i = 0; i < items.size(); i++) {
+            LoanReturnBatchRequest.Item item = items.get(i);
+            if (ids[i] == null && item.getIsbn() != null && item.getMemberId() != null) {
+                Deque<Long> queue = candidates.get(IsbnNormalizer.normalize(item.getIsbn()) + "|" + item.getMemberId());
+                // loanId로 직접 지정된 대출은 ISBN 항목에 다시 배정하지 않음
+                while (queue != null && !queue.isEmpty() && explicitIds.contains(queue.peek())) {
+                    queue.poll();
+                }
+                ids[i] = queue != null ? queue.poll() : null;
+            }
+        }
+        return ids;
     }
 
     /**
@@ -107,7 +344,9 @@ public class LoanService {
             loan.setNotes(loan.getNotes() + " | 분실사유: " + reason);
         }
 
-        return loanRepository.save(loan);
+        Loan saved = loanRepository.save(loan);
+        dashboardService.invalidateAfterCommit();
+        return saved;
     }
 
     /**
@@ -132,83 +371,76 @@ public class LoanService {
      */
     @Transactional(readOnly = true)
     public List<LoanResponseDTO> getAllLoansAsDTO() {
-        List<LoanResponseDTO> loans = loanRepository.findAllLoansAsDTO();
-        
-        // 연체 정보 계산 (DTO에서는 직접 계산 필요)
-        for (LoanResponseDTO loan : loans) {
-            if (loan.getDueDate() != null) {
-                LocalDate checkDate = loan.getReturnDate() != null ? loan.getReturnDate() : LocalDate.now();
-                if (checkDate.isAfter(loan.getDueDate())) {
-                    long overdueDays = java.time.temporal.ChronoUnit.DAYS.between(loan.getDueDate(), checkDate);
-                    loan.setOverdueDays(overdueDays);
-                    loan.setOverdue(true);
-                } else {
-                    loan.setOverdueDays(0L);
-                    loan.setOverdue(false);
-                }
-            }
-        }
-        
-        return loans;
+        return loanRepository.findAllLoansAsDTO(LocalDate.now());
     }
 
     /**
-     * 회원별 활성 대출 조회
+     * 회원별 미반납 대출 조회 (연체 중 포함, DTO, 단일 쿼리)
      */
     @Transactional(readOnly = true)
-    public List<Loan> getActiveLoansByMember(Long memberId) {
-        Member member = memberService.getMember(memberId);
-        return loanRepository.findActiveLoansByMember(member);
+    public List<LoanResponseDTO> getActiveLoansByMember(Long memberId) {
+        List<LoanResponseDTO> loans = loanRepository.findOpenLoansAsDTOByMemberId(memberId, LocalDate.now());
+        if (loans.isEmpty()) {
+            memberService.getMember(memberId); // 결과가 없을 때만 회원 존재 여부 확인 (없으면 예외)
+        }
+        return loans;
     }
 
     /**
-     * 회원별 대출 이력 조회
+     * 회원별 대출 이력 조회 (DTO, 단일 쿼리)
      */
     @Transactional(readOnly = true)
-    public List<Loan> getLoanHistoryByMember(Long memberId) {
-        Member member = memberService.getMember(memberId);
-        return loanRepository.findByMemberOrderByLoanDateDesc(member);
+    public List<LoanResponseDTO> getLoanHistoryByMember(Long memberId) {
+        List<LoanResponseDTO> loans = loanRepository.findLoansAsDTOByMemberId(memberId, LocalDate.now(), Pageable.unpaged());
+        if (loans.isEmpty()) {
+            memberService.getMember(memberId);
+        }
+        return loans;
     }
 
     /**
-     * 도서별 대출 이력 조회
+     * 도서별 대출 이력 조회 (DTO, 단일 쿼리)
      */
     @Transactional(readOnly = true)
-    public List<Loan> getLoanHistoryByBook(Long bookId) {
-        Book book = bookService.getBook(bookId);
-        return loanRepository.findByBookOrderByLoanDateDesc(book);
+    public List<LoanResponseDTO> getLoanHistoryByBook(Long bookId) {
+        List<LoanResponseDTO> loans = loanRepository.findLoansAsDTOByBookId(bookId, LocalDate.now());
+        if (loans.isEmpty()) {
+            bookService.getBook(bookId); // 결과가 없을 때만 도서 존재 여부 확인 (없으면 예외)
+        }
+        return loans;
     }
 
     /**
-     * 연체된 대출 조회
+     * 연체된 대출 조회 (DTO, 단일 쿼리)
      */
     @Transactional(readOnly = true)
-    public List<Loan> getOverdueLoans() {
-        return loanRepository.findOverdueLoans(LocalDate.now());
+    public List<LoanResponseDTO> getOverdueLoans() {
+        return loanRepository.findOverdueLoansAsDTO(LocalDate.now());
     }
 
     /**
-     * 오늘 반납 예정인 대출 조회
+     * 오늘 반납 예정인 대출 조회 (DTO, 단일 쿼리)
      */
     @Transactional(readOnly = true)
-    public List<Loan> getTodayDueLoans() {
-        return loanRepository.findByDueDateAndStatus(LocalDate.now(), LoanStatus.ACTIVE);
+    public List<LoanResponseDTO> getTodayDueLoans() {
+        LocalDate today = LocalDate.now();
+        return loanRepository.findLoansAsDTOByDueDateAndStatus(today, LoanStatus.ACTIVE, today);
     }
 
     /**
-     * 상태별 대출 조회
+     * 상태별 대출 조회 (DTO, 단일 쿼리)
      */
     @Transactional(readOnly = true)
-    public List<Loan> getLoansByStatus(LoanStatus status) {
-        return loanRepository.findByStatus(status);
+    public List<LoanResponseDTO> getLoansByStatus(LoanStatus status) {
+        return loanRepository.findLoansAsDTOByStatus(status, LocalDate.now());
     }
 
     /**
-     * 기간별 대출 조회
+     * 기간별 대출 조회 (DTO, 단일 쿼리)
      */
     @Transactional(readOnly = true)
-    public List<Loan> getLoansByDateRange(LocalDate startDate, LocalDate endDate) {
-        return loanRepository.findByLoanDateBetween(startDate, endDate);
+    public List<LoanResponseDTO> getLoansByDateRange(LocalDate startDate, LocalDate endDate) {
+        return loanRepository.findLoansAsDTOByLoanDateBetween(startDate, endDate, LocalDate.now());
     }
 
     /**
@@ -222,16 +454,11 @@ public class LoanService {
 
     /**
      * 연체 상태 일괄 업데이트 (배치 작업용)
+     * 청크 단위로 커밋하는 OverdueSweepJob에 위임하므로 트랜잭션 없이 실행
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public int updateOverdueStatus() {
-        List<Loan> overdueLoans = loanRepository.findOverdueLoans(LocalDate.now());
-        
-        for (Loan loan : overdueLoans) {
-            loan.markAsOverdue();
-        }
-        
-        loanRepository.saveAll(overdueLoans);
-        return overdueLoans.size();
+        return overdueSweepJob.run();
     }
 
     /**
@@ -240,7 +467,7 @@ public class LoanService {
     @Transactional(readOnly = true)
     public Long getCurrentLoanCountByMember(Long memberId) {
         Member member = memberService.getMember(memberId);
-        return loanRepository.countByMemberAndStatus(member, LoanStatus.ACTIVE);
+        return loanRepository.countOpenLoansByMember(member);
     }
 
     /**
@@ -248,19 +475,32 @@ public class LoanService {
      */
     @Transactional(readOnly = true)
     public LoanStatistics getLoanStatistics() {
-        long totalLoans = loanRepository.count();
-        long activeLoans = loanRepository.findByStatus(LoanStatus.ACTIVE).size();
-        long overdueLoans = getOverdueLoans().size();
-        long returnedLoans = loanRepository.findByStatus(LoanStatus.RETURNED).size();
+        DashboardStatsDTO stats = getDashboardStats();
         
         return LoanStatistics.builder()
-                .totalLoans(totalLoans)
-                .activeLoans(activeLoans)
-                .overdueLoans(overdueLoans)
-                .returnedLoans(returnedLoans)
+                .totalLoans(stats.getTotalLoans())
+                .activeLoans(stats.getActiveLoans())
+                .overdueLoans(stats.getOverdueLoans())
+                .returnedLoans(stats.getReturnedLoans())
                 .build();
     }
 
+    /**
+     * 대시보드 통계 집계 (상태별 건수 + 도서/회원 총계를 단일 쿼리로 조회)
+     */
+    @Transactional(readOnly = true)
+    public DashboardStatsDTO getDashboardStats() {
+        return loanRepository.getDashboardStats(LocalDate.now());
+    }
+
+    /**
+     * 최근 대출 조회 - DTO 버전 (limit을 DB에서 적용)
+     */
+    @Transactional(readOnly = true)
+    public List<LoanResponseDTO> getRecentLoansAsDTO(int limit) {
+        return loanRepository.findRecentLoansAsDTO(LocalDate.now(), PageRequest.of(0, limit));
+    }
+
     @Transactional(readOnly = true)
     public List<Loan> getRecentLoans(int limit) {
         // Pageable을 사용해 최신 대출 목록을 날짜 기준으로 정렬하여 조회
@@ -278,36 +518,29 @@ public class LoanService {
 
     @Transactional(readOnly = true)
     public long getOverdueLoansCount() {
-        return loanRepository.findOverdueLoans(LocalDate.now()).size();
+        return loanRepository.countOverdueLoans(LocalDate.now());
     }
 
     /**
      * 대출 가능 여부 검증
      */
-    private void validateLoanEligibility(Book book, Member member) {
+    private void validateLoanEligibility(Long bookId, Member member) {
         // 1. 회원 상태 확인
         if (member.getStatus() != MemberStatus.ACTIVE) {
             throw new RuntimeException("대출 불가능한 회원 상태입니다: " + member.getStatus().getDescription());
         }
 
-        // 2. 도서 재고 확인
-        if (book.getAvailableCopies() <= 0) {
-            throw new RuntimeException("대출 가능한 재고가 없습니다.");
-        }
+        // 2. 도서 재고 확인은 createLoan의 조건부 UPDATE에서 처리
 
         // 3. 회원의 현재 대출 수 확인
-        Long currentLoanCount = loanRepository.countByMemberAndStatus(member, LoanStatus.ACTIVE);
+        long currentLoanCount = loanRepository.countOpenLoansByMember(member);
         if (currentLoanCount >= member.getMaxLoanCount()) {
             throw new RuntimeException("대출 한도를 초과했습니다. 현재 대출: " + currentLoanCount + 
                     ", 최대 허용: " + member.getMaxLoanCount());
         }
 
         // 4. 동일한 도서를 이미 대출했는지 확인
-        List<Loan> existingLoans = loanRepository.findByMemberAndStatus(member, LoanStatus.ACTIVE);
-        boolean alreadyBorrowed = existingLoans.stream()
-                .anyMatch(loan -> loan.getBook().getId().equals(book.getId()));
-        
-        if (alreadyBorrowed) {
+        if (loanRepository.existsOpenLoanByMemberAndBookId(member, bookId)) {
             throw new RuntimeException("이미 대출 중인 도서입니다.");
         }
     }
@@ -322,7 +555,7 @@ public class LoanService {
             User user = userRepository.findById(userId)
                 .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다: " + userId));
             Member member = memberService.getMemberByEmail(user.getEmail());
-            return loanRepository.countByMemberAndStatus(member, LoanStatus.ACTIVE);
+            return loanRepository.countOpenLoansByMember(member);
         } catch (Exception e) {
             return 0; // Member가 없으면 0 반환
         }
@@ -334,10 +567,7 @@ public class LoanService {
             User user = userRepository.findById(userId)
                 .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다: " + userId));
             Member member = memberService.getMemberByEmail(user.getEmail());
-            List<Loan> activeLoans = loanRepository.findByMemberAndStatus(member, LoanStatus.ACTIVE);
-            return activeLoans.stream()
-                .filter(loan -> loan.getDueDate().isBefore(LocalDate.now()))
-                .count();
+            return loanRepository.countOverdueLoansByMember(member, LocalDate.now());
         } catch (Exception e) {
             return 0;
         }
@@ -349,7 +579,7 @@ public class LoanService {
             User user = userRepository.findById(userId)
                 .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다: " + userId));
             Member member = memberService.getMemberByEmail(user.getEmail());
-            return loanRepository.findByMemberOrderByLoanDateDesc(member).size();
+            return loanRepository.countByMember(member);
         } catch (Exception e) {
             return 0;
         }
@@ -382,17 +612,51 @@ public class LoanService {
                 .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다: " + userId));
             Member member = memberService.getMemberByEmail(user.getEmail());
             
-            // DTO 버전으로 조회 - 전체 조회 후 필터링
-            List<LoanResponseDTO> allLoans = loanRepository.findAllLoansAsDTO();
-            return allLoans.stream()
-                .filter(loan -> loan.getMemberId().equals(member.getId()))
-                .limit(limit)
-                .collect(Collectors.toList());
+            // 회원 조건과 limit을 DB에서 적용 (전체 대출 조회 후 필터링하지 않음)
+            return loanRepository.findLoansAsDTOByMemberId(
+                    member.getId(), LocalDate.now(), PageRequest.of(0, limit));
         } catch (Exception e) {
             return List.of(); // 빈 리스트 반환
         }
     }
 
+    /**
+     * 사용자별 대출 조회 - 커서(keyset) 페이지네이션 버전
+     * cursor가 없으면 첫 페이지, 있으면 (loanDate, id)가 커서보다 이전인 대출부터 조회
+     */
+    @Transactional(readOnly = true)
+    public LoanCursorPage getLoansByUserIdWithCursor(Long userId, String cursor, int size) {
+        User user = userRepository.findById(userId)
+            .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다: " + userId));
+        Member member = memberService.getMemberByEmail(user.getEmail());
+        
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        Pageable pageable = PageRequest.of(0, size + 1);
+        List<LoanResponseDTO> loans;
+        if (cursor == null || cursor.isBlank()) {
+            loans = loanRepository.findLoansAsDTOByMemberId(member.getId(), LocalDate.now(), pageable);
+        } else {
+            loans = loanRepository.findLoansAsDTOByMemberIdAfterCursor(member.getId(),
+                    LoanCursorPage.decodeCursorDate(cursor), LoanCursorPage.decodeCursorId(cursor), LocalDate.now(), pageable);
+        }
+        
+        boolean hasNext = loans.size() > size;
+        List<LoanResponseDTO> content = hasNext ? new ArrayList<>(loans.subList(0, size)) : loans;
+        
+        String nextCursor = null;
+        if (hasNext) {
+            LoanResponseDTO last = content.get(content.size() - 1);
+            nextCursor = LoanCursorPage.encodeCursor(last.getLoanDate(), last.getId());
+        }
+        
+        return LoanCursorPage.builder()
+                .content(content)
+                .size(content.size())
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
     /**
      * 대출 삭제
      * 반납 완료된 대출 기록만 삭제 가능
@@ -417,6 +681,7 @@ public class LoanService {
         // 반납 완료된 기록만 삭제 가능
         if (loan.getStatus() == Loan.LoanStatus.RETURNED) {
             loanRepository.delete(loan);
+            dashboardService.invalidateAfterCommit();
         } else {
             throw new RuntimeException("반납 완료된 대출 기록만 삭제할 수 있습니다.");
         }
@@ -425,48 +690,11 @@ public class LoanService {
     /**
      * 잘못된 외래키를 가진 대출 기록 정리
      * book_id나 member_id가 null이거나 존재하지 않는 대출 기록을 삭제
+     * 청크 단위로 커밋하는 InvalidLoanCleanupJob에 위임하므로 트랜잭션 없이 실행 (이미 실행 중이면 -1)
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public int cleanupInvalidLoans() {
-        List<Loan> allLoans = loanRepository.findAll();
-        List<Loan> invalidLoans = new ArrayList<>();
-        
-        for (Loan loan : allLoans) {
-            boolean isInvalid = false;
-            
-            // book이 null이거나 book_id가 존재하지 않는 경우
-            if (loan.getBook() == null) {
-                isInvalid = true;
-            } else {
-                try {
-                    bookService.getBook(loan.getBook().getId());
-                } catch (Exception e) {
-                    isInvalid = true;
-                }
-            }
-            
-            // member가 null이거나 member_id가 존재하지 않는 경우
-            if (loan.getMember() == null) {
-                isInvalid = true;
-            } else {
-                try {
-                    memberService.getMember(loan.getMember().getId());
-                } catch (Exception e) {
-                    isInvalid = true;
-                }
-            }
-            
-            if (isInvalid) {
-                invalidLoans.add(loan);
-            }
-        }
-        
-        // 잘못된 대출 기록 삭제
-        if (!invalidLoans.isEmpty()) {
-            loanRepository.deleteAll(invalidLoans);
-        }
-        
-        return invalidLoans.size();
+        return invalidLoanCleanupJob.run();
     }
 
     /**
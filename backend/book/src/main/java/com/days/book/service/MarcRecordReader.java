@@ -0,0 +1,171 @@
+package com.days.book.service;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * MARC21 / KORMARC 교환 형식(ISO 2709) 레코드를 하나씩 읽어 도서 입고 필드로 변환
+ * - 020$a ISBN, 245$a$b 서명, 100$a(없으면 110$a, 245$c) 저자, 264/260$b 출판사, 264/260$c 발행년,
+ *   650$a 주제(카테고리), 520$a 요약
+ * - 필드 데이터는 UTF-8로 해석 (리더 09 = 'a'), MARC-8의 비ASCII 문자는 지원하지 않음
+ */
+class MarcRecordReader {
+
+    private static final byte RECORD_TERMINATOR = 0x1D;
+    private static final byte FIELD_TERMINATOR = 0x1E;
+    private static final byte SUBFIELD_DELIMITER = 0x1F;
+    private static final int LEADER_LENGTH = 24;
+    private static final int DIRECTORY_ENTRY_LENGTH = 12;
+
+    private final InputStream in;
+
+    MarcRecordReader(InputStream in) {
+        this.in = new BufferedInputStream(in, 64 * 1024);
+    }
+
+    /**
+     * 다음 레코드의 필드 (입력 끝이면 null)
+     * 레코드 길이/디렉터리가 손상되어 다음 레코드 위치를 알 수 없으면 IOException
+     */
+    Map<String, String> next() throws IOException {
+        int first;
+        // 레코드 사이의 줄바꿈/공백 무시
+        do {
+            first = in.read();
+        } while (first == '\n' || first == '\r' || first == ' ');
+        if (first == -1) {
+            return null;
+        }
+
+        byte[] lengthBytes = new byte[5];
+        lengthBytes[0] = (byte) first;
+        readFully(lengthBytes, 1, 4);
+        int recordLength = parseNumber(lengthBytes, 0, 5, "레코드 길이");
+        if (recordLength < LEADER_LENGTH + 1) {
+            throw new IOException("MARC 레코드 길이가 올바르지 않습니다: " + recordLength);
+        }
+        byte[] record = new byte[recordLength];
+        System.arraycopy(lengthBytes, 0, record, 0, 5);
+        readFully(record, 5, recordLength - 5);
+        if (record[recordLength - 1] != RECORD_TERMINATOR) {
+            throw new IOException("MARC 레코드 종료 기호가 없습니다.");
+        }
+
+        int baseAddress = parseNumber(record, 12, 5, "데이터 시작 위치");
+        Map<String, String> subfields = new HashMap<>();
+        for (int entry = LEADER_LENGTH; entry + DIRECTORY_ENTRY_LENGTH <= baseAddress - 1; entry += DIRECTORY_ENTRY_LENGTH) {
+            String tag = new String(record, entry, 3, StandardCharsets.US_ASCII);
+            int length = parseNumber(record, entry + 3, 4, "필드 길이");
+            int start = baseAddress + parseNumber(record, entry + 7, 5, "필드 위치");
+            if (start + length > recordLength) {
+                throw new IOException("MARC 디렉터리가 레코드 범위를 벗어납니다: " + tag);
+            }
+            if (!tag.startsWith("00")) {
+                collectSubfields(tag, record, start, length, subfields);
+            }
+        }
+        return toBookFields(subfields);
+    }
+
+    /**
+     * 데이터 필드의 서브필드를 "태그$코드" 키로 수집 (같은 키가 반복되면 첫 값 사용)
+     */
+    private static void collectSubfields(String tag, byte[] record, int start, int length, Map<String, String> subfields) {
+        int end = start + length;
+        int i = start + 2; // 지시기호 2자리
+        while (i < end && record[i] != FIELD_TERMINATOR) {
+            if (record[i] != SUBFIELD_DELIMITER || i + 1 >= end) {
+                i++;
+                continue;
+            }
+            char code = (char) record[i + 1];
+            int valueStart = i + 2;
+            int valueEnd = valueStart;
+            while (valueEnd < end && record[valueEnd] != SUBFIELD_DELIMITER && record[valueEnd] != FIELD_TERMINATOR) {
+                valueEnd++;
+            }
+            subfields.putIfAbsent(tag + "$" + code,
+                    new String(record, valueStart, valueEnd - valueStart, StandardCharsets.UTF_8).trim());
+            i = valueEnd;
+        }
+    }
+
+    private static Map<String, String> toBookFields(Map<String, String> subfields) {
+        Map<String, String> fields = new HashMap<>();
+        String isbn = subfields.get("020$a");
+        if (isbn != null) {
+            // "9788937460449 (pbk.)" 같은 부기 사항 제거
+            fields.put("isbn", isbn.split("[\\s(:]", 2)[0]);
+        }
+        String title = subfields.get("245$a");
+        if (title != null && subfields.containsKey("245$b")) {
+            title = stripPunctuation(title) + " : " + subfields.get("245$b");
+        }
+        putIfPresent(fields, "title", title);
+        putIfPresent(fields, "author", firstPresent(subfields, "100$a", "110$a", "245$c"));
+        putIfPresent(fields, "publisher", firstPresent(subfields, "264$b", "260$b"));
+        String date = firstPresent(subfields, "264$c", "260$c");
+        if (date != null) {
+            String year = date.replaceAll("\\D", "");
+            if (year.length() >= 4) {
+                fields.put("publishedDate", year.substring(0, 4));
+            }
+        }
+        putIfPresent(fields, "category", subfields.get("650$a"));
+        putIfPresent(fields, "description", subfields.get("520$a"));
+        return fields;
+    }
+
+    private static String firstPresent(Map<String, String> subfields, String... keys) {
+        for (String key : keys) {
+            String value = subfields.get(key);
+            if (value != null && !value.isBlank()) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    private static void putIfPresent(Map<String, String> fields, String key, String value) {
+        if (value != null) {
+            String cleaned = stripPunctuation(value);
+            if (!cleaned.isEmpty()) {
+                fields.put(key, cleaned);
+            }
+        }
+    }
+
+    /**
+     * ISBD 구두점(끝의 / : ; , .) 제거
+     */
+    private static String stripPunctuation(String value) {
+        int end = value.length();
+        while (end > 0 && " /:;,.".indexOf(value.charAt(end - 1)) >= 0) {
+            end--;
+        }
+        return value.substring(0, end).trim();
+    }
+
+    private void readFully(byte[] buffer, int offset, int length) throws IOException {
+        int read = in.readNBytes(buffer, offset, length);
+        if (read < length) {
+            throw new IOException("MARC 레코드가 중간에 끝났습니다.");
+        }
+    }
+
+    private static int parseNumber(byte[] bytes, int offset, int length, String name) throws IOException {
+        int value = 0;
+        for (int i = offset; i < offset + length; i++) {
+            byte b = bytes[i];
+            if (b < '0' || b > '9') {
+                throw new IOException("MARC " + name + "가 숫자가 아닙니다.");
+            }
+            value = value * 10 + (b - '0');
+        }
+        return value;
+    }
+}
@@ -0,0 +1,303 @@
+package com.days.book.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.days.book.dto.MemberImportResult;
+import com.days.book.entity.Member;
+import com.days.book.repository.MemberRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 회원 일괄 등록 (CSV / NDJSON)
+ * 입력을 한 줄씩 읽어 검증한 뒤 청크 단위로 처리하고, 청크마다 별도 트랜잭션으로 커밋
+ * - 이미 등록된 이메일은 청크당 한 번의 IN 조회로 확인 (행마다 existsByEmail 하지 않음)
+ * - 회원번호는 MemberNumberGenerator 블록에서 발급, INSERT는 JDBC 배치
+ * - 실패한 행은 행 번호와 사유를 결과에 담고 나머지 행은 계속 처리
+ */
+@Service
+@Slf4j
+public class MemberImportService {
+
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+    private static final int DEFAULT_MAX_LOAN_COUNT = 5;
+
+    private final MemberRepository memberRepository;
+    private final MemberNumberGenerator memberNumberGenerator;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${member.import.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${member.import.max-errors:1000}")
+    private int maxErrors;
+
+    public MemberImportService(MemberRepository memberRepository,
+                               MemberNumberGenerator memberNumberGenerator,
+                               TransactionTemplate transactionTemplate,
+                               ObjectMapper objectMapper) {
+        this.memberRepository = memberRepository;
+        this.memberNumberGenerator = memberNumberGenerator;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    public enum ImportFormat {
+        CSV, NDJSON;
+
+        public static ImportFormat from(String value) {
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("지원하지 않는 형식입니다: " + value + " (csv, ndjson)");
+            }
+        }
+    }
+
+    /**
+     * 입력 스트림의 회원을 일괄 등록
+     * CSV는 첫 행이 헤더 (name, email 필수 / phone, address, maxLoanCount 선택), NDJSON은 한 줄에 JSON 객체 하나
+     * 헤더가 잘못된 경우 등 파일 전체를 처리할 수 없으면 IllegalArgumentException
+     */
+    public MemberImportResult importMembers(InputStream in, ImportFormat format) throws IOException {
+        Report report = new Report(maxErrors);
+        Set<String> seenEmails = new HashSet<>();
+        List<ImportRow> chunk = new ArrayList<>(chunkSize);
+        Map<String, Integer> header = null;
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (lineNumber == 1 && line.startsWith("\uFEFF")) {
+                line = line.substring(1);
+            }
+            if (line.isBlank()) {
+                continue;
+            }
+            if (format == ImportFormat.CSV && header == null) {
+                header = parseHeader(line);
+                continue;
+            }
+
+            report.totalRows++;
+            ImportRow row;
+            try {
+                row = format == ImportFormat.CSV ? parseCsvRow(line, header, lineNumber) : parseJsonRow(line, lineNumber);
+                validate(row);
+            } catch (IllegalArgumentException e) {
+                report.fail(lineNumber, null, e.getMessage());
+                continue;
+            }
+            if (!seenEmails.add(row.email().toLowerCase(Locale.ROOT))) {
+                report.fail(lineNumber, row.email(), "파일 안에서 중복된 이메일입니다.");
+                continue;
+            }
+
+            chunk.add(row);
+            if (chunk.size() >= chunkSize) {
+                importChunk(chunk, report);
+                chunk.clear();
+            }
+        }
+        importChunk(chunk, report);
+
+        log.info("회원 일괄 등록 완료 - 형식: {}, 전체: {}, 등록: {}, 실패: {}",
+                format, report.totalRows, report.imported, report.failed);
+        return report.toResult();
+    }
+
+    /**
+     * 청크 하나를 한 트랜잭션으로 등록 (DB 오류 시 청크 전체 롤백 후 해당 행들을 실패로 기록)
+     */
+    private void importChunk(List<ImportRow> chunk, Report report) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        List<ImportRow> duplicates = new ArrayList<>();
+        try {
+            Integer inserted = transactionTemplate.execute(status -> {
+                List<String> emails = chunk.stream().map(ImportRow::email).toList();
+                Set<String> existing = new HashSet<>();
+                for (String email : memberRepository.findExistingEmails(emails)) {
+                    existing.add(email.toLowerCase(Locale.ROOT));
+                }
+
+                List<Member> members = new ArrayList<>(chunk.size());
+                for (ImportRow row : chunk) {
+                    if (existing.contains(row.email().toLowerCase(Locale.ROOT))) {
+                        duplicates.add(row);
+                        continue;
+                    }
+                    members.add(Member.builder()
+                            .memberNumber(memberNumberGenerator.next())
+                            .name(row.name())
+                            .email(row.email())
+                            .phone(row.phone())
+                            .address(row.address())
+                            .maxLoanCount(row.maxLoanCount() != null ? row.maxLoanCount() : DEFAULT_MAX_LOAN_COUNT)
+                            .build());
+                }
+                memberRepository.insertMembers(members);
+                return members.size();
+            });
+            report.imported += inserted != null ? inserted : 0;
+            for (ImportRow row : duplicates) {
+                report.fail(row.line(), row.email(), "이미 등록된 이메일입니다.");
+            }
+        } catch (DataAccessException e) {
+            log.error("회원 일괄 등록 청크 실패 ({}~{}행): {}", chunk.get(0).line(), chunk.get(chunk.size() - 1).line(), e.getMessage());
+            for (ImportRow row : chunk) {
+                report.fail(row.line(), row.email(), "저장 중 오류가 발생했습니다: " + e.getMostSpecificCause().getMessage());
+            }
+        }
+    }
+
+    private static Map<String, Integer> parseHeader(String line) {
+        List<String> columns = CsvLineParser.split(line);
+        Map<String, Integer> header = new HashMap<>();
+        for (int i = 0; i < columns.size(); i++) {
+            header.put(columns.get(i).trim(), i);
+        }
+        if (!header.containsKey("name") || !header.containsKey("email")) {
+            throw new IllegalArgumentException("CSV 첫 행에 name, email 헤더가 필요합니다.");
+        }
+        return header;
+    }
+
+    private static ImportRow parseCsvRow(String line, Map<String, Integer> header, int lineNumber) {
+        List<String> values = CsvLineParser.split(line);
+        return new ImportRow(lineNumber,
+                column(values, header, "name"),
+                column(values, header, "email"),
+                column(values, header, "phone"),
+                column(values, header, "address"),
+                parseMaxLoanCount(column(values, header, "maxLoanCount")));
+    }
+
+    private ImportRow parseJsonRow(String line, int lineNumber) {
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(line);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("JSON 형식이 올바르지 않습니다.");
+        }
+        if (node == null || !node.isObject()) {
+            throw new IllegalArgumentException("JSON 객체가 아닙니다.");
+        }
+        JsonNode maxLoanCount = node.get("maxLoanCount");
+        return new ImportRow(lineNumber,
+                text(node, "name"),
+                text(node, "email"),
+                text(node, "phone"),
+                text(node, "address"),
+                maxLoanCount == null || maxLoanCount.isNull() ? null : parseMaxLoanCount(maxLoanCount.asText()));
+    }
+
+    private static void validate(ImportRow row) {
+        if (row.name() == null || row.name().length() > 50) {
+            throw new IllegalArgumentException("이름은 필수이며 50자 이하여야 합니다.");
+        }
+        if (row.email() == null || row.email().length() > 50 || !EMAIL_PATTERN.matcher(row.email()).matches()) {
+            throw new IllegalArgumentException("올바른 이메일(50자 이하)이 필요합니다: " + row.email());
+        }
+        if (row.phone() != null && row.phone().length() > 15) {
+            throw new IllegalArgumentException("전화번호는 15자 이하여야 합니다.");
+        }
+        if (row.address() != null && row.address().length() > 200) {
+            throw new IllegalArgumentException("주소는 200자 이하여야 합니다.");
+        }
+        if (row.maxLoanCount() != null && row.maxLoanCount() < 1) {
+            throw new IllegalArgumentException("최대 대출 권수는 1 이상이어야 합니다.");
+        }
+    }
+
+    private static Integer parseMaxLoanCount(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("최대 대출 권수가 숫자가 아닙니다: " + value);
+        }
+    }
+
+    private static String column(List<String> values, Map<String, Integer> header, String name) {
+        Integer index = header.get(name);
+        if (index == null || index >= values.size()) {
+            return null;
+        }
+        return blankToNull(values.get(index));
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : blankToNull(value.asText());
+    }
+
+    private static String blankToNull(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    private record ImportRow(int line, String name, String email, String phone, String address, Integer maxLoanCount) {
+    }
+
+    private static class Report {
+        private final int maxErrors;
+        private final List<MemberImportResult.RowError> errors = new ArrayList<>();
+        private int totalRows;
+        private int imported;
+        private int failed;
+
+        Report(int maxErrors) {
+            this.maxErrors = maxErrors;
+        }
+
+        void fail(int line, String email, String message) {
+            failed++;
+            if (errors.size() < maxErrors) {
+                errors.add(new MemberImportResult.RowError(line, email, message));
+            }
+        }
+
+        MemberImportResult toResult() {
+            // 청크 단위로 기록되므로 행 번호 순으로 정렬
+            errors.sort(Comparator.comparingInt(MemberImportResult.RowError::getLine));
+            return MemberImportResult.builder()
+                    .totalRows(totalRows)
+                    .imported(imported)
+                    .failed(failed)
+                    .errorsTruncated(failed > errors.size())
+                    .errors(errors)
+                    .build();
+        }
+    }
+}
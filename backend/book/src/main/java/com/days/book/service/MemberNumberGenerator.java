@@ -0,0 +1,164 @@
+package com.days.book.service;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 회원번호 생성기 ("M" + yyyyMMdd + 6자리 이상 일련번호, 예: M20251016000042)
+ * member_number_sequence에서 일련번호 블록(block-size개)을 한 번에 할당받아 메모리에서 순서대로 발급 (hi/lo)
+ * 일련번호는 날짜와 무관하게 전역으로 증가하므로 중복 확인 조회 없이 유일성 보장
+ * 재시작 시 남은 블록은 버려지므로 번호에 빈 구간이 생길 수 있음
+ * 블록 할당은 요청용 풀과 분리된 전용 커넥션(1개)으로 실행 - 호출자가 이미 풀 커넥션을 잡고 있어도
+ * 할당을 기다리는 동안 요청 풀이 고갈되어 서로를 기다리는 일이 없음
+ */
+@Component
+@Slf4j
+public class MemberNumberGenerator implements DisposableBean {
+
+    static final String SEQUENCE_NAME = "member";
+    private static final int MIN_SEQUENCE_DIGITS = 6;
+
+    private final DataSourceProperties dataSourceProperties;
+    private final long connectionTimeoutMs;
+    private final int blockSize;
+
+    // 전용 커넥션 풀 - 처음 블록을 할당할 때 lock 안에서 생성
+    private HikariDataSource sequenceDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate allocationTemplate;
+
+    // 가상 스레드에서 carrier가 고정되지 않도록 synchronized 대신 ReentrantLock 사용
+    private final ReentrantLock lock = new ReentrantLock();
+    private long nextValue;
+    private long blockEnd;
+
+    private volatile DatePrefix datePrefix = new DatePrefix(LocalDate.MIN, "");
+
+    public MemberNumberGenerator(DataSourceProperties dataSourceProperties,
+                                 @Value("${spring.datasource.hikari.connection-timeout:30000}") long connectionTimeoutMs,
+                                 @Value("${member.number.block-size:100}") int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("member.number.block-size는 1 이상이어야 합니다: " + blockSize);
+        }
+        this.dataSourceProperties = dataSourceProperties;
+        this.connectionTimeoutMs = connectionTimeoutMs;
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * 새 회원번호 발급
+     */
+    public String next() {
+        return format(LocalDate.now(), nextSequence());
+    }
+
+    long nextSequence() {
+        lock.lock();
+        try {
+            if (nextValue >= blockEnd) {
+                nextValue = allocateBlock();
+                blockEnd = nextValue + blockSize;
+            }
+            return nextValue++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 날짜 접두어 + 일련번호 (6자리 미만이면 0으로 채움)
+     * 기존 형식(M+날짜+3자리, M+연도+5자리)보다 항상 길어 과거 번호와도 겹치지 않음
+     */
+    public String format(LocalDate date, long sequence) {
+        DatePrefix prefix = datePrefix;
+        if (!prefix.date().equals(date)) {
+            prefix = new DatePrefix(date, "M" + date.format(DateTimeFormatter.BASIC_ISO_DATE));
+            datePrefix = prefix;
+        }
+        String digits = Long.toString(sequence);
+        StringBuilder sb = new StringBuilder(prefix.value().length() + Math.max(digits.length(), MIN_SEQUENCE_DIGITS));
+        sb.append(prefix.value());
+        for (int i = digits.length(); i < MIN_SEQUENCE_DIGITS; i++) {
+            sb.append('0');
+        }
+        return sb.append(digits).toString();
+    }
+
+    /**
+     * 카운터를 blockSize만큼 증가시키고 할당된 블록의 시작값 반환 (행 잠금으로 인스턴스 간 직렬화)
+     */
+    private long allocateBlock() {
+        if (sequenceDataSource == null) {
+            openSequenceDataSource();
+        }
+        while (true) {
+            Long start = allocationTemplate.execute(status -> {
+                int updated = jdbcTemplate.update(
+                        "UPDATE member_number_sequence SET next_value = next_value + ? WHERE name = ?",
+                        blockSize, SEQUENCE_NAME);
+                if (updated == 0) {
+                    // 카운터 행이 없는 DB (엔티티 기준 create-drop 스키마 등) - 첫 블록과 함께 생성
+                    try {
+                        jdbcTemplate.update("INSERT INTO member_number_sequence (name, next_value) VALUES (?, ?)",
+                                SEQUENCE_NAME, 1L + blockSize);
+                        return 1L;
+                    } catch (DuplicateKeyException e) {
+                        status.setRollbackOnly();
+                        return null; // 다른 인스턴스가 먼저 생성 - 다시 증가 시도
+                    }
+                }
+                Long end = jdbcTemplate.queryForObject(
+                        "SELECT next_value FROM member_number_sequence WHERE name = ?", Long.class, SEQUENCE_NAME);
+                return end - blockSize;
+            });
+            if (start != null) {
+                log.debug("회원번호 블록 할당: {} ~ {}", start, start + blockSize - 1);
+                return start;
+            }
+        }
+    }
+
+    // 할당은 lock 안에서 한 번에 하나씩만 실행되므로 커넥션 1개로 충분 (쓰지 않을 때는 유휴 커넥션을 두지 않음)
+    private void openSequenceDataSource() {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("member-number-sequence");
+        dataSource.setMaximumPoolSize(1);
+        dataSource.setMinimumIdle(0);
+        dataSource.setConnectionTimeout(connectionTimeoutMs);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        // 호출한 트랜잭션과 별도 커넥션에서 커밋하므로 호출자가 롤백되어도 할당한 블록은 유지 (다른 인스턴스와 겹치지 않도록)
+        allocationTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        sequenceDataSource = dataSource;
+    }
+
+    @Override
+    public void destroy() {
+        lock.lock();
+        try {
+            if (sequenceDataSource != null) {
+                sequenceDataSource.close();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private record DatePrefix(LocalDate date, String value) {
+    }
+}
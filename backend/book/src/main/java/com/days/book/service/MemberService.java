@@ -11,6 +11,7 @@ import com.days.book.entity.Member.MemberStatus;
 import com.days.book.repository.MemberRepository;
 import com.days.book.repository.LoanRepository;
 import com.days.book.repository.UserRepository;
+import com.days.book.security.JwtPrincipalCache;
 
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -23,6 +24,8 @@ public class MemberService {
     private final MemberRepository memberRepository;
     private final LoanRepository loanRepository;
     private final UserRepository userRepository;
+    private final JwtPrincipalCache principalCache;
+    private final MemberNumberGenerator memberNumberGenerator;
 
     /**
      * 회원 등록
@@ -33,13 +36,8 @@ public class MemberService {
             throw new RuntimeException("이미 등록된 이메일입니다: " + member.getEmail());
         }
 
-        // 회원번호 자동 생성 (중복 방지)
-        String memberNumber;
-        do {
-            memberNumber = Member.generateMemberNumber();
-        } while (memberRepository.existsByMemberNumber(memberNumber));
-        
-        member.setMemberNumber(memberNumber);
+        // 회원번호 자동 생성 (블록 할당 일련번호라 중복 확인 불필요)
+        member.setMemberNumber(memberNumberGenerator.next());
         
         // 기본값 설정
         if (member.getJoinDate() == null) {
@@ -125,6 +123,7 @@ public class MemberService {
             // 해당 이메일로 등록된 User 계정도 함께 삭제
             userRepository.findByEmail(member.getEmail()).ifPresent(user -> {
                 userRepository.delete(user);
+                principalCache.evictAfterCommit(user.getUsername());
             });
             
             // Member 삭제
@@ -138,6 +137,7 @@ public class MemberService {
             try {
                 userRepository.findByUsername(member.getName()).ifPresent(user -> {
                     userRepository.delete(user);
+                    principalCache.evictAfterCommit(user.getUsername());
                 });
             } catch (Exception ex) {
                 System.out.println("Username으로 User 삭제 시도 실패: " + ex.getMessage());
@@ -163,6 +163,7 @@ public class MemberService {
         // 해당 이메일로 등록된 User 계정도 함께 삭제
         userRepository.findByEmail(member.getEmail()).ifPresent(user -> {
             userRepository.delete(user);
+            principalCache.evictAfterCommit(user.getUsername());
         });
         
         // Member 삭제
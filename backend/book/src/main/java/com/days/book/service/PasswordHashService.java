@@ -0,0 +1,119 @@
+package com.days.book.service;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비밀번호 해시/검증을 전용 스레드 풀에서 실행 (요청 스레드는 결과만 기다림)
+ * 동시에 계산하는 해시 수가 풀 크기로 제한되어 로그인이 몰려도 다른 요청의 CPU를 빼앗지 않음
+ * 대기열이 가득 차거나 security.password.hash-timeout-ms 안에 끝나지 않으면 PasswordHashBusyException (503으로 응답)
+ */
+@Service
+@Slf4j
+public class PasswordHashService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolTaskExecutor executor;
+    private final long timeoutMs;
+    private final Counter rejected;
+    private final Timer hashTimer;
+
+    public PasswordHashService(PasswordEncoder passwordEncoder,
+                               @Qualifier("passwordHashExecutor") ThreadPoolTaskExecutor executor,
+                               @Value("${security.password.hash-timeout-ms:3000}") long timeoutMs,
+                               MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.executor = executor;
+        this.timeoutMs = timeoutMs;
+        this.rejected = Counter.builder("password.hash.rejected")
+                .description("해시 대기열 초과 또는 대기 시간 초과로 거부된 요청 수")
+                .register(meterRegistry);
+        this.hashTimer = Timer.builder("password.hash")
+                .description("대기 시간을 포함한 비밀번호 해시/검증 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("password.hash.queued", executor, e -> e.getThreadPoolExecutor().getQueue().size())
+                .description("해시 대기열에 있는 작업 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 비밀번호 해시 (현재 비용 인자, {bcrypt} 접두사)
+     */
+    public String encode(String rawPassword) {
+        return run(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * 비밀번호 검증 (접두사 없는 기존 BCrypt 해시 포함)
+     */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        if (rawPassword == null || encodedPassword == null) {
+            return false;
+        }
+        return run(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 저장된 해시를 현재 형식/비용 인자로 다시 해시해야 하는지 (해시 계산 없이 형식만 확인)
+     */
+    public boolean needsRehash(String encodedPassword) {
+        return encodedPassword != null && passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T run(Callable<T> task) {
+        long started = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (TaskRejectedException e) {
+            rejected.increment();
+            throw new PasswordHashBusyException();
+        }
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 아직 시작하지 않은 작업은 대기열에서 제거
+            future.cancel(false);
+            rejected.increment();
+            log.warn("비밀번호 해시 대기 시간 초과 ({}ms)", timeoutMs);
+            throw new PasswordHashBusyException();
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashBusyException();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            hashTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 해시 처리량 초과 (잠시 후 재시도)
+     */
+    public static class PasswordHashBusyException extends RuntimeException {
+        public PasswordHashBusyException() {
+            super("로그인 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+}
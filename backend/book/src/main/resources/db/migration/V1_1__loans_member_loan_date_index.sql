@@ -0,0 +1,2 @@
+-- 회원별 대출 목록 (member_id = ? ORDER BY loan_date DESC, id DESC 커서 페이지)
+create index idx_loans_member_loan_date on loans (member_id, loan_date, id);
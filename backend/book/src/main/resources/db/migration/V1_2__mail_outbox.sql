@@ -0,0 +1,20 @@
+-- 메일 발송 outbox (업무 트랜잭션과 함께 커밋된 메일을 백그라운드에서 발송)
+create table mail_outbox (
+    id bigint not null auto_increment,
+    recipient varchar(100) not null,
+    sender varchar(100),
+    subject varchar(200) not null,
+    body TEXT not null,
+    status enum ('FAILED','PENDING','SENDING','SENT') not null,
+    attempts integer not null,
+    next_attempt_at datetime(6) not null,
+    claim_token varchar(36),
+    claimed_at datetime(6),
+    last_error varchar(500),
+    sent_at datetime(6),
+    created_at datetime(6),
+    primary key (id)
+) engine=InnoDB;
+
+-- 발송 대상 조회 (status = 'PENDING' AND next_attempt_at <= ?)
+create index idx_mail_outbox_status_next_attempt on mail_outbox (status, next_attempt_at);
@@ -0,0 +1,3 @@
+-- 도서 목록 제목/저자 정렬 페이지 (ORDER BY title, id / author, id)
+create index idx_books_title on books (title, id);
+create index idx_books_author on books (author, id);
@@ -0,0 +1,20 @@
+-- 도서별 누적/일자별 대출 건수 (인기 도서 순위, 비어 있으면 시작 시 loans에서 채움)
+create table book_loan_stats (
+    book_id bigint not null,
+    total_loans bigint not null,
+    last_loaned_at datetime(6),
+    primary key (book_id)
+) engine=InnoDB;
+
+create table book_loan_daily_stats (
+    id bigint not null auto_increment,
+    book_id bigint not null,
+    stat_date date not null,
+    loan_count bigint not null,
+    primary key (id)
+) engine=InnoDB;
+
+alter table book_loan_daily_stats add constraint uk_book_loan_daily_stats_book_date unique (book_id, stat_date);
+
+create index idx_book_loan_stats_total on book_loan_stats (total_loans, book_id);
+create index idx_book_loan_daily_stats_date on book_loan_daily_stats (stat_date, book_id);
@@ -0,0 +1,102 @@
+-- 기준 스키마 (Flyway 도입 전 ddl-auto=update로 생성되던 스키마와 동일 - 이후 추가된 테이블/인덱스는 V1_1부터)
+-- 기존 DB는 spring.flyway.baseline-on-migrate로 V1을 기준점으로 기록하고 V1_1부터 적용
+
+create table books (
+    id bigint not null auto_increment,
+    title varchar(200) not null,
+    author varchar(100) not null,
+    isbn varchar(20),
+    category varchar(50),
+    publisher varchar(100),
+    published_date date,
+    total_copies integer not null,
+    available_copies integer not null,
+    description TEXT,
+    created_at datetime(6),
+    updated_at datetime(6),
+    primary key (id)
+) engine=InnoDB;
+
+create table members (
+    id bigint not null auto_increment,
+    member_number varchar(20) not null,
+    name varchar(50) not null,
+    email varchar(50) not null,
+    phone varchar(15),
+    address varchar(200),
+    join_date date not null,
+    status enum ('ACTIVE','SUSPENDED','WITHDRAWN') not null,
+    max_loan_count integer not null,
+    created_at datetime(6),
+    updated_at datetime(6),
+    primary key (id)
+) engine=InnoDB;
+
+create table loans (
+    id bigint not null auto_increment,
+    book_id bigint,
+    member_id bigint,
+    loan_date date not null,
+    due_date date not null,
+    return_date date,
+    status enum ('ACTIVE','LOST','OVERDUE','RETURNED') not null,
+    overdue_fee integer,
+    notes varchar(500),
+    created_at datetime(6),
+    updated_at datetime(6),
+    primary key (id)
+) engine=InnoDB;
+
+create table users (
+    id bigint not null auto_increment,
+    username varchar(255) not null,
+    password varchar(255) not null,
+    email varchar(255) not null,
+    name varchar(50) not null,
+    phone varchar(15),
+    address varchar(200),
+    member_number varchar(20),
+    join_date date,
+    member_status enum ('ACTIVE','SUSPENDED','WITHDRAWN'),
+    max_loan_count integer not null,
+    email_verified bit not null,
+    email_verification_token varchar(255),
+    password_reset_token varchar(255),
+    password_reset_token_expiry datetime(6),
+    role enum ('ADMIN','USER') not null,
+    created_at datetime(6),
+    updated_at datetime(6),
+    primary key (id)
+) engine=InnoDB;
+
+create table verification_codes (
+    id bigint not null auto_increment,
+    email varchar(255) not null,
+    code varchar(255) not null,
+    type enum ('FIND_ID','RESET_PASSWORD') not null,
+    expires_at datetime(6) not null,
+    used bit not null,
+    username varchar(255),
+    created_at datetime(6) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table email_verifications (
+    id bigint not null auto_increment,
+    email varchar(255) not null,
+    verification_code varchar(6) not null,
+    type enum ('PASSWORD_RESET','USERNAME_RECOVERY') not null,
+    created_at datetime(6) not null,
+    expires_at datetime(6) not null,
+    verified bit not null,
+    primary key (id)
+) engine=InnoDB;
+
+alter table books add constraint UKkibbepcitr0a3cpk3rfr7nihn unique (isbn);
+alter table members add constraint UKt5yl7apmx6ff543irne5m2mcw unique (member_number);
+alter table users add constraint UKnflcji8aim2g60tmhm3djgtyb unique (member_number);
+alter table users add constraint UK6dotkott2kjsp8vw4d0m25fb7 unique (email);
+alter table users add constraint UKr43af9ap4edm43mmtq01oddj6 unique (username);
+
+alter table loans add constraint FKokwvlrv6o4i4h3le3bwhe6kie foreign key (book_id) references books (id);
+alter table loans add constraint FKcx90n1minpb22v3jw4ojinqm foreign key (member_id) references members (id);
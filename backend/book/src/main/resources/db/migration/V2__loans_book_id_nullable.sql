@@ -0,0 +1,2 @@
+-- 도서 삭제 시 과거 대출 기록의 book_id를 null로 보존 (기존 BookService.fixLoanTableSchema의 런타임 ALTER 대체)
+alter table loans modify column book_id bigint null;
@@ -0,0 +1,20 @@
+-- 자주 실행되는 조회 조건에 맞춘 인덱스
+
+-- 상태별 조회/집계, 연체 조회 (status = 'ACTIVE' AND due_date < ?), 반납 예정일 조회 (due_date = ? AND status = ?)
+create index idx_loans_status_due_date on loans (status, due_date, id);
+
+-- 회원별 상태 조회/대출 한도 확인 (member_id = ? AND status = ?)
+create index idx_loans_member_status on loans (member_id, status);
+
+-- 최근 대출 목록 (ORDER BY loan_date DESC), 대출일 기간 조회
+create index idx_loans_loan_date on loans (loan_date, id);
+
+-- 도서별 대출 이력 (book_id = ? ORDER BY loan_date DESC)
+create index idx_loans_book_loan_date on loans (book_id, loan_date, id);
+
+-- 회원 이메일 조회/중복 확인, 상태별 회원 조회
+create index idx_members_email on members (email);
+create index idx_members_status on members (status);
+
+-- 인증 코드 조회 (email = ? AND type = ? ORDER BY created_at DESC)
+create index idx_verification_codes_email_type on verification_codes (email, type, created_at);
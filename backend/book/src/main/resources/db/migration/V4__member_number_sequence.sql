@@ -0,0 +1,8 @@
+-- 회원번호 일련번호 카운터 (애플리케이션이 블록 단위로 next_value를 증가시켜 메모리에서 할당)
+create table member_number_sequence (
+    name varchar(50) not null,
+    next_value bigint not null,
+    primary key (name)
+) engine=InnoDB;
+
+insert into member_number_sequence (name, next_value) values ('member', 1);
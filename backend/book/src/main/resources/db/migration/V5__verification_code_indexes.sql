@@ -0,0 +1,7 @@
+-- 인증 코드 조회 (email = ? AND type = ? AND used = false AND expires_at > ?)
+-- 기존 (email, type, created_at) 인덱스는 used/expires_at 조건을 거르지 못하므로 대체
+drop index idx_verification_codes_email_type on verification_codes;
+create index idx_verification_codes_lookup on verification_codes (email, type, used, expires_at);
+
+-- 만료 인증 코드 정리 (expires_at < ?)
+create index idx_verification_codes_expires_at on verification_codes (expires_at);
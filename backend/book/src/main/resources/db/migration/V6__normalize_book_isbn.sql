@@ -0,0 +1,14 @@
+-- 하이픈/공백이 포함된 ISBN을 구분자 없는 대문자 형식으로 정리 (도서 등록/수정/일괄 입고 저장 형식과 동일)
+-- 정리한 값이 같은 도서가 여러 권이면 id가 가장 작은 도서만 정리하고, 이미 정리된 형식의 도서가 있으면 그대로 둠
+-- (유니크 제약 충돌 방지 - 남은 도서는 중복 등록이므로 수동 병합)
+update books
+set isbn = upper(replace(replace(isbn, '-', ''), ' ', ''))
+where id in (
+    select id from (
+        select min(id) as id
+        from books
+        where isbn is not null
+        group by upper(replace(replace(isbn, '-', ''), ' ', ''))
+        having sum(case when isbn = upper(replace(replace(isbn, '-', ''), ' ', '')) then 1 else 0 end) = 0
+    ) normalizable
+);
@@ -0,0 +1,34 @@
+package com.days.book.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Flyway 마이그레이션으로 만든 스키마가 엔티티와 일치하고(ddl-auto=validate) 필수 인덱스를 모두 포함하는지 검증
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:tendays_migration;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+    "spring.flyway.enabled=true",
+    "spring.jpa.hibernate.ddl-auto=validate"
+})
+@ActiveProfiles("test")
+class SchemaMigrationTest {
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private SchemaIndexVerifier schemaIndexVerifier;
+
+    @Test
+    void migrationsCreateAllExpectedIndexes() throws Exception {
+        assertThat(flyway.info().pending()).isEmpty();
+        assertThat(flyway.info().applied()).hasSizeGreaterThanOrEqualTo(3);
+        assertThat(schemaIndexVerifier.findMissingIndexes()).isEmpty();
+    }
+}
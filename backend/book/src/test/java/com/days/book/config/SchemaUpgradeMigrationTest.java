@@ -0,0 +1,67 @@
+package com.days.book.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Flyway 도입 전(ddl-auto=update) 스키마로 운영 중인 DB가 V1 기준점 기록 후 이후 마이그레이션만으로
+ * 엔티티와 일치하고(ddl-auto=validate) 필수 인덱스를 모두 갖추는지 검증
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=" + SchemaUpgradeMigrationTest.URL,
+    "spring.flyway.enabled=true",
+    "spring.jpa.hibernate.ddl-auto=validate"
+})
+@ActiveProfiles("test")
+class SchemaUpgradeMigrationTest {
+
+    static final String URL = "jdbc:h2:mem:tendays_upgrade;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private SchemaIndexVerifier schemaIndexVerifier;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // 애플리케이션 컨텍스트(Flyway 실행)보다 먼저 기존 스키마와 데이터를 준비
+    @BeforeAll
+    static void createPreSeriesDatabase() throws Exception {
+        try (Connection connection = DriverManager.getConnection(URL, "sa", "")) {
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/pre-series-schema.sql"));
+        }
+    }
+
+    @Test
+    void preSeriesDatabaseIsBaselinedAndUpgraded() throws Exception {
+        MigrationInfo[] applied = flyway.info().applied();
+        assertThat(applied[0].getType().isBaseline()).isTrue();
+        assertThat(applied[0].getVersion().getVersion()).isEqualTo("1");
+        assertThat(applied).hasSizeGreaterThan(1);
+        assertThat(flyway.info().pending()).isEmpty();
+        assertThat(schemaIndexVerifier.findMissingIndexes()).isEmpty();
+
+        // 기존 데이터 유지, 인기 도서 통계는 시작 시 기존 대출로 채워짐
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM loans", Integer.class)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT total_loans FROM book_loan_stats WHERE book_id = 1", Long.class)).isEqualTo(1L);
+        // 하이픈으로 등록된 기존 ISBN은 구분자 없는 형식으로 정리
+        assertThat(jdbcTemplate.queryForObject("SELECT isbn FROM books WHERE id = 1", String.class))
+                .isEqualTo("9788966262281");
+    }
+}
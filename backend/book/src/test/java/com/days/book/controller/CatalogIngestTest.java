@@ -0,0 +1,209 @@
+package com.days.book.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.days.book.entity.Book;
+import com.days.book.repository.BookRepository;
+import com.days.book.search.BookSearchIndex;
+import com.days.book.service.BookService;
+
+/**
+ * 도서 일괄 입고 (ISBN 정규화/중복 병합, 기존 도서 권수 추가, 거부 보고, JSON/MARC 입력) 검증
+ */
+@SpringBootTest(properties = "book.ingest.chunk-size=2")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(roles = "ADMIN")
+class CatalogIngestTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private BookSearchIndex bookSearchIndex;
+
+    @Autowired
+    private BookService bookService;
+
+    @Test
+    void csvIngestAddsCopiesToExistingIsbnAndInsertsNewOnes() throws Exception {
+        Book existing = bookRepository.save(Book.builder()
+                .title("기존 입고 도서")
+                .author("기존 저자")
+                .isbn("9788900000023")
+                .totalCopies(2)
+                .availableCopies(1)
+                .build());
+
+        String csv = "\uFEFFisbn,title,author,publisher,category,publishedDate,copies\n"
+                + "978-89-0000001-6,입고테스트 신간,홍길동,\"출판사, 서울\",소설,2021-03-15,2\n"
+                + "9788900000016,입고테스트 신간 중복,다른 저자,,,,\n"
+                + "8900000020,기존 도서 ISBN-10,기존 저자,,,,3\n"
+                + "9788900000017,체크 숫자 오류,저자,,,,\n"
+                + ",ISBN 없음,저자,,,,\n"
+                + "9788900000047,,제목 없음,,,,\n"
+                + "979-11-0000006-9,입고테스트 두번째,김작가,,,2020,\n";
+
+        mockMvc.perform(post("/api/books/ingest")
+                        .contentType("text/csv")
+                        .content(csv.getBytes(StandardCharsets.UTF_8)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalRecords").value(7))
+                .andExpect(jsonPath("$.inserted").value(2))
+                .andExpect(jsonPath("$.updated").value(1))
+                .andExpect(jsonPath("$.copiesAdded").value(7))
+                .andExpect(jsonPath("$.rejected").value(3))
+                .andExpect(jsonPath("$.aborted").value(false))
+                .andExpect(jsonPath("$.errors[0].record").value(5))
+                .andExpect(jsonPath("$.errors[1].record").value(6))
+                .andExpect(jsonPath("$.errors[2].record").value(7))
+                .andExpect(jsonPath("$.errors[2].isbn").value("9788900000047"));
+
+        Book updated = bookRepository.findById(existing.getId()).orElseThrow();
+        assertThat(updated.getTotalCopies()).isEqualTo(5);
+        assertThat(updated.getAvailableCopies()).isEqualTo(4);
+
+        Book merged = bookRepository.findByIsbn("9788900000016").orElseThrow();
+        assertThat(merged.getTitle()).isEqualTo("입고테스트 신간");
+        assertThat(merged.getPublisher()).isEqualTo("출판사, 서울");
+        assertThat(merged.getPublishedDate()).isEqualTo(LocalDate.of(2021, 3, 15));
+        assertThat(merged.getTotalCopies()).isEqualTo(3);
+        assertThat(merged.getAvailableCopies()).isEqualTo(3);
+        assertThat(bookRepository.findByIsbn("9791100000069").orElseThrow().getPublishedDate())
+                .isEqualTo(LocalDate.of(2020, 1, 1));
+
+        // 커밋 후 검색 색인에 반영
+        assertThat(bookSearchIndex.search("입고테스트", BookSearchIndex.SearchField.TITLE, 0, 10).total()).isEqualTo(2);
+    }
+
+    @Test
+    void hyphenatedIsbnFromBookFormIsMatchedOnIngest() throws Exception {
+        // 도서 등록 화면에서 하이픈을 넣어 등록해도 입고와 같은 ISBN-13 형식으로 저장
+        Book registered = bookService.saveBook(Book.builder()
+                .title("하이픈 등록 도서")
+                .author("등록 저자")
+                .isbn("978-89-0000008-5")
+                .totalCopies(1)
+                .build());
+        assertThat(registered.getIsbn()).isEqualTo("9788900000085");
+        assertThat(bookService.findBookByIsbn("89-0000008-X")).map(Book::getId).contains(registered.getId());
+        assertThatThrownBy(() -> bookService.saveBook(Book.builder()
+                .title("같은 도서 다른 표기")
+                .author("등록 저자")
+                .isbn("978 8900 000085")
+                .totalCopies(1)
+                .build()))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        String csv = "isbn,title,author,copies\n"
+                + "890000008X,하이픈 등록 도서,등록 저자,2\n";
+        mockMvc.perform(post("/api/books/ingest")
+                        .contentType("text/csv")
+                        .content(csv.getBytes(StandardCharsets.UTF_8)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.inserted").value(0))
+                .andExpect(jsonPath("$.updated").value(1));
+
+        assertThat(bookRepository.findById(registered.getId()).orElseThrow().getTotalCopies()).isEqualTo(3);
+    }
+
+    @Test
+    void jsonArrayIngestStopsAtTruncatedInput() throws Exception {
+        String json = "[{\"isbn\":\"9788900000030\",\"title\":\"JSON 입고 도서\",\"author\":\"저자\",\"copies\":2},"
+                + "\"not an object\","
+                + "{\"isbn\":\"9788900000054\",\"title\":";
+
+        mockMvc.perform(post("/api/books/ingest")
+                        .contentType("application/json")
+                        .content(json.getBytes(StandardCharsets.UTF_8)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.inserted").value(1))
+                .andExpect(jsonPath("$.rejected").value(2))
+                .andExpect(jsonPath("$.aborted").value(true))
+                .andExpect(jsonPath("$.errors[0].record").value(2))
+                .andExpect(jsonPath("$.errors[1].record").value(3));
+
+        assertThat(bookRepository.findByIsbn("9788900000030").orElseThrow().getTotalCopies()).isEqualTo(2);
+        assertThat(bookRepository.findByIsbn("9788900000054")).isEmpty();
+    }
+
+    @Test
+    void marcIngest() throws Exception {
+        ByteArrayOutputStream marc = new ByteArrayOutputStream();
+        marc.write(marcRecord(
+                new String[] {"001", "KMO000001"},
+                new String[] {"020", "  \u001Fa9791100000076 (pbk.) :\u001Fc₩15000"},
+                new String[] {"100", "1 \u001Fa한강,"},
+                new String[] {"245", "10\u001Fa마크 입고 도서 :\u001Fb부제 /\u001Fc한강 지음"},
+                new String[] {"260", "  \u001Fa서울 :\u001Fb창비,\u001Fc2019."},
+                new String[] {"650", " 0\u001Fa한국 소설"}));
+        marc.write(marcRecord(new String[] {"245", "10\u001Fa저자 없는 레코드"}));
+
+        mockMvc.perform(post("/api/books/ingest")
+                        .param("format", "marc")
+                        .content(marc.toByteArray()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalRecords").value(2))
+                .andExpect(jsonPath("$.inserted").value(1))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.errors[0].record").value(2));
+
+        Book book = bookRepository.findByIsbn("9791100000076").orElseThrow();
+        assertThat(book.getTitle()).isEqualTo("마크 입고 도서 : 부제");
+        assertThat(book.getAuthor()).isEqualTo("한강");
+        assertThat(book.getPublisher()).isEqualTo("창비");
+        assertThat(book.getCategory()).isEqualTo("한국 소설");
+        assertThat(book.getPublishedDate()).isEqualTo(LocalDate.of(2019, 1, 1));
+    }
+
+    @Test
+    void unknownFormatIsRejected() throws Exception {
+        mockMvc.perform(post("/api/books/ingest")
+                        .param("format", "xml")
+                        .content("<books/>"))
+                .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * ISO 2709 레코드 생성 (태그, 필드 데이터) - 필드 종료 기호는 자동으로 추가
+     */
+    private static byte[] marcRecord(String[]... fields) {
+        ByteArrayOutputStream directory = new ByteArrayOutputStream();
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        for (String[] field : fields) {
+            byte[] bytes = (field[1] + "\u001E").getBytes(StandardCharsets.UTF_8);
+            directory.writeBytes(String.format("%s%04d%05d", field[0], bytes.length, data.size())
+                    .getBytes(StandardCharsets.US_ASCII));
+            data.writeBytes(bytes);
+        }
+        int baseAddress = 24 + directory.size() + 1;
+        int recordLength = baseAddress + data.size() + 1;
+        ByteArrayOutputStream record = new ByteArrayOutputStream();
+        record.writeBytes(String.format("%05dnam a22%05d   4500", recordLength, baseAddress)
+                .getBytes(StandardCharsets.US_ASCII));
+        record.writeBytes(directory.toByteArray());
+        record.write(0x1E);
+        record.writeBytes(data.toByteArray());
+        record.write(0x1D);
+        return record.toByteArray();
+    }
+}
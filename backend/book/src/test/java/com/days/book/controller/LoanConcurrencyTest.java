@@ -0,0 +1,117 @@
+package com.days.book.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.days.book.dto.LoanCreateRequest;
+import com.days.book.entity.Book;
+import com.days.book.entity.Loan.LoanStatus;
+import com.days.book.entity.Member;
+import com.days.book.repository.BookRepository;
+import com.days.book.repository.LoanRepository;
+import com.days.book.repository.MemberRepository;
+import com.days.book.repository.UserRepository;
+import com.days.book.service.JwtService;
+
+/**
+ * 인기 도서에 대출 요청이 몰릴 때 재고보다 많이 대출되지 않는지 검증
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class LoanConcurrencyTest {
+
+    private static final int COPIES = 10;
+    private static final int REQUESTS = 300;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private LoanRepository loanRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Test
+    void concurrentLoansNeverExceedAvailableCopies() throws Exception {
+        Book book = bookRepository.save(Book.builder()
+                .title("동시성 테스트 도서")
+                .author("테스트 저자")
+                .isbn("9990000000001")
+                .totalCopies(COPIES)
+                .availableCopies(COPIES)
+                .build());
+
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            members.add(Member.builder()
+                    .memberNumber(String.format("MTEST%05d", i))
+                    .name("회원" + i)
+                    .email("member" + i + "@test.com")
+                    .build());
+        }
+        members = memberRepository.saveAll(members);
+
+        String token = jwtService.generateToken(userRepository.findByUsername("admin").orElseThrow());
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        ExecutorService executor = Executors.newFixedThreadPool(64);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<HttpStatus>> results = new ArrayList<>();
+        for (Member member : members) {
+            LoanCreateRequest request = new LoanCreateRequest(book.getId(), member.getId(), null, null);
+            results.add(executor.submit(() -> {
+                start.await();
+                return HttpStatus.valueOf(restTemplate
+                        .postForEntity("/api/loans", new HttpEntity<>(request, headers), String.class)
+                        .getStatusCode().value());
+            }));
+        }
+        start.countDown();
+
+        int created = 0;
+        int rejected = 0;
+        for (Future<HttpStatus> result : results) {
+            HttpStatus status = result.get();
+            if (status == HttpStatus.CREATED) {
+                created++;
+            } else if (status == HttpStatus.BAD_REQUEST) {
+                rejected++;
+            }
+        }
+        executor.shutdown();
+
+        Book reloaded = bookRepository.findById(book.getId()).orElseThrow();
+        assertThat(created).isEqualTo(COPIES);
+        assertThat(rejected).isEqualTo(REQUESTS - COPIES);
+        assertThat(reloaded.getAvailableCopies()).isZero();
+        assertThat(loanRepository.countByBookAndStatus(reloaded, LoanStatus.ACTIVE)).isEqualTo(COPIES);
+    }
+}
@@ -0,0 +1,145 @@
+package com.days.book.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.days.book.entity.Book;
+import com.days.book.entity.Loan;
+import com.days.book.entity.Loan.LoanStatus;
+import com.days.book.entity.Member;
+import com.days.book.repository.BookRepository;
+import com.days.book.repository.LoanRepository;
+import com.days.book.repository.MemberRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 대출 원장 스트리밍 내보내기 (NDJSON / CSV / gzip, 기간·상태 필터) 검증
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(roles = "ADMIN")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class LoanExportTest {
+
+    // 다른 테스트 데이터와 겹치지 않는 과거 기간
+    private static final LocalDate BASE = LocalDate.of(2001, 3, 1);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private LoanRepository loanRepository;
+
+    @BeforeAll
+    void setUp() {
+        Member member = memberRepository.save(Member.builder()
+                .memberNumber("MEX00001")
+                .name("내보내기 회원")
+                .email("export@test.com")
+                .build());
+        Book book = bookRepository.save(Book.builder()
+                .title("=SUM(A1), \"따옴표\" 도서")
+                .author("저자")
+                .totalCopies(10)
+                .availableCopies(10)
+                .build());
+
+        List<Loan> loans = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            LocalDate loanDate = BASE.plusDays(i);
+            loans.add(Loan.builder()
+                    .member(member)
+                    .book(book)
+                    .loanDate(loanDate)
+                    .dueDate(loanDate.plusDays(7))
+                    .returnDate(i % 2 == 0 ? loanDate.plusDays(10) : null)
+                    .status(i % 2 == 0 ? LoanStatus.RETURNED : LoanStatus.ACTIVE)
+                    .build());
+        }
+        loanRepository.saveAll(loans);
+    }
+
+    @Test
+    void ndjsonWithDateRangeAndStatus() throws Exception {
+        byte[] body = mockMvc.perform(get("/api/loans/export")
+                        .param("from", BASE.toString())
+                        .param("to", BASE.plusDays(5).toString())
+                        .param("status", "RETURNED"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/x-ndjson;charset=UTF-8"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        List<String> lines = new String(body, StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines).hasSize(3);
+        List<LocalDate> loanDates = new ArrayList<>();
+        for (String line : lines) {
+            JsonNode node = objectMapper.readTree(line);
+            assertThat(node.get("status").asText()).isEqualTo("RETURNED");
+            assertThat(node.get("overdue").asBoolean()).isTrue();
+            assertThat(node.get("overdueDays").asLong()).isEqualTo(3);
+            loanDates.add(LocalDate.parse(node.get("loanDate").asText()));
+        }
+        assertThat(loanDates).containsExactly(BASE, BASE.plusDays(2), BASE.plusDays(4));
+    }
+
+    @Test
+    void gzipCsvEscapesValues() throws Exception {
+        byte[] body = mockMvc.perform(get("/api/loans/export")
+                        .param("format", "csv")
+                        .param("gzip", "true")
+                        .param("from", BASE.toString())
+                        .param("to", BASE.plusDays(9).toString()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        String csv;
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            csv = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        List<String> lines = csv.lines().toList();
+        assertThat(lines).hasSize(11);
+        assertThat(lines.get(0)).startsWith("\uFEFFid,loanDate,dueDate");
+        assertThat(lines.get(1)).contains("\"'=SUM(A1), \"\"따옴표\"\" 도서\"");
+    }
+
+    @Test
+    void invalidRangeIsRejected() throws Exception {
+        mockMvc.perform(get("/api/loans/export")
+                        .param("from", BASE.plusDays(1).toString())
+                        .param("to", BASE.toString()))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/loans/export").param("format", "xml"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,171 @@
+package com.days.book.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.days.book.entity.Book;
+import com.days.book.entity.Loan;
+import com.days.book.entity.Loan.LoanStatus;
+import com.days.book.entity.Member;
+import com.days.book.repository.BookRepository;
+import com.days.book.repository.LoanRepository;
+import com.days.book.repository.MemberRepository;
+import com.days.book.support.SqlStatementCounter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 대출 상세 목록 API가 행 수와 관계없이 한 번의 SQL로 조회되는지 검증 (N+1 회귀 방지)
+ */
+@SpringBootTest(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.days.book.support.SqlStatementCounter")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(roles = "ADMIN")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class LoanQueryCountTest {
+
+    private static final int LOANS = 12;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private LoanRepository loanRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Member member;
+    private Book book;
+
+    @BeforeAll
+    void setUp() {
+        LocalDate today = LocalDate.now();
+
+        List<Member> members = new ArrayList<>();
+        List<Book> books = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            members.add(Member.builder()
+                    .memberNumber(String.format("MQC%05d", i))
+                    .name("회원" + i)
+                    .email("qc" + i + "@test.com")
+                    .build());
+            books.add(Book.builder()
+                    .title("쿼리 수 테스트 도서" + i)
+                    .author("저자" + i)
+                    .totalCopies(LOANS)
+                    .availableCopies(LOANS)
+                    .build());
+        }
+        members = memberRepository.saveAll(members);
+        books = bookRepository.saveAll(books);
+        member = members.get(0);
+        book = books.get(0);
+
+        // 회원/도서가 서로 다른 대출 여러 건 (ACTIVE, 연체, 오늘 반납 예정, 반납 완료 혼합)
+        List<Loan> loans = new ArrayList<>();
+        for (int i = 0; i < LOANS; i++) {
+            LocalDate loanDate = today.minusDays(i * 2L);
+            loans.add(Loan.builder()
+                    .member(members.get(i % members.size()))
+                    .book(books.get((i / 2) % books.size()))
+                    .loanDate(loanDate)
+                    .dueDate(i % 3 == 0 ? today : loanDate.plusDays(7))
+                    .status(i % 4 == 3 ? LoanStatus.RETURNED : LoanStatus.ACTIVE)
+                    .build());
+        }
+        loanRepository.saveAll(loans);
+    }
+
+    @Test
+    void activeLoansByMember() throws Exception {
+        assertSingleStatement("/api/loans/member/" + member.getId() + "/active");
+    }
+
+    @Test
+    void loanHistoryByMember() throws Exception {
+        assertSingleStatement("/api/loans/member/" + member.getId() + "/history");
+    }
+
+    @Test
+    void loanHistoryByBook() throws Exception {
+        assertSingleStatement("/api/loans/book/" + book.getId() + "/history");
+    }
+
+    @Test
+    void overdueLoans() throws Exception {
+        assertSingleStatement("/api/loans/overdue");
+    }
+
+    @Test
+    void todayDueLoans() throws Exception {
+        assertSingleStatement("/api/loans/due-today");
+    }
+
+    @Test
+    void loansByStatus() throws Exception {
+        assertSingleStatement("/api/loans/status/ACTIVE");
+    }
+
+    @Test
+    void loansByDateRange() throws Exception {
+        LocalDate today = LocalDate.now();
+        assertSingleStatement("/api/loans/date-range?startDate=" + today.minusDays(30) + "&endDate=" + today);
+    }
+
+    @Test
+    void overdueFieldsComputedInQuery() throws Exception {
+        String body = mockMvc.perform(get("/api/loans"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        LocalDate today = LocalDate.now();
+        int overdueRows = 0;
+        for (JsonNode loan : objectMapper.readTree(body)) {
+            LocalDate dueDate = LocalDate.parse(loan.get("dueDate").asText());
+            LocalDate checkDate = loan.get("returnDate").isNull() ? today : LocalDate.parse(loan.get("returnDate").asText());
+            long expectedDays = Math.max(0, ChronoUnit.DAYS.between(dueDate, checkDate));
+            assertThat(loan.get("overdueDays").asLong()).as("overdueDays of loan %s", loan.get("id")).isEqualTo(expectedDays);
+            assertThat(loan.get("overdue").asBoolean()).as("overdue of loan %s", loan.get("id")).isEqualTo(expectedDays > 0);
+            if (expectedDays > 0) {
+                overdueRows++;
+            }
+        }
+        assertThat(overdueRows).isGreaterThan(0);
+    }
+
+    private void assertSingleStatement(String url) throws Exception {
+        SqlStatementCounter.reset();
+        mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(greaterThan(1)));
+        assertThat(SqlStatementCounter.count())
+                .as("SQL statements for GET %s", url)
+                .isEqualTo(1);
+    }
+}
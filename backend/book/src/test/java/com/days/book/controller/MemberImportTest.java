@@ -0,0 +1,102 @@
+package com.days.book.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.days.book.entity.Member;
+import com.days.book.repository.MemberRepository;
+
+/**
+ * 회원 일괄 등록 (CSV / NDJSON, 청크 커밋, 행별 오류 보고) 검증
+ */
+@SpringBootTest(properties = "member.import.chunk-size=3")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(roles = "ADMIN")
+class MemberImportTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Test
+    void csvImportReportsRowErrorsAndCommitsValidRows() throws Exception {
+        memberRepository.save(Member.builder()
+                .memberNumber("MIMP00001")
+                .name("기존 회원")
+                .email("existing@school.kr")
+                .build());
+        // 등록 전 조회로 "없음" 결과를 쿼리 캐시에 올려둠 (JDBC INSERT 후 무효화되어야 함)
+        assertThat(memberRepository.findByEmail("csv2@school.kr")).isEmpty();
+
+        String csv = "\uFEFFname,email,phone,address,maxLoanCount\n"
+                + "학생1,csv1@school.kr,010-1111-1111,\"서울시, 강남구\",3\n"
+                + "학생2,csv2@school.kr,,,\n"
+                + ",noname@school.kr,,,\n"
+                + "학생4,existing@school.kr,,,\n"
+                + "학생5,csv1@school.kr,,,\n"
+                + "학생6,not-an-email,,,\n"
+                + "학생7,csv7@school.kr,,,0\n"
+                + "학생8,csv8@school.kr,,,\n";
+
+        mockMvc.perform(post("/api/members/import")
+                        .contentType("text/csv")
+                        .content(csv.getBytes(StandardCharsets.UTF_8)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalRows").value(8))
+                .andExpect(jsonPath("$.imported").value(3))
+                .andExpect(jsonPath("$.failed").value(5))
+                .andExpect(jsonPath("$.errors[0].line").value(4))
+                .andExpect(jsonPath("$.errors[1].line").value(5))
+                .andExpect(jsonPath("$.errors[1].email").value("existing@school.kr"))
+                .andExpect(jsonPath("$.errors[2].line").value(6))
+                .andExpect(jsonPath("$.errors[3].line").value(7))
+                .andExpect(jsonPath("$.errors[4].line").value(8));
+
+        Member imported = memberRepository.findByEmail("csv1@school.kr").orElseThrow();
+        assertThat(imported.getAddress()).isEqualTo("서울시, 강남구");
+        assertThat(imported.getMaxLoanCount()).isEqualTo(3);
+        assertThat(imported.getMemberNumber()).startsWith("M");
+        assertThat(memberRepository.findByEmail("csv2@school.kr")).isPresent();
+        assertThat(memberRepository.findByEmail("csv8@school.kr").orElseThrow().getMaxLoanCount()).isEqualTo(5);
+    }
+
+    @Test
+    void ndjsonImport() throws Exception {
+        String ndjson = "{\"name\":\"학생A\",\"email\":\"nd1@school.kr\",\"maxLoanCount\":7}\n"
+                + "{\"name\":\"학생B\",\"email\":\"nd2@school.kr\",\"unknown\":true}\n"
+                + "not json\n";
+
+        mockMvc.perform(post("/api/members/import")
+                        .contentType("application/x-ndjson")
+                        .content(ndjson.getBytes(StandardCharsets.UTF_8)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.errors[0].line").value(3));
+
+        assertThat(memberRepository.findByEmail("nd1@school.kr").orElseThrow().getMaxLoanCount()).isEqualTo(7);
+    }
+
+    @Test
+    void csvWithoutRequiredHeaderIsRejected() throws Exception {
+        mockMvc.perform(post("/api/members/import")
+                        .param("format", "csv")
+                        .content("이름,메일\n홍길동,hong@school.kr\n".getBytes(StandardCharsets.UTF_8)))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,172 @@
+package com.days.book.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import com.days.book.entity.Role;
+import com.days.book.entity.User;
+import com.days.book.repository.UserRepository;
+
+/**
+ * 비밀번호 해시 전용 스레드 풀 (로그인 시 재해시, 대기열 초과 시 503) 검증
+ */
+@SpringBootTest(properties = {
+        "security.password.bcrypt-strength=5",
+        "security.password.hash-threads=1",
+        "security.password.hash-queue-capacity=1",
+        "security.password.hash-timeout-ms=2000"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class PasswordHashLoginTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    @Qualifier("passwordHashExecutor")
+    private ThreadPoolTaskExecutor passwordHashExecutor;
+
+    @Test
+    void legacyHashIsUpgradedOnLogin() throws Exception {
+        // 접두사 없는 이전 비용 인자 해시
+        saveUser("legacyhash", new BCryptPasswordEncoder(4).encode("secret123"));
+
+        login("legacyhash", "wrong-password").andExpect(status().isBadRequest());
+        assertThat(userRepository.findByUsername("legacyhash").orElseThrow().getPassword()).startsWith("$2a$04$");
+
+        login("legacyhash", "secret123")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.token").isNotEmpty());
+        String upgraded = userRepository.findByUsername("legacyhash").orElseThrow().getPassword();
+        assertThat(upgraded).startsWith("{bcrypt}$2a$05$");
+
+        // 갱신된 해시로 다시 로그인
+        login("legacyhash", "secret123").andExpect(status().isOk());
+        assertThat(userRepository.findByUsername("legacyhash").orElseThrow().getPassword()).isEqualTo(upgraded);
+    }
+
+    @Test
+    void registerStoresCurrentHashAndRejectsDuplicate() throws Exception {
+        register("newhash", "newhash@school.kr").andExpect(status().isOk());
+        User user = userRepository.findByUsername("newhash").orElseThrow();
+        assertThat(user.getPassword()).startsWith("{bcrypt}$2a$05$");
+        assertThat(user.getMemberNumber()).isNotBlank();
+
+        // 인증된 계정과 같은 이메일은 해시 계산 전에 거절
+        user.setEmailVerified(true);
+        userRepository.save(user);
+        register("otherhash", "newhash@school.kr")
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("이미 존재하는 이메일입니다."));
+        assertThat(userRepository.findByUsername("otherhash")).isEmpty();
+    }
+
+    @Test
+    void legacyHashIsKeptForUnverifiedAccount() throws Exception {
+        String legacy = new BCryptPasswordEncoder(4).encode("secret123");
+        saveUser("unverifiedhash", legacy, false);
+
+        // 이메일 인증 전에는 로그인이 거절되므로 해시도 갱신하지 않음
+        login("unverifiedhash", "secret123").andExpect(status().isBadRequest());
+        assertThat(userRepository.findByUsername("unverifiedhash").orElseThrow().getPassword()).isEqualTo(legacy);
+    }
+
+    @Test
+    void rehashDoesNotOverwriteChangedPassword() {
+        String legacy = new BCryptPasswordEncoder(4).encode("secret123");
+        Long id = saveUser("changedhash", legacy, true);
+        String changed = "{bcrypt}" + new BCryptPasswordEncoder(5).encode("changed123");
+        User user = userRepository.findById(id).orElseThrow();
+        user.setPassword(changed);
+        userRepository.save(user);
+
+        // 로그인 시 읽은 해시(legacy)가 이미 바뀌었으면 갱신하지 않음
+        assertThat(userRepository.updatePasswordIfUnchanged(id, legacy, "{bcrypt}rehashed")).isZero();
+        assertThat(userRepository.findById(id).orElseThrow().getPassword()).isEqualTo(changed);
+
+        assertThat(userRepository.updatePasswordIfUnchanged(id, changed, "{bcrypt}rehashed")).isEqualTo(1);
+        assertThat(userRepository.findById(id).orElseThrow().getPassword()).isEqualTo("{bcrypt}rehashed");
+    }
+
+    @Test
+    void loginIsShedWhenHashQueueIsFull() throws Exception {
+        saveUser("busyhash", "{bcrypt}" + new BCryptPasswordEncoder(5).encode("secret123"));
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            // 스레드 1개와 대기열 1칸을 모두 채움 (첫 작업이 스레드를 잡은 뒤에 대기열을 채워야 두 번째 작업이 거절되지 않음)
+            passwordHashExecutor.execute(() -> {
+                started.countDown();
+                await(release);
+            });
+            await(started);
+            passwordHashExecutor.execute(() -> await(release));
+
+            login("busyhash", "secret123")
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string("Retry-After", "1"));
+        } finally {
+            release.countDown();
+        }
+        login("busyhash", "secret123").andExpect(status().isOk());
+    }
+
+    private void saveUser(String username, String encodedPassword) {
+        saveUser(username, encodedPassword, true);
+    }
+
+    private Long saveUser(String username, String encodedPassword, boolean emailVerified) {
+        return userRepository.save(User.builder()
+                .username(username)
+                .password(encodedPassword)
+                .email(username + "@school.kr")
+                .name("해시 테스트")
+                .memberNumber("MH" + username)
+                .role(Role.USER)
+                .emailVerified(emailVerified)
+                .build()).getId();
+    }
+
+    private ResultActions register(String username, String email) throws Exception {
+        return mockMvc.perform(post("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"username\":\"" + username + "\",\"password\":\"secret123\",\"email\":\"" + email
+                        + "\",\"name\":\"가입 테스트\"}"));
+    }
+
+    private ResultActions login(String username, String password) throws Exception {
+        return mockMvc.perform(post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"username\":\"" + username + "\",\"password\":\"" + password + "\"}"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.days.book.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.days.book.entity.MailOutbox;
+import com.days.book.entity.MailOutbox.MailStatus;
+import com.days.book.entity.Role;
+import com.days.book.entity.User;
+import com.days.book.entity.VerificationCode;
+import com.days.book.entity.VerificationCode.VerificationType;
+import com.days.book.repository.MailOutboxRepository;
+import com.days.book.repository.UserRepository;
+import com.days.book.repository.VerificationCodeRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 만료 인증코드 / 오래된 미인증 계정 / 처리 끝난 메일 outbox 정리 배치 (청크 삭제, 보관 기간, 캐시 무효화, 삭제 건수 지표) 검증
+ */
+@SpringBootTest(properties = {
+    "auth.purge.cron=-",
+    "auth.purge.batch-size=2",
+    "auth.purge.code-retention-hours=24",
+    "auth.purge.unverified-user-days=7",
+    "auth.purge.mail-retention-days=7"
+})
+@ActiveProfiles("test")
+class AuthDataPurgeJobTest {
+
+    @Autowired
+    private AuthDataPurgeJob authDataPurgeJob;
+
+    @Autowired
+    private VerificationCodeRepository verificationCodeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MailOutboxRepository mailOutboxRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void purgesExpiredCodesAndStaleUnverifiedUsers() {
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 3; i++) {
+            saveCode("purge-old" + i + "@school.kr", now.minusDays(2));
+        }
+        Long recentlyExpired = saveCode("purge-recent@school.kr", now.minusHours(1));
+        Long valid = saveCode("purge-valid@school.kr", now.plusMinutes(5));
+
+        Long stale = saveUser("purgestale", false, now.minusDays(10));
+        Long staleVerified = saveUser("purgeverified", true, now.minusDays(10));
+        Long recentUnverified = saveUser("purgerecent", false, now.minusDays(1));
+        // 삭제 전 조회로 쿼리 캐시/2차 캐시에 올려둠 (삭제 후 무효화되어야 함)
+        assertThat(userRepository.findByUsername("purgestale")).isPresent();
+
+        double codesBefore = deletedCount("verification_codes");
+        double usersBefore = deletedCount("users");
+
+        AuthDataPurgeJob.PurgeResult result = authDataPurgeJob.run();
+
+        assertThat(result.verificationCodes()).isEqualTo(3);
+        assertThat(result.unverifiedUsers()).isEqualTo(1);
+        assertThat(verificationCodeRepository.findAll())
+                .extracting(VerificationCode::getId)
+                .containsExactlyInAnyOrder(recentlyExpired, valid);
+
+        assertThat(userRepository.findByUsername("purgestale")).isEmpty();
+        assertThat(userRepository.findById(stale)).isEmpty();
+        assertThat(userRepository.findById(staleVerified)).isPresent();
+        assertThat(userRepository.findById(recentUnverified)).isPresent();
+
+        assertThat(deletedCount("verification_codes") - codesBefore).isEqualTo(3);
+        assertThat(deletedCount("users") - usersBefore).isEqualTo(1);
+    }
+
+    @Test
+    void purgesSentAndDeadMailsAfterRetention() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> oldSent = List.of(
+                saveMail(MailStatus.SENT, now.minusDays(10)),
+                saveMail(MailStatus.SENT, now.minusDays(9)),
+                saveMail(MailStatus.SENT, now.minusDays(8)));
+        Long oldDead = saveMail(MailStatus.FAILED, now.minusDays(10));
+        Long recentSent = saveMail(MailStatus.SENT, now.minusDays(1));
+        Long recentDead = saveMail(MailStatus.FAILED, now.minusDays(1));
+        // 재시도 대기 중인 메일은 오래되어도 삭제하지 않음
+        Long oldPending = saveMail(MailStatus.PENDING, now.minusDays(10));
+
+        double mailsBefore = deletedCount("mail_outbox");
+
+        AuthDataPurgeJob.PurgeResult result = authDataPurgeJob.run();
+
+        assertThat(result.mailOutbox()).isEqualTo(4);
+        assertThat(mailOutboxRepository.findAllById(oldSent)).isEmpty();
+        assertThat(mailOutboxRepository.findById(oldDead)).isEmpty();
+        assertThat(mailOutboxRepository.findById(recentSent)).isPresent();
+        assertThat(mailOutboxRepository.findById(recentDead)).isPresent();
+        assertThat(mailOutboxRepository.findById(oldPending)).isPresent();
+        assertThat(deletedCount("mail_outbox") - mailsBefore).isEqualTo(4);
+    }
+
+    private Long saveMail(MailStatus status, LocalDateTime processedAt) {
+        MailOutbox mail = mailOutboxRepository.save(MailOutbox.builder()
+                .recipient("purge-mail@school.kr")
+                .subject("인증코드")
+                .body(status == MailStatus.SENT ? "" : "인증코드: 123456")
+                .status(status)
+                // 발송기가 대기 메일을 가져가지 않도록 재시도 시각을 미래로 둠
+                .nextAttemptAt(LocalDateTime.now().plusDays(1))
+                .build());
+        // 생성/발송 시각은 저장 시 현재 시각 기준이므로 직접 변경
+        Timestamp at = Timestamp.valueOf(processedAt);
+        jdbcTemplate.update("UPDATE mail_outbox SET created_at = ?, sent_at = ? WHERE id = ?",
+                at, status == MailStatus.SENT ? at : null, mail.getId());
+        return mail.getId();
+    }
+
+    private Long saveCode(String email, LocalDateTime expiresAt) {
+        return verificationCodeRepository.save(VerificationCode.builder()
+                .email(email)
+                .code("123456")
+                .type(VerificationType.FIND_ID)
+                .expiresAt(expiresAt)
+                .build()).getId();
+    }
+
+    private Long saveUser(String username, boolean verified, LocalDateTime lastRegisteredAt) {
+        User user = userRepository.save(User.builder()
+                .username(username)
+                .password("{bcrypt}unused")
+                .email(username + "@school.kr")
+                .name("정리 테스트")
+                .role(Role.USER)
+                .emailVerified(verified)
+                .build());
+        // 가입 시각은 엔티티 저장 시 현재 시각으로 채워지므로 직접 변경
+        Timestamp at = Timestamp.valueOf(lastRegisteredAt);
+        jdbcTemplate.update("UPDATE users SET created_at = ?, updated_at = ? WHERE id = ?", at, at, user.getId());
+        return user.getId();
+    }
+
+    private double deletedCount(String table) {
+        return meterRegistry.get("library.purge.deleted").tag("table", table).counter().count();
+    }
+}
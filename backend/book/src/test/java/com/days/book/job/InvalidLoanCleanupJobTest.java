@@ -0,0 +1,151 @@
+package com.days.book.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.days.book.entity.Book;
+import com.days.book.entity.Loan;
+import com.days.book.entity.Loan.LoanStatus;
+import com.days.book.entity.Member;
+import com.days.book.repository.BookRepository;
+import com.days.book.repository.LoanRepository;
+import com.days.book.repository.MemberRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 잘못된 대출 기록 정리 작업 검증
+ * - 도서/회원이 없거나(null) 존재하지 않는 대출만 anti-join으로 찾아 청크 단위로 삭제하고 정상 대출은 유지
+ * - 실행기에 제출만 되고 아직 시작되지 않은 작업도 취소되어야 함
+ */
+@SpringBootTest(properties = "loan.invalid-cleanup.batch-size=2")
+@ActiveProfiles("test")
+class InvalidLoanCleanupJobTest {
+
+    @Autowired
+    private InvalidLoanCleanupJob invalidLoanCleanupJob;
+
+    @Autowired
+    private LoanRepository loanRepository;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void clearSecondLevelCache() {
+        // 캐시 프로바이더는 JVM 단위로 공유되고 테스트 컨텍스트마다 스키마를 새로 만들므로 이전 컨텍스트의 같은 id 엔티티가 남지 않게 비움
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+
+    @Test
+    void deletesOnlyInvalidLoansInChunks() {
+        Member member = memberRepository.save(Member.builder()
+                .memberNumber("CLEANUP001")
+                .name("정리 테스트")
+                .email("cleanup001@test.com")
+                .build());
+        Book book = bookRepository.save(Book.builder()
+                .title("정리 테스트 도서")
+                .author("테스트 저자")
+                .isbn("9990014000001")
+                .totalCopies(5)
+                .availableCopies(5)
+                .build());
+
+        List<Long> invalid = new ArrayList<>();
+        List<Long> valid = new ArrayList<>();
+        valid.add(saveLoan(book, member));
+        // 도서 삭제로 book_id가 null이 된 대출
+        invalid.add(saveLoan(null, member));
+        invalid.add(saveLoan(null, member));
+        valid.add(saveLoan(book, member));
+        invalid.add(saveLoan(book, null));
+        invalid.add(saveLoan(null, member));
+        invalid.add(saveDanglingLoan(member));
+        valid.add(saveLoan(book, member));
+
+        InvalidLoanCleanupJob.CleanupPreview preview = invalidLoanCleanupJob.preview(3);
+        assertThat(preview.invalidLoans()).isEqualTo(5);
+        assertThat(preview.sampleLoanIds()).containsExactlyElementsOf(invalid.subList(0, 3));
+        // 미리보기는 삭제하지 않음
+        assertThat(loanRepository.count()).isEqualTo(8);
+
+        assertThat(invalidLoanCleanupJob.run()).isEqualTo(5);
+
+        InvalidLoanCleanupJob.CleanupStatus status = invalidLoanCleanupJob.getStatus();
+        assertThat(status.running()).isFalse();
+        assertThat(status.cancelled()).isFalse();
+        assertThat(status.deleted()).isEqualTo(5);
+        assertThat(status.chunks()).isEqualTo(3);
+        assertThat(status.lastProcessedId()).isEqualTo(invalid.get(invalid.size() - 1));
+        assertThat(status.lastError()).isNull();
+
+        assertThat(loanRepository.countInvalidLoans()).isZero();
+        assertThat(loanRepository.findAll()).extracting(Loan::getId).containsExactlyInAnyOrderElementsOf(valid);
+
+        // 다시 실행해도 정상 대출은 삭제되지 않음
+        assertThat(invalidLoanCleanupJob.run()).isZero();
+        assertThat(loanRepository.count()).isEqualTo(3);
+    }
+
+    @Test
+    void cancelBeforeExecutionStartsIsNotLost() {
+        List<Runnable> submitted = new ArrayList<>();
+        // 취소가 반영되면 청크 조회 전에 끝나므로 저장소 없이 생성
+        InvalidLoanCleanupJob job = new InvalidLoanCleanupJob(null, null, submitted::add);
+
+        assertThat(job.start()).isTrue();
+        assertThat(job.cancel()).isTrue();
+
+        submitted.get(0).run();
+
+        InvalidLoanCleanupJob.CleanupStatus status = job.getStatus();
+        assertThat(status.running()).isFalse();
+        assertThat(status.cancelled()).isTrue();
+        assertThat(status.chunks()).isZero();
+        assertThat(job.cancel()).isFalse();
+    }
+
+    private Long saveLoan(Book book, Member member) {
+        return loanRepository.save(Loan.builder()
+                .book(book)
+                .member(member)
+                .loanDate(LocalDate.now().minusDays(3))
+                .dueDate(LocalDate.now().plusDays(11))
+                .status(LoanStatus.ACTIVE)
+                .build()).getId();
+    }
+
+    // 외래키 없이 운영되던 시기에 남은, 존재하지 않는 도서를 가리키는 대출 (H2에서 참조 무결성 검사를 잠시 끄고 저장)
+    private Long saveDanglingLoan(Member member) {
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE");
+        try {
+            jdbcTemplate.update("INSERT INTO loans (book_id, member_id, loan_date, due_date, status, overdue_fee) " +
+                    "VALUES (?, ?, ?, ?, 'ACTIVE', 0)",
+                    999_999L, member.getId(), LocalDate.now().minusDays(3), LocalDate.now().plusDays(11));
+        } finally {
+            jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY TRUE");
+        }
+        return jdbcTemplate.queryForObject("SELECT MAX(id) FROM loans", Long.class);
+    }
+}
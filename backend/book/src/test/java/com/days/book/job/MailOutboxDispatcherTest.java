@@ -0,0 +1,74 @@
+package com.days.book.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.days.book.entity.MailOutbox;
+import com.days.book.entity.MailOutbox.MailStatus;
+import com.days.book.repository.MailOutboxRepository;
+import com.days.book.service.EmailService;
+import com.icegreen.greenmail.configuration.GreenMailConfiguration;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+
+import jakarta.mail.internet.MimeMessage;
+
+/**
+ * 메일 발송 요청이 outbox를 거쳐 커밋 후 SMTP로 발송되고 발송 후 본문이 지워지는지 검증 (GreenMail 로컬 SMTP 사용)
+ */
+@SpringBootTest(properties = {
+    "spring.mail.host=localhost",
+    "spring.mail.port=3025",
+    "spring.mail.username=",
+    "spring.mail.password=",
+    "spring.mail.properties.mail.smtp.auth=false",
+    "spring.mail.properties.mail.smtp.starttls.enable=false"
+})
+@ActiveProfiles("test")
+class MailOutboxDispatcherTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP)
+            .withConfiguration(GreenMailConfiguration.aConfig().withDisabledAuthentication());
+
+    @Autowired
+    private EmailService emailService;
+
+    @Autowired
+    private MailOutboxRepository mailOutboxRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void queuedMailsAreSentAfterCommit() throws Exception {
+        transactionTemplate.executeWithoutResult(tx -> {
+            emailService.sendEmailVerification("first@test.com", "123456", "first");
+            emailService.sendUsernameVerificationEmail("second@test.com", "654321");
+            // 커밋 전에는 발송되지 않음
+            assertThat(greenMail.getReceivedMessages()).isEmpty();
+        });
+
+        assertThat(greenMail.waitForIncomingEmail(5000, 2)).isTrue();
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertThat(received).hasSize(2);
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (mailOutboxRepository.countByStatus(MailStatus.SENT) < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(mailOutboxRepository.countByStatus(MailStatus.SENT)).isEqualTo(2);
+        assertThat(mailOutboxRepository.countByStatus(MailStatus.PENDING)).isZero();
+        // 발송된 메일의 본문(인증코드)은 outbox에 남지 않음
+        assertThat(mailOutboxRepository.findAll())
+                .filteredOn(mail -> mail.getStatus() == MailStatus.SENT)
+                .extracting(MailOutbox::getBody)
+                .containsOnly("");
+    }
+}
@@ -0,0 +1,163 @@
+package com.days.book.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.days.book.dto.LoanBatchResult;
+import com.days.book.dto.LoanResponseDTO;
+import com.days.book.entity.Book;
+import com.days.book.entity.Loan;
+import com.days.book.entity.Loan.LoanStatus;
+import com.days.book.entity.Member;
+import com.days.book.repository.BookRepository;
+import com.days.book.repository.LoanRepository;
+import com.days.book.repository.MemberRepository;
+import com.days.book.service.LoanService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 연체 갱신 배치 (상태/연체료, 재실행 멱등성) 및 배치 이후 연체 대출이 대출 한도, 중복 대출, 연체 건수에 계속 반영되는지 검증
+ */
+@SpringBootTest(properties = {
+    "loan.overdue-sweep.cron=-",
+    "loan.overdue-sweep.batch-size=2"
+})
+@ActiveProfiles("test")
+class OverdueSweepJobTest {
+
+    @Autowired
+    private OverdueSweepJob overdueSweepJob;
+
+    @Autowired
+    private LoanService loanService;
+
+    @Autowired
+    private LoanRepository loanRepository;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void clearSecondLevelCache() {
+        // 캐시 프로바이더는 JVM 단위로 공유되고 테스트 컨텍스트마다 스키마를 새로 만들므로 이전 컨텍스트의 같은 id 엔티티가 남지 않게 비움
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+
+    @Test
+    void sweepMarksOverdueOnceAndKeepsLoansOpen() {
+        LocalDate today = LocalDate.now();
+        Member full = saveMember("SWEEP00001", 3);
+        Member other = saveMember("SWEEP00002", 5);
+        Book first = saveBook("9990006000001");
+        Book second = saveBook("9990006000002");
+        Book third = saveBook("9990006000003");
+        Book spare = saveBook("9990006000004");
+
+        Long lateFive = saveLoan(first, full, today.minusDays(5)).getId();
+        Long lateThree = saveLoan(second, full, today.minusDays(3)).getId();
+        Long notDue = saveLoan(third, full, today.plusDays(5)).getId();
+        Long otherLate = saveLoan(first, other, today.minusDays(1)).getId();
+
+        long overdueBefore = loanService.getDashboardStats().getOverdueLoans();
+        assertThat(loanRepository.countOverdueLoansByMember(full, today)).isEqualTo(2);
+
+        int firstRun = overdueSweepJob.run();
+
+        assertThat(firstRun).isGreaterThanOrEqualTo(3);
+        assertLoan(lateFive, LoanStatus.OVERDUE, 500);
+        assertLoan(lateThree, LoanStatus.OVERDUE, 300);
+        assertLoan(notDue, LoanStatus.ACTIVE, 0);
+        assertLoan(otherLate, LoanStatus.OVERDUE, 100);
+
+        OverdueSweepJob.SweepStatus status = overdueSweepJob.getStatus();
+        assertThat(status.running()).isFalse();
+        assertThat(status.processed()).isEqualTo(firstRun);
+        assertThat(status.lastError()).isNull();
+
+        // 재실행 시 이미 OVERDUE 처리된 대출은 다시 갱신하지 않음
+        assertThat(overdueSweepJob.run()).isZero();
+        assertLoan(lateFive, LoanStatus.OVERDUE, 500);
+
+        // OVERDUE로 바뀐 미반납 대출도 연체 건수/목록에 그대로 집계
+        assertThat(loanService.getDashboardStats().getOverdueLoans()).isEqualTo(overdueBefore);
+        assertThat(loanRepository.countOverdueLoansByMember(full, today)).isEqualTo(2);
+        assertThat(loanService.getOverdueLoans())
+                .extracting(LoanResponseDTO::getId)
+                .contains(lateFive, lateThree, otherLate)
+                .doesNotContain(notDue);
+        assertThat(loanService.getActiveLoansByMember(full.getId()))
+                .extracting(LoanResponseDTO::getId)
+                .containsExactlyInAnyOrder(lateFive, lateThree, notDue);
+        assertThat(loanService.getCurrentLoanCountByMember(full.getId())).isEqualTo(3);
+
+        // 연체 중인 대출도 대출 한도에 포함
+        assertThatThrownBy(() -> loanService.createLoan(spare.getId(), full.getId()))
+                .hasMessageContaining("대출 한도를 초과했습니다");
+        assertThatThrownBy(() -> loanService.createLoans(full.getId(), List.of(spare.getId())))
+                .hasMessageContaining("대출 한도를 초과했습니다");
+
+        // 연체 중인 도서는 같은 회원이 다시 대출할 수 없음
+        assertThatThrownBy(() -> loanService.createLoan(first.getId(), other.getId()))
+                .hasMessageContaining("이미 대출 중인 도서입니다");
+        LoanBatchResult batch = loanService.createLoans(other.getId(), List.of(first.getId()));
+        assertThat(batch.getResults()).singleElement()
+                .satisfies(item -> {
+                    assertThat(item.isSuccess()).isFalse();
+                    assertThat(item.getMessage()).isEqualTo("이미 대출 중인 도서입니다.");
+                });
+    }
+
+    private void assertLoan(Long loanId, LoanStatus status, int overdueFee) {
+        Loan loan = loanRepository.findById(loanId).orElseThrow();
+        assertThat(loan.getStatus()).isEqualTo(status);
+        assertThat(loan.getOverdueFee()).isEqualTo(overdueFee);
+        assertThat(loan.getReturnDate()).isNull();
+    }
+
+    private Member saveMember(String memberNumber, int maxLoanCount) {
+        return memberRepository.save(Member.builder()
+                .memberNumber(memberNumber)
+                .name("연체 테스트")
+                .email(memberNumber.toLowerCase() + "@test.com")
+                .maxLoanCount(maxLoanCount)
+                .build());
+    }
+
+    private Book saveBook(String isbn) {
+        return bookRepository.save(Book.builder()
+                .title("연체 테스트 도서 " + isbn)
+                .author("테스트 저자")
+                .isbn(isbn)
+                .totalCopies(3)
+                .availableCopies(2)
+                .build());
+    }
+
+    private Loan saveLoan(Book book, Member member, LocalDate dueDate) {
+        return loanRepository.save(Loan.builder()
+                .book(book)
+                .member(member)
+                .loanDate(dueDate.minusDays(14))
+                .dueDate(dueDate)
+                .status(LoanStatus.ACTIVE)
+                .overdueFee(0)
+                .build());
+    }
+}
@@ -0,0 +1,102 @@
+package com.days.book.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.days.book.entity.Book;
+import com.days.book.entity.Loan;
+import com.days.book.entity.Member;
+import com.days.book.repository.BookRepository;
+import com.days.book.repository.MemberRepository;
+import com.days.book.service.LoanService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 대출/반납 지표가 커밋된 대출만 집계하는지 검증 (롤백된 대출은 제외)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class LoanMetricsTest {
+
+    @Autowired
+    private LoanService loanService;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void clearSecondLevelCache() {
+        // 캐시 프로바이더는 JVM 단위로 공유되고 테스트 컨텍스트마다 스키마를 새로 만들므로 이전 컨텍스트의 같은 id 엔티티가 남지 않게 비움
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+
+    @Test
+    void loanCountersAreRecordedOnlyAfterCommit() {
+        Long memberId = memberRepository.save(Member.builder()
+                .memberNumber("METRIC0001")
+                .name("지표 테스트")
+                .email("metric0001@test.com")
+                .build()).getId();
+        Long first = saveBook("9990009000001").getId();
+        Long second = saveBook("9990009000002").getId();
+        Long third = saveBook("9990009000003").getId();
+        double checkoutBefore = count("library.loans.checkout");
+        double returnedBefore = count("library.loans.returned");
+
+        // 롤백된 대출/반납은 집계하지 않음
+        transactionTemplate.executeWithoutResult(tx -> {
+            Loan loan = loanService.createLoan(first, memberId);
+            loanService.createLoans(memberId, List.of(second, third));
+            loanService.returnBook(loan.getId());
+            // 커밋 전에는 반영되지 않음
+            assertThat(count("library.loans.checkout")).isEqualTo(checkoutBefore);
+            tx.setRollbackOnly();
+        });
+        assertThat(count("library.loans.checkout")).isEqualTo(checkoutBefore);
+        assertThat(count("library.loans.returned")).isEqualTo(returnedBefore);
+
+        Loan loan = loanService.createLoan(first, memberId);
+        loanService.createLoans(memberId, List.of(second, third));
+        loanService.returnBook(loan.getId());
+
+        assertThat(count("library.loans.checkout") - checkoutBefore).isEqualTo(3);
+        assertThat(count("library.loans.returned") - returnedBefore).isEqualTo(1);
+    }
+
+    private Book saveBook(String isbn) {
+        return bookRepository.save(Book.builder()
+                .title("지표 테스트 도서 " + isbn)
+                .author("테스트 저자")
+                .isbn(isbn)
+                .totalCopies(2)
+                .availableCopies(2)
+                .build());
+    }
+
+    private double count(String name) {
+        return meterRegistry.get(name).counter().count();
+    }
+}
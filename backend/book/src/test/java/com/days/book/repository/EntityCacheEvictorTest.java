@@ -0,0 +1,124 @@
+package com.days.book.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.days.book.entity.Book;
+import com.days.book.entity.Loan;
+import com.days.book.entity.Member;
+import com.days.book.entity.Member.MemberStatus;
+import com.days.book.service.BookService;
+import com.days.book.service.LoanService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * JDBC 직접 갱신 후 2차 캐시/쿼리 캐시 무효화 검증
+ * 재고 UPDATE, 회원 일괄 INSERT는 Hibernate를 거치지 않으므로 무효화가 빠지면 이전 값이 그대로 조회됨
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class EntityCacheEvictorTest {
+
+    @Autowired
+    private LoanService loanService;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void clearSecondLevelCache() {
+        // 캐시 프로바이더는 JVM 단위로 공유되고 테스트 컨텍스트마다 스키마를 새로 만들므로 이전 컨텍스트의 같은 id 엔티티가 남지 않게 비움
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+
+    @Test
+    void cachedBookReflectsJdbcStockUpdates() {
+        Book book = bookRepository.save(Book.builder()
+                .title("캐시 테스트 도서")
+                .author("테스트 저자")
+                .isbn("9990017000001")
+                .totalCopies(5)
+                .availableCopies(5)
+                .build());
+        Long memberId = saveMember("CACHE00001").getId();
+
+        assertThat(bookService.getBook(book.getId()).getAvailableCopies()).isEqualTo(5);
+        assertThat(isCached(book)).isTrue();
+
+        // 단건 대출 (조건부 UPDATE로 재고 감소)
+        Loan loan = loanService.createLoan(book.getId(), memberId);
+        assertThat(bookService.getBook(book.getId()).getAvailableCopies()).isEqualTo(4);
+
+        // 단건 반납 (재고 증가)
+        loanService.returnBook(loan.getId());
+        assertThat(bookService.getBook(book.getId()).getAvailableCopies()).isEqualTo(5);
+
+        // 일괄 대출 (IN 조건 UPDATE로 재고 감소)
+        loanService.createLoans(saveMember("CACHE00002").getId(), List.of(book.getId()));
+        assertThat(isCached(book)).isFalse();
+        assertThat(bookService.getBook(book.getId()).getAvailableCopies()).isEqualTo(4);
+        assertThat(isCached(book)).isTrue();
+
+        // 롤백된 대출 - 트랜잭션 도중 캐시에 다시 올라간 감소 값도 종료 시점에 제거
+        transactionTemplate.executeWithoutResult(tx -> {
+            loanService.createLoan(book.getId(), memberId);
+            tx.setRollbackOnly();
+        });
+        assertThat(bookService.getBook(book.getId()).getAvailableCopies()).isEqualTo(4);
+    }
+
+    @Test
+    void cachedEmptyEmailLookupIsClearedAfterBatchInsert() {
+        String email = "cache-import@test.com";
+        assertThat(memberRepository.findByEmail(email)).isEmpty();
+        // 같은 조건의 "없음" 결과가 쿼리 캐시에 남아 있음
+        assertThat(memberRepository.findByEmail(email)).isEmpty();
+
+        memberRepository.insertMembers(List.of(Member.builder()
+                .memberNumber("CACHE00003")
+                .name("일괄 등록 회원")
+                .email(email)
+                .joinDate(LocalDate.now())
+                .status(MemberStatus.ACTIVE)
+                .maxLoanCount(5)
+                .build()));
+
+        assertThat(memberRepository.findByEmail(email))
+                .hasValueSatisfying(member -> assertThat(member.getMemberNumber()).isEqualTo("CACHE00003"));
+    }
+
+    private boolean isCached(Book book) {
+        return entityManagerFactory.getCache().contains(Book.class, book.getId());
+    }
+
+    private Member saveMember(String memberNumber) {
+        return memberRepository.save(Member.builder()
+                .memberNumber(memberNumber)
+                .name("캐시 테스트")
+                .email(memberNumber.toLowerCase() + "@test.com")
+                .build());
+    }
+}
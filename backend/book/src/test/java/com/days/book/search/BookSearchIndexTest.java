@@ -0,0 +1,176 @@
+package com.days.book.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.days.book.entity.Book;
+import com.days.book.search.BookSearchIndex.SearchField;
+import com.days.book.search.BookSearchIndex.SearchResult;
+
+/**
+ * 도서 검색 색인 테스트 - 한글 bigram 분해, 점수 순위, 마지막 검색어 접두어 확장, 커밋 후 증분 반영, 페이징
+ */
+class BookSearchIndexTest {
+
+    private BookSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        // 전체 재색인(rebuild)만 저장소를 사용하므로 증분 색인만으로 구성
+        index = new BookSearchIndex(null);
+    }
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void koreanWordsAreSplitIntoBigrams() {
+        assertThat(NGramTokenizer.tokenize("자바의 정석")).containsExactly("자바", "바의", "정석");
+        assertThat(NGramTokenizer.tokenize("Spring 부트 3.5")).containsExactly("spring", "부트", "3", "5");
+        assertThat(NGramTokenizer.tokenize("책")).containsExactly("책");
+
+        index.indexAfterCommit(book(1L, "자바의정석", "남궁성", "도우출판", "프로그래밍"));
+
+        // 붙여쓴 제목의 중간 부분과 조사가 붙은 검색어도 일치
+        assertThat(index.search("정석", SearchField.ALL, 0, 10).ids()).containsExactly(1L);
+        assertThat(index.search("자바의", SearchField.ALL, 0, 10).ids()).containsExactly(1L);
+        assertThat(index.search("파이썬", SearchField.ALL, 0, 10).ids()).isEmpty();
+    }
+
+    @Test
+    void titleMatchesRankAboveAuthorAndDescriptionMatches() {
+        index.indexAfterCommit(book(1L, "여행의 기술", "알랭 드 보통", "청미래", "에세이", "데이터베이스 이야기가 잠깐 나옴"));
+        index.indexAfterCommit(book(2L, "Real MySQL", "데이터베이스", "위키북스", "IT"));
+        index.indexAfterCommit(book(3L, "데이터베이스 개론", "김연희", "한빛아카데미", "IT"));
+
+        SearchResult result = index.search("데이터베이스", SearchField.ALL, 0, 10);
+
+        assertThat(result.total()).isEqualTo(3);
+        assertThat(result.ids()).containsExactly(3L, 2L, 1L);
+        assertThat(index.search("데이터베이스", SearchField.TITLE, 0, 10).ids()).containsExactly(3L);
+        assertThat(index.search("데이터베이스", SearchField.AUTHOR, 0, 10).ids()).containsExactly(2L);
+    }
+
+    @Test
+    void lastTermIsExpandedAsPrefixForTypeahead() {
+        index.indexAfterCommit(book(1L, "Spring Boot in Action", "Craig Walls", "Manning", "IT"));
+        index.indexAfterCommit(book(2L, "Spring Security", "Laurentiu Spilca", "Manning", "IT"));
+        index.indexAfterCommit(book(3L, "Effective Java", "Joshua Bloch", "Addison-Wesley", "IT"));
+
+        assertThat(index.search("spr", SearchField.ALL, 0, 10).ids()).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(index.search("spring bo", SearchField.ALL, 0, 10).ids()).containsExactly(1L);
+        // 접두어 확장은 마지막 검색어에만 적용
+        assertThat(index.search("spr boot", SearchField.ALL, 0, 10).ids()).isEmpty();
+
+        assertThat(index.suggest("effect", 5))
+                .extracting(BookSearchIndex.Suggestion::title)
+                .containsExactly("Effective Java");
+    }
+
+    @Test
+    void updatesAndDeletesAreAppliedOnlyAfterCommit() {
+        index.indexAfterCommit(book(1L, "클린 코드", "로버트 마틴", "인사이트", "IT"));
+
+        TransactionSynchronizationManager.initSynchronization();
+        index.indexAfterCommit(book(1L, "클린 아키텍처", "로버트 마틴", "인사이트", "IT"));
+        index.indexAfterCommit(book(2L, "리팩터링", "마틴 파울러", "한빛미디어", "IT"));
+
+        // 커밋 전에는 이전 색인 그대로
+        assertThat(index.search("코드", SearchField.ALL, 0, 10).ids()).containsExactly(1L);
+        assertThat(index.search("아키텍처", SearchField.ALL, 0, 10).ids()).isEmpty();
+        assertThat(index.size()).isEqualTo(1);
+
+        commit();
+
+        assertThat(index.search("코드", SearchField.ALL, 0, 10).ids()).isEmpty();
+        assertThat(index.search("아키텍처", SearchField.ALL, 0, 10).ids()).containsExactly(1L);
+        assertThat(index.search("마틴", SearchField.AUTHOR, 0, 10).ids()).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(index.size()).isEqualTo(2);
+
+        TransactionSynchronizationManager.initSynchronization();
+        index.removeAfterCommit(1L);
+        assertThat(index.search("아키텍처", SearchField.ALL, 0, 10).ids()).containsExactly(1L);
+
+        commit();
+
+        assertThat(index.search("아키텍처", SearchField.ALL, 0, 10).ids()).isEmpty();
+        assertThat(index.search("마틴", SearchField.ALL, 0, 10).ids()).containsExactly(2L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void rolledBackChangesAreNeverIndexed() {
+        TransactionSynchronizationManager.initSynchronization();
+        index.indexAllAfterCommit(List.of(
+                book(1L, "토비의 스프링", "이일민", "에이콘", "IT"),
+                book(2L, "스프링 인 액션", "크레이그 월즈", "제이펍", "IT")));
+
+        // 롤백 시에는 afterCommit이 호출되지 않음
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertThat(index.search("스프링", SearchField.ALL, 0, 10).total()).isZero();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void resultsArePagedInScoreOrderWithTotalCount() {
+        for (long id = 1; id <= 25; id++) {
+            index.indexAfterCommit(book(id, "알고리즘 문제 해결 " + id, "저자" + id, "출판사", "IT"));
+        }
+
+        SearchResult first = index.search("알고리즘", SearchField.ALL, 0, 10);
+        SearchResult second = index.search("알고리즘", SearchField.ALL, 10, 10);
+        SearchResult last = index.search("알고리즘", SearchField.ALL, 20, 10);
+        SearchResult beyond = index.search("알고리즘", SearchField.ALL, 30, 10);
+
+        assertThat(first.total()).isEqualTo(25);
+        assertThat(first.ids()).hasSize(10);
+        assertThat(second.ids()).hasSize(10);
+        assertThat(last.ids()).hasSize(5);
+        assertThat(beyond.ids()).isEmpty();
+        assertThat(beyond.total()).isEqualTo(25);
+
+        // 동점은 id 순으로 정렬되므로 페이지 간 중복/누락 없음
+        assertThat(first.ids()).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+        assertThat(second.ids()).doesNotContainAnyElementsOf(first.ids());
+        assertThat(last.ids()).containsExactly(21L, 22L, 23L, 24L, 25L);
+    }
+
+    private void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+    }
+
+    private static Book book(Long id, String title, String author, String publisher, String category) {
+        return book(id, title, author, publisher, category, null);
+    }
+
+    private static Book book(Long id, String title, String author, String publisher, String category,
+                             String description) {
+        return Book.builder()
+                .id(id)
+                .title(title)
+                .author(author)
+                .publisher(publisher)
+                .category(category)
+                .description(description)
+                .isbn("isbn-" + id)
+                .totalCopies(1)
+                .availableCopies(1)
+                .build();
+    }
+}
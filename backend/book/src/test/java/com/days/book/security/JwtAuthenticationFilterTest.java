@@ -0,0 +1,111 @@
+package com.days.book.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.days.book.entity.Role;
+import com.days.book.entity.User;
+import com.days.book.repository.UserRepository;
+import com.days.book.service.JwtService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * JWT 필터 권한 검증 - 권한은 토큰 클레임이 아니라 현재 사용자 정보 기준이며, 권한이 바뀐 뒤의 이전 토큰은 거부
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class JwtAuthenticationFilterTest {
+
+    @Autowired
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private JwtPrincipalCache principalCache;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void clearSecondLevelCache() {
+        // 캐시 프로바이더는 JVM 단위로 공유되고 테스트 컨텍스트마다 스키마를 새로 만들므로 이전 컨텍스트의 같은 id 엔티티가 남지 않게 비움
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        principalCache.evictAll();
+    }
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void demotedUserIsNotAuthenticatedWithOldRoleToken() throws Exception {
+        User user = saveUser("jwtdemoted", Role.ADMIN);
+        String adminToken = jwtService.generateToken(user);
+
+        assertThat(authorities(authenticate(adminToken))).containsExactly("ROLE_ADMIN");
+
+        user.setRole(Role.USER);
+        userRepository.save(user);
+        principalCache.evict(user.getUsername());
+
+        // 토큰 만료 전이라도 권한이 바뀌었으면 이전 권한으로 인증되지 않음
+        assertThat(authenticate(adminToken)).isNull();
+        assertThat(authorities(authenticate(jwtService.generateToken(user)))).containsExactly("ROLE_USER");
+    }
+
+    @Test
+    void authoritiesComeFromUserWhenTokenHasNoRoleClaim() throws Exception {
+        User user = saveUser("jwtnoclaim", Role.ADMIN);
+
+        Authentication authentication = authenticate(jwtService.generateToken(Map.of(), user));
+
+        assertThat(authentication.getName()).isEqualTo("jwtnoclaim");
+        assertThat(authorities(authentication)).containsExactly("ROLE_ADMIN");
+    }
+
+    private Authentication authenticate(String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/books");
+        request.addHeader("Authorization", "Bearer " + token);
+        jwtAuthenticationFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    private static List<String> authorities(Authentication authentication) {
+        return authentication.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList();
+    }
+
+    private User saveUser(String username, Role role) {
+        return userRepository.save(User.builder()
+                .username(username)
+                .password("{bcrypt}unused")
+                .email(username + "@school.kr")
+                .name("토큰 테스트")
+                .role(role)
+                .emailVerified(true)
+                .build());
+    }
+}
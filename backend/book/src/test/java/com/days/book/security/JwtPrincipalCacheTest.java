@@ -0,0 +1,106 @@
+package com.days.book.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.days.book.entity.Member;
+import com.days.book.entity.Role;
+import com.days.book.entity.User;
+import com.days.book.repository.UserRepository;
+import com.days.book.service.AuthService;
+import com.days.book.service.MemberService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * principal 캐시 무효화 시점 검증 - 사용자 변경/삭제 트랜잭션이 커밋된 뒤에만 캐시에서 제거되어야 함
+ * (커밋 전에 제거하면 다른 요청이 변경 전 사용자를 다시 읽어 TTL 동안 캐시함)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class JwtPrincipalCacheTest {
+
+    @Autowired
+    private JwtPrincipalCache principalCache;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void clearSecondLevelCache() {
+        // 캐시 프로바이더는 JVM 단위로 공유되고 테스트 컨텍스트마다 스키마를 새로 만들므로 이전 컨텍스트의 같은 id 엔티티가 남지 않게 비움
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        principalCache.evictAll();
+    }
+
+    @Test
+    void emailVerificationEvictsPrincipalAfterCommit() {
+        User user = userRepository.save(User.builder()
+                .username("cacheverify")
+                .password("{bcrypt}unused")
+                .email("cacheverify@school.kr")
+                .name("캐시 테스트")
+                .role(Role.USER)
+                .emailVerified(false)
+                .emailVerificationToken("verify-token")
+                .build());
+        UserDetails cached = principalCache.get(user.getUsername());
+
+        transactionTemplate.executeWithoutResult(tx -> {
+            authService.verifyEmail(user.getEmail(), "verify-token");
+            // 커밋 전에는 기존 캐시 항목 유지
+            assertThat(principalCache.get(user.getUsername())).isSameAs(cached);
+        });
+
+        UserDetails reloaded = principalCache.get(user.getUsername());
+        assertThat(reloaded).isNotSameAs(cached);
+        assertThat(((User) reloaded).getEmailVerified()).isTrue();
+    }
+
+    @Test
+    void deletedMemberAccountIsEvictedAfterCommit() {
+        User user = userRepository.save(User.builder()
+                .username("cachedelete")
+                .password("{bcrypt}unused")
+                .email("cachedelete@school.kr")
+                .name("캐시 삭제")
+                .role(Role.USER)
+                .emailVerified(true)
+                .build());
+        Member member = memberService.createMember(Member.builder()
+                .name("캐시 삭제")
+                .email(user.getEmail())
+                .build());
+        UserDetails cached = principalCache.get(user.getUsername());
+
+        transactionTemplate.executeWithoutResult(tx -> {
+            memberService.deleteMember(member.getId());
+            assertThat(principalCache.get(user.getUsername())).isSameAs(cached);
+        });
+
+        assertThatThrownBy(() -> principalCache.get(user.getUsername()))
+                .isInstanceOf(UsernameNotFoundException.class);
+    }
+}
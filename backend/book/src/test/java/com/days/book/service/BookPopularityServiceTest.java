@@ -0,0 +1,164 @@
+package com.days.book.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.assertj.core.groups.Tuple;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.days.book.dto.PopularBookDTO;
+import com.days.book.entity.Book;
+import com.days.book.entity.Loan;
+import com.days.book.entity.Loan.LoanStatus;
+import com.days.book.entity.Member;
+import com.days.book.repository.BookLoanStatRepository;
+import com.days.book.repository.BookRepository;
+import com.days.book.repository.LoanRepository;
+import com.days.book.repository.MemberRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 인기 도서 통계 검증 - 기존 대출 이관(backfill), 대출 시 누적/일자별 upsert, 7/30/365일 기간 순위, 일자별 통계 정리, 재계산
+ */
+@SpringBootTest(properties = {
+    "book.popularity.window-cache-ttl-seconds=0",
+    "book.popularity.daily-retention-days=200"
+})
+@ActiveProfiles("test")
+class BookPopularityServiceTest {
+
+    @Autowired
+    private BookPopularityService bookPopularityService;
+
+    @Autowired
+    private LoanService loanService;
+
+    @Autowired
+    private BookLoanStatRepository bookLoanStatRepository;
+
+    @Autowired
+    private LoanRepository loanRepository;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void clearSecondLevelCache() {
+        // 캐시 프로바이더는 JVM 단위로 공유되고 테스트 컨텍스트마다 스키마를 새로 만들므로 이전 컨텍스트의 같은 id 엔티티가 남지 않게 비움
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+
+    @Test
+    void rankingsFollowBackfillLiveLoansPruneAndRebuild() {
+        LocalDate today = LocalDate.now();
+        Member historian = saveMember("POPULAR001");
+        Book a = saveBook("9990015000001");
+        Book b = saveBook("9990015000002");
+        Book c = saveBook("9990015000003");
+        Book d = saveBook("9990015000004");
+
+        // 통계 도입 전 대출 기록 (통계 테이블을 거치지 않고 저장)
+        for (int i = 0; i < 3; i++) {
+            saveReturnedLoan(a, historian, today.minusDays(100));
+        }
+        saveReturnedLoan(b, historian, today.minusDays(10));
+        saveReturnedLoan(b, historian, today.minusDays(10));
+        saveReturnedLoan(c, historian, today.minusDays(2));
+        saveReturnedLoan(d, historian, today.minusDays(300));
+        assertThat(bookLoanStatRepository.count()).isZero();
+
+        // 통계가 비어 있으면 loans에서 재계산
+        bookPopularityService.backfillIfEmpty();
+
+        assertThat(ranking(null)).containsExactly(
+                tuple(a.getId(), 3L), tuple(b.getId(), 2L), tuple(d.getId(), 1L), tuple(c.getId(), 1L));
+        assertThat(ranking(7)).containsExactly(tuple(c.getId(), 1L));
+        assertThat(ranking(30)).containsExactly(tuple(b.getId(), 2L), tuple(c.getId(), 1L));
+        assertThat(ranking(365)).containsExactly(
+                tuple(a.getId(), 3L), tuple(b.getId(), 2L), tuple(d.getId(), 1L), tuple(c.getId(), 1L));
+        assertThat(bookPopularityService.getTopBooks(2, null))
+                .extracting(PopularBookDTO::getId)
+                .containsExactly(a.getId(), b.getId());
+
+        // 통계가 이미 있으면 다시 재계산하지 않음
+        saveReturnedLoan(b, historian, today.minusDays(1));
+        bookPopularityService.backfillIfEmpty();
+        assertThat(ranking(null)).contains(tuple(b.getId(), 2L));
+
+        // 단건/일괄 대출은 같은 트랜잭션에서 누적/일자별 통계를 upsert
+        loanService.createLoan(c.getId(), saveMember("POPULAR002").getId());
+        loanService.createLoans(saveMember("POPULAR003").getId(), List.of(c.getId(), d.getId()));
+
+        assertThat(ranking(null)).containsExactly(
+                tuple(c.getId(), 3L), tuple(a.getId(), 3L), tuple(d.getId(), 2L), tuple(b.getId(), 2L));
+        assertThat(ranking(7)).containsExactly(tuple(c.getId(), 3L), tuple(d.getId(), 1L));
+
+        // 보관 기간(200일)이 지난 일자별 통계만 삭제 - 누적 순위는 그대로
+        bookPopularityService.pruneDailyStats();
+
+        assertThat(ranking(365)).containsExactly(
+                tuple(c.getId(), 3L), tuple(a.getId(), 3L), tuple(b.getId(), 2L), tuple(d.getId(), 1L));
+        assertThat(ranking(null)).containsExactly(
+                tuple(c.getId(), 3L), tuple(a.getId(), 3L), tuple(d.getId(), 2L), tuple(b.getId(), 2L));
+
+        // 전체 재계산은 통계에 반영되지 않은 대출까지 loans 기준으로 다시 집계
+        assertThat(bookPopularityService.rebuild()).isEqualTo(4);
+
+        assertThat(ranking(null)).containsExactly(
+                tuple(c.getId(), 3L), tuple(b.getId(), 3L), tuple(a.getId(), 3L), tuple(d.getId(), 2L));
+        assertThat(ranking(7)).containsExactly(
+                tuple(c.getId(), 3L), tuple(d.getId(), 1L), tuple(b.getId(), 1L));
+        assertThat(ranking(365)).containsExactly(
+                tuple(c.getId(), 3L), tuple(b.getId(), 3L), tuple(a.getId(), 3L), tuple(d.getId(), 2L));
+    }
+
+    private List<Tuple> ranking(Integer days) {
+        return bookPopularityService.getTopBooks(10, days).stream()
+                .map(book -> tuple(book.getId(), book.getLoanCount()))
+                .toList();
+    }
+
+    private Member saveMember(String memberNumber) {
+        return memberRepository.save(Member.builder()
+                .memberNumber(memberNumber)
+                .name("인기 도서 테스트")
+                .email(memberNumber.toLowerCase() + "@test.com")
+                .build());
+    }
+
+    private Book saveBook(String isbn) {
+        return bookRepository.save(Book.builder()
+                .title("인기 도서 " + isbn)
+                .author("테스트 저자")
+                .isbn(isbn)
+                .totalCopies(5)
+                .availableCopies(5)
+                .build());
+    }
+
+    private void saveReturnedLoan(Book book, Member member, LocalDate loanDate) {
+        loanRepository.save(Loan.builder()
+                .book(book)
+                .member(member)
+                .loanDate(loanDate)
+                .dueDate(loanDate.plusDays(14))
+                .returnDate(loanDate.plusDays(1))
+                .status(LoanStatus.RETURNED)
+                .build());
+    }
+}
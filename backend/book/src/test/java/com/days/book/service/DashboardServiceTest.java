@@ -0,0 +1,113 @@
+package com.days.book.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.days.book.dto.LoanReturnBatchRequest;
+import com.days.book.entity.Book;
+import com.days.book.entity.Loan;
+import com.days.book.entity.Loan.LoanStatus;
+import com.days.book.entity.Member;
+import com.days.book.job.OverdueSweepJob;
+import com.days.book.repository.BookRepository;
+import com.days.book.repository.LoanRepository;
+import com.days.book.repository.MemberRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 대시보드 스냅샷이 TTL과 관계없이 대출/반납/연체 갱신 커밋 후 다시 집계되는지 검증
+ */
+@SpringBootTest(properties = {
+    "dashboard.stats.ttl-ms=3600000",
+    "loan.overdue-sweep.cron=-"
+})
+@ActiveProfiles("test")
+class DashboardServiceTest {
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private LoanService loanService;
+
+    @Autowired
+    private OverdueSweepJob overdueSweepJob;
+
+    @Autowired
+    private LoanRepository loanRepository;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void clearSecondLevelCache() {
+        // 캐시 프로바이더는 JVM 단위로 공유되고 테스트 컨텍스트마다 스키마를 새로 만들므로 이전 컨텍스트의 같은 id 엔티티가 남지 않게 비움
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+
+    @Test
+    void snapshotIsRefreshedAfterLoanChangesCommit() {
+        Member member = memberRepository.save(Member.builder()
+                .memberNumber("DASH000001")
+                .name("대시보드 테스트")
+                .email("dash000001@test.com")
+                .build());
+        Book book = bookRepository.save(Book.builder()
+                .title("대시보드 테스트 도서")
+                .author("테스트 저자")
+                .isbn("9990002000001")
+                .totalCopies(3)
+                .availableCopies(3)
+                .build());
+        Book lateBook = bookRepository.save(Book.builder()
+                .title("대시보드 연체 도서")
+                .author("테스트 저자")
+                .isbn("9990002000002")
+                .totalCopies(1)
+                .availableCopies(0)
+                .build());
+        dashboardService.invalidate();
+        long totalBefore = dashboardService.getSnapshot().stats().getTotalLoans();
+        long activeBefore = dashboardService.getSnapshot().stats().getActiveLoans();
+
+        // 대출
+        Loan loan = loanService.createLoan(book.getId(), member.getId());
+        DashboardService.DashboardSnapshot afterLoan = dashboardService.getSnapshot();
+        assertThat(afterLoan.stats().getTotalLoans()).isEqualTo(totalBefore + 1);
+        assertThat(afterLoan.stats().getActiveLoans()).isEqualTo(activeBefore + 1);
+        assertThat(afterLoan.recentLoans()).extracting("id").contains(loan.getId());
+
+        // 반납
+        loanService.returnBooks(List.of(new LoanReturnBatchRequest.Item(loan.getId(), null, null)));
+        assertThat(dashboardService.getSnapshot().stats().getActiveLoans()).isEqualTo(activeBefore);
+
+        // 연체 갱신 (스냅샷을 채운 뒤 대출을 직접 넣었으므로 스냅샷에는 아직 없음)
+        loanRepository.save(Loan.builder()
+                .book(lateBook)
+                .member(member)
+                .loanDate(LocalDate.now().minusDays(20))
+                .dueDate(LocalDate.now().minusDays(6))
+                .build());
+        long overdueStatusBefore = dashboardService.getSnapshot().stats().getOverdueStatusLoans();
+        overdueSweepJob.run();
+        assertThat(dashboardService.getSnapshot().stats().getOverdueStatusLoans()).isGreaterThan(overdueStatusBefore);
+        assertThat(loanRepository.countByStatus(LoanStatus.ACTIVE))
+                .isEqualTo(dashboardService.getSnapshot().stats().getActiveLoans());
+    }
+}
@@ -0,0 +1,151 @@
+package com.days.book.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.groups.Tuple.tuple;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.days.book.dto.LoanBatchResult;
+import com.days.book.entity.Book;
+import com.days.book.entity.Loan;
+import com.days.book.entity.Loan.LoanStatus;
+import com.days.book.entity.Member;
+import com.days.book.repository.BookRepository;
+import com.days.book.repository.LoanRepository;
+import com.days.book.repository.MemberRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 일괄 대출 검증 - 요청 전체 기준 대출 한도, 중복 요청, 이미 대출 중인 도서, 일부 재고 부족, 재고 일괄 감소
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class LoanBatchCreateTest {
+
+    private static final long MISSING_BOOK_ID = 999_999L;
+
+    @Autowired
+    private LoanService loanService;
+
+    @Autowired
+    private LoanRepository loanRepository;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void clearSecondLevelCache() {
+        // 캐시 프로바이더는 JVM 단위로 공유되고 테스트 컨텍스트마다 스키마를 새로 만들므로 이전 컨텍스트의 같은 id 엔티티가 남지 않게 비움
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+
+    @Test
+    void batchLoanReportsPerBookResultsAndDecrementsStock() {
+        Member member = memberRepository.save(Member.builder()
+                .memberNumber("BATCH00001")
+                .name("일괄 대출")
+                .email("batch00001@test.com")
+                .maxLoanCount(6)
+                .build());
+        Book borrowed = saveBook("9990012000001", 3);
+        Book twoCopies = saveBook("9990012000002", 2);
+        Book outOfStock = saveBook("9990012000003", 0);
+        Book lastCopy = saveBook("9990012000004", 1);
+        Book spare = saveBook("9990012000005", 4);
+
+        // 연체 배치로 OVERDUE가 된 미반납 대출도 대출 중으로 취급
+        loanRepository.save(Loan.builder()
+                .book(borrowed)
+                .member(member)
+                .loanDate(LocalDate.now().minusDays(20))
+                .dueDate(LocalDate.now().minusDays(6))
+                .status(LoanStatus.OVERDUE)
+                .build());
+
+        // 한도는 요청한 도서 수(중복 제외) 전체로 확인 - 대출 가능한 도서가 일부여도 전체 거부
+        assertThatThrownBy(() -> loanService.createLoans(member.getId(), List.of(
+                twoCopies.getId(), outOfStock.getId(), lastCopy.getId(), borrowed.getId(),
+                MISSING_BOOK_ID, spare.getId())))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("대출 한도를 초과했습니다");
+        assertThat(availableCopies(twoCopies)).isEqualTo(2);
+        assertThat(availableCopies(lastCopy)).isEqualTo(1);
+        assertThat(loanRepository.countOpenLoansByMember(member)).isEqualTo(1);
+
+        LoanBatchResult result = loanService.createLoans(member.getId(), List.of(
+                twoCopies.getId(), outOfStock.getId(), twoCopies.getId(), borrowed.getId(),
+                lastCopy.getId(), MISSING_BOOK_ID));
+
+        assertThat(result.getRequested()).isEqualTo(6);
+        assertThat(result.getSucceeded()).isEqualTo(2);
+        assertThat(result.getFailed()).isEqualTo(4);
+        assertThat(result.getResults())
+                .extracting(LoanBatchResult.Item::getBookId, LoanBatchResult.Item::isSuccess,
+                        LoanBatchResult.Item::getMessage)
+                .containsExactly(
+                        tuple(twoCopies.getId(), true, null),
+                        tuple(outOfStock.getId(), false, "대출 가능한 재고가 없습니다."),
+                        tuple(twoCopies.getId(), false, "중복 요청된 도서입니다."),
+                        tuple(borrowed.getId(), false, "이미 대출 중인 도서입니다."),
+                        tuple(lastCopy.getId(), true, null),
+                        tuple(MISSING_BOOK_ID, false, "도서를 찾을 수 없습니다. ID: " + MISSING_BOOK_ID));
+
+        // 성공 항목의 대출 ID는 실제 생성된 대출
+        for (LoanBatchResult.Item item : result.getResults()) {
+            if (item.isSuccess()) {
+                Loan loan = loanRepository.findById(item.getLoanId()).orElseThrow();
+                assertThat(loan.getBook().getId()).isEqualTo(item.getBookId());
+                assertThat(loan.getMember().getId()).isEqualTo(member.getId());
+                assertThat(loan.getStatus()).isEqualTo(LoanStatus.ACTIVE);
+                assertThat(loan.getDueDate()).isEqualTo(LocalDate.now().plusDays(14));
+            }
+        }
+
+        assertThat(availableCopies(twoCopies)).isEqualTo(1);
+        assertThat(availableCopies(lastCopy)).isZero();
+        assertThat(availableCopies(outOfStock)).isZero();
+        assertThat(availableCopies(borrowed)).isEqualTo(3);
+        assertThat(loanRepository.countOpenLoansByMember(member)).isEqualTo(3);
+
+        // 남은 한도(6 - 3)를 넘는 요청은 다시 전체 거부
+        assertThatThrownBy(() -> loanService.createLoans(member.getId(), List.of(
+                spare.getId(), outOfStock.getId(), lastCopy.getId(), MISSING_BOOK_ID)))
+                .hasMessageContaining("대출 한도를 초과했습니다");
+        assertThat(availableCopies(spare)).isEqualTo(4);
+    }
+
+    private Book saveBook(String isbn, int availableCopies) {
+        return bookRepository.save(Book.builder()
+                .title("일괄 대출 도서 " + isbn)
+                .author("테스트 저자")
+                .isbn(isbn)
+                .totalCopies(Math.max(availableCopies, 3))
+                .availableCopies(availableCopies)
+                .build());
+    }
+
+    // 재고는 JDBC UPDATE로 감소하므로 캐시를 거치지 않고 저장된 값을 직접 확인
+    private int availableCopies(Book book) {
+        return jdbcTemplate.queryForObject("SELECT available_copies FROM books WHERE id = ?", Integer.class, book.getId());
+    }
+}
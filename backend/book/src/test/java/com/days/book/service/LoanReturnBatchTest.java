@@ -0,0 +1,126 @@
+package com.days.book.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.days.book.dto.LoanReturnBatchRequest;
+import com.days.book.dto.LoanReturnBatchResult;
+import com.days.book.entity.Book;
+import com.days.book.entity.Loan;
+import com.days.book.entity.Loan.LoanStatus;
+import com.days.book.entity.Member;
+import com.days.book.repository.BookRepository;
+import com.days.book.repository.LoanRepository;
+import com.days.book.repository.MemberRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 일괄 반납이 단건 반납과 같은 상태/연체료 규칙을 따르는지 검증 (연체 배치로 OVERDUE가 된 대출 포함)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class LoanReturnBatchTest {
+
+    @Autowired
+    private LoanService loanService;
+
+    @Autowired
+    private LoanRepository loanRepository;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void clearSecondLevelCache() {
+        // 캐시 프로바이더는 JVM 단위로 공유되고 테스트 컨텍스트마다 스키마를 새로 만들므로 이전 컨텍스트의 같은 id 엔티티가 남지 않게 비움
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+
+    @Test
+    void batchAndSingleReturnAgreeOnLateReturns() {
+        LocalDate today = LocalDate.now();
+        Member member = memberRepository.save(Member.builder()
+                .memberNumber("RETURN0001")
+                .name("반납 테스트")
+                .email("return0001@test.com")
+                .build());
+        Book book = bookRepository.save(Book.builder()
+                .title("반납 테스트 도서")
+                .author("테스트 저자")
+                .isbn("9990013000001")
+                .totalCopies(5)
+                .availableCopies(0)
+                .build());
+
+        Long lateActive = saveLoan(book, member, today.minusDays(3), LoanStatus.ACTIVE).getId();
+        Long sweptOverdue = saveLoan(book, member, today.minusDays(2), LoanStatus.OVERDUE).getId();
+        Long onTime = saveLoan(book, member, today.plusDays(4), LoanStatus.ACTIVE).getId();
+        Long singleSwept = saveLoan(book, member, today.minusDays(2), LoanStatus.OVERDUE).getId();
+
+        LoanReturnBatchResult result = loanService.returnBooks(List.of(
+                item(lateActive), item(sweptOverdue), item(onTime), item(lateActive)));
+
+        assertThat(result.getReturned()).isEqualTo(3);
+        assertThat(result.getResults())
+                .extracting(LoanReturnBatchResult.Item::isSuccess, LoanReturnBatchResult.Item::getStatus,
+                        LoanReturnBatchResult.Item::getOverdueFee)
+                .containsExactly(
+                        tuple(true, LoanStatus.OVERDUE, 300),
+                        tuple(true, LoanStatus.OVERDUE, 200),
+                        tuple(true, LoanStatus.RETURNED, 0),
+                        tuple(false, null, null));
+
+        assertReturned(lateActive, LoanStatus.OVERDUE, 300);
+        assertReturned(sweptOverdue, LoanStatus.OVERDUE, 200);
+        assertReturned(onTime, LoanStatus.RETURNED, 0);
+
+        // 단건 반납도 같은 규칙 (OVERDUE 상태로 늦게 반납 -> OVERDUE)
+        loanService.returnBook(singleSwept);
+        assertReturned(singleSwept, LoanStatus.OVERDUE, 200);
+        assertThat(bookRepository.findById(book.getId()).orElseThrow().getAvailableCopies()).isEqualTo(4);
+
+        // 이미 반납된 대출은 다시 반납되지 않음 (연체 반납 포함)
+        LoanReturnBatchResult again = loanService.returnBooks(List.of(item(sweptOverdue)));
+        assertThat(again.getReturned()).isZero();
+        assertThat(again.getResults().get(0).getMessage()).isEqualTo("이미 반납된 대출입니다.");
+        assertThat(bookRepository.findById(book.getId()).orElseThrow().getAvailableCopies()).isEqualTo(4);
+    }
+
+    private void assertReturned(Long loanId, LoanStatus status, int overdueFee) {
+        Loan loan = loanRepository.findById(loanId).orElseThrow();
+        assertThat(loan.getStatus()).isEqualTo(status);
+        assertThat(loan.getOverdueFee()).isEqualTo(overdueFee);
+        assertThat(loan.getReturnDate()).isEqualTo(LocalDate.now());
+    }
+
+    private static LoanReturnBatchRequest.Item item(Long loanId) {
+        return new LoanReturnBatchRequest.Item(loanId, null, null);
+    }
+
+    private Loan saveLoan(Book book, Member member, LocalDate dueDate, LoanStatus status) {
+        return loanRepository.save(Loan.builder()
+                .book(book)
+                .member(member)
+                .loanDate(dueDate.minusDays(14))
+                .dueDate(dueDate)
+                .status(status)
+                .build());
+    }
+}
@@ -0,0 +1,121 @@
+package com.days.book.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 회원번호 생성기가 동시 발급에도 중복 없이 블록 단위로만 DB를 갱신하고, 요청 풀이 모두 사용 중이어도 블록을 할당하는지 검증
+ */
+@SpringBootTest(properties = {
+    "member.number.block-size=50",
+    "spring.datasource.hikari.maximum-pool-size=2"
+})
+@ActiveProfiles("test")
+class MemberNumberGeneratorTest {
+
+    private static final int THREADS = 8;
+    private static final int PER_THREAD = 250;
+
+    @Autowired
+    private MemberNumberGenerator memberNumberGenerator;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void concurrentNumbersAreUniqueAndBlockAllocated() throws Exception {
+        memberNumberGenerator.next(); // 카운터 행 준비
+        long counterBefore = counter();
+
+        Set<String> numbers = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < PER_THREAD; i++) {
+                        numbers.add(memberNumberGenerator.next());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(numbers).hasSize(THREADS * PER_THREAD);
+        String prefix = "M" + LocalDate.now().toString().replace("-", "");
+        assertThat(numbers).allSatisfy(number -> assertThat(number).startsWith(prefix).hasSizeBetween(15, 20));
+        // 2000건 발급에 블록(50건) 할당은 최대 40번
+        assertThat(counter() - counterBefore).isLessThanOrEqualTo(THREADS * PER_THREAD + 50L);
+    }
+
+    @Test
+    void blockAllocationDoesNotWaitForRequestPool() throws Exception {
+        memberNumberGenerator.next(); // 카운터 행 준비
+        Set<String> numbers = ConcurrentHashMap.newKeySet();
+        CyclicBarrier allConnectionsHeld = new CyclicBarrier(2);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            // 요청 풀 커넥션 2개를 모두 트랜잭션으로 잡은 채 블록 경계를 여러 번 넘겨 발급
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 2; t++) {
+                futures.add(executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                    jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+                    await(allConnectionsHeld);
+                    for (int i = 0; i < 120; i++) {
+                        numbers.add(memberNumberGenerator.next());
+                    }
+                })));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(numbers).hasSize(240);
+    }
+
+    @Test
+    void formatPadsSequenceToSixDigits() {
+        LocalDate date = LocalDate.of(2025, 10, 16);
+        assertThat(memberNumberGenerator.format(date, 42)).isEqualTo("M20251016000042");
+        assertThat(memberNumberGenerator.format(date, 12345678)).isEqualTo("M2025101612345678");
+    }
+
+    private static void await(CyclicBarrier barrier) {
+        try {
+            barrier.await(10, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private long counter() {
+        return jdbcTemplate.queryForObject("SELECT next_value FROM member_number_sequence WHERE name = ?",
+                Long.class, MemberNumberGenerator.SEQUENCE_NAME);
+    }
+}
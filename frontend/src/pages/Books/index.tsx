@@ -60,6 +60,7 @@ const BookList: React.FC = () => {
   const [searchText, setSearchText] = useState('');
   const [isModalVisible, setIsModalVisible] = useState(false);
   const [editingBook, setEditingBook] = useState<Book | null>(null);
+  const [pagination, setPagination] = useState({ current: 1, pageSize: 10, total: 0 });
   const [form] = Form.useForm();
 
   // AuthContext가 없으면 렌더링하지 않음
@@ -73,12 +74,13 @@ const BookList: React.FC = () => {
     loadBooks();
   }, []);
 
-  const loadBooks = async () => {
+  // 서버에서 한 페이지씩 조회 (전체 목록을 한 번에 받지 않음)
+  const loadBooks = async (page: number = pagination.current, pageSize: number = pagination.pageSize) => {
     try {
       setLoading(true);
-      // 실제 API 호출
-      const response = await bookService.getAll();
-      setBooks(response.data);
+      const response = await bookService.getPage(page - 1, pageSize);
+      setBooks(response.data.content);
+      setPagination({ current: page, pageSize, total: response.data.totalElements });
       setLoading(false);
     } catch (error) {
       message.error(getErrorMessage(error));
@@ -89,7 +91,7 @@ const BookList: React.FC = () => {
   const handleSearch = async (value: string) => {
     setSearchText(value);
     if (!value.trim()) {
-      loadBooks();
+      loadBooks(1);
       return;
     }
 
@@ -154,7 +156,11 @@ const BookList: React.FC = () => {
         try {
           // 실제 API 호출
           await bookService.delete(book.id);
-          setBooks(books.filter(b => b.id !== book.id));
+          if (searchText.trim()) {
+            setBooks(books.filter(b => b.id !== book.id));
+          } else {
+            loadBooks();
+          }
           message.success('도서가 삭제되었습니다.');
         } catch (error) {
           console.error('Delete error:', error);
@@ -187,7 +193,11 @@ const BookList: React.FC = () => {
         // 추가
         const response = await bookService.create(values);
         const newBook = response.data;
-        setBooks([...books, newBook]);
+        if (searchText.trim()) {
+          setBooks([...books, newBook]);
+        } else {
+          loadBooks();
+        }
         message.success('도서가 추가되었습니다.');
       }
       
@@ -325,8 +335,15 @@ const BookList: React.FC = () => {
           rowKey="id"
           loading={loading}
           pagination={{
-            total: books.length,
-            pageSize: 10,
+            // 검색 결과는 클라이언트 페이지네이션, 전체 목록은 서버 페이지네이션
+            ...(searchText.trim()
+              ? { total: books.length }
+              : {
+                  current: pagination.current,
+                  pageSize: pagination.pageSize,
+                  total: pagination.total,
+                  onChange: (page: number, pageSize: number) => loadBooks(page, pageSize),
+                }),
             showSizeChanger: true,
             showQuickJumper: true,
             showTotal: (total, range) =>
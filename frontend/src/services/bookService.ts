@@ -14,6 +14,16 @@ interface Book {
   updatedAt: string;
 }
 
+// 페이지 단위 목록 응답
+interface PageResponse<T> {
+  content: T[];
+  page: number;
+  size: number;
+  totalElements: number;
+  totalPages: number;
+  hasNext: boolean;
+}
+
 interface BookCreateRequest {
   title: string;
   author: string;
@@ -48,9 +58,9 @@ export const bookService = {
   search: (query: string) => 
     apiClient.get<Book[]>(`/books/search?keyword=${encodeURIComponent(query)}`),
 
-  // 페이지네이션으로 도서 조회
-  getPage: (page: number = 0, size: number = 10) => 
-    apiClient.get<Book[]>(`/books?page=${page}&size=${size}`),
+  // 페이지네이션으로 도서 조회 (목록용 경량 필드만 포함)
+  getPage: (page: number = 0, size: number = 10, sort: string = 'id,asc') => 
+    apiClient.get<PageResponse<Book>>(`/books/page?page=${page}&size=${size}&sort=${encodeURIComponent(sort)}`),
 
   // 카테고리별 도서 조회
   getByCategory: (category: string) => 